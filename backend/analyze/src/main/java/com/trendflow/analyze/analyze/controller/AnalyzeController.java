@@ -6,15 +6,22 @@ import com.trendflow.analyze.analyze.dto.vo.Payload;
 import com.trendflow.analyze.analyze.service.AnalyzeService;
 import com.trendflow.analyze.global.config.SseEmitters;
 import com.trendflow.analyze.global.exception.NotFoundException;
+import com.trendflow.analyze.global.redis.ETagRepository;
+import com.trendflow.analyze.global.web.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -23,15 +30,31 @@ import java.util.List;
 public class AnalyzeController {
     private final AnalyzeService analyzeService;
     private final SseEmitters sseEmitters;
+    private final ConditionalGet conditionalGet;
+    private final ETagRepository eTagRepository;
+
+    @Value("${analyze.social.etag-expire:86400}")
+    private Integer socialETagExpire;
+    @Value("${analyze.cache-control.social-past:86400}")
+    private Long socialPastMaxAge;
 
     @GetMapping("/social")
     public ResponseEntity<List<FindSocialResponse>> findSocial(@RequestParam String keyword,
                                                     @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-                                                    @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate){
+                                                    @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+                                                    WebRequest webRequest){
 
         log.info("findSocial - Call");
 
         try {
+            // 어제 이전에 끝나는 기간은 결과가 바뀌지 않으므로 저장된 ETag 로 먼저 확인
+            boolean past = endDate.isBefore(LocalDate.now().minusDays(1));
+            String eTagKey = String.format("social_%s_%s_%s", keyword, startDate, endDate);
+            if (past) {
+                Optional<String> eTag = eTagRepository.findById(eTagKey);
+                if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) return null;
+            }
+
             List<FindSocialResponse> findSocialResponseList
                     = analyzeService.findSocial(FindSocialRequest.builder()
                                                 .keyword(keyword)
@@ -39,7 +62,10 @@ public class AnalyzeController {
                                                 .endDate(endDate)
                                                 .build());
 
-            return ResponseEntity.ok().body(findSocialResponseList);
+            String eTag = ConditionalGet.toETag(conditionalGet.hash(findSocialResponseList));
+            if (past) eTagRepository.saveETag(eTagKey, eTag, socialETagExpire);
+            return conditionalGet.ok(findSocialResponseList, eTag,
+                    past ? CacheControl.maxAge(socialPastMaxAge, TimeUnit.SECONDS).cachePublic() : CacheControl.noCache());
         } catch (NotFoundException e){
             log.error(e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -53,6 +79,7 @@ public class AnalyzeController {
     @GetMapping("/related")
     public ResponseEntity<List<FindRelationContentResponse>> findRelationContent(@RequestParam String keyword,
                                                                                  @RequestParam String code,
+                                                                                 @RequestParam(required = false) String cursor,
                                                                                  @RequestParam Integer page,
                                                                                  @RequestParam Integer perPage,
                                                                                  @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
@@ -64,6 +91,7 @@ public class AnalyzeController {
                     = analyzeService.findRelationContent(FindRelationContentRequest.builder()
                                                         .keyword(keyword)
                                                         .code(code)
+                                                        .cursor(cursor)
                                                         .page(page)
                                                         .perPage(perPage)
                                                         .startDate(startDate)
@@ -14,6 +14,7 @@ import java.time.LocalDate;
 public class FindRelationContentRequest {
     private String keyword;
     private String code;
+    private String cursor;
     private Integer page;
     private Integer perPage;
     private LocalDate startDate;
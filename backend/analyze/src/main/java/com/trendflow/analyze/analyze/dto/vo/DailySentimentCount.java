@@ -0,0 +1,20 @@
+package com.trendflow.analyze.analyze.dto.vo;
+
+import com.trendflow.analyze.analyze.entity.SentimentCount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 감성 색인에서 계산한 일자, 점수 별 소스 수
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailySentimentCount implements SentimentCount {
+    private Long score;
+    private Long count;
+    private LocalDate regDt;
+}
@@ -0,0 +1,100 @@
+package com.trendflow.analyze.analyze.index;
+
+import com.trendflow.analyze.analyze.dto.vo.DailySentimentCount;
+import com.trendflow.analyze.analyze.entity.SentimentCount;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// (날짜, 점수) 별 소스 id Roaring 비트맵
+// 키워드 서비스에서 받은 소스 비트맵과 AND 해서 일자별 긍정, 중립, 부정 수를 셈
+// 소스 id 는 부호 없는 32bit 범위만 저장 가능 (넘는 id 가 들어오면 covers() 가 false)
+public class SentimentIndex {
+    private static final DateTimeFormatter REG_DT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final TreeMap<Integer, Map<Long, MutableRoaringBitmap>> dayMap = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 이 날짜 (yyyyMMdd) 부터의 감성 점수를 모두 가지고 있음
+    private final int since;
+    private volatile boolean overflow = false;
+
+    public SentimentIndex(int since) {
+        this.since = since;
+    }
+
+    public boolean covers(int start) {
+        return !overflow && start >= since;
+    }
+
+    public void add(long sourceId, long score, int regDt) {
+        if (sourceId < 0 || sourceId > 0xFFFFFFFFL) {
+            overflow = true;
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            dayMap.computeIfAbsent(regDt, k -> new HashMap<>())
+                    .computeIfAbsent(score, k -> new MutableRoaringBitmap())
+                    .add((int) sourceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기간 내 일자, 점수 별로 sourceBitmap 에 속한 소스 수
+    public List<SentimentCount> count(ImmutableRoaringBitmap sourceBitmap, int start, int end) {
+        List<SentimentCount> sentimentCountList = new ArrayList<>();
+        if (sourceBitmap.isEmpty()) return sentimentCountList;
+
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Integer, Map<Long, MutableRoaringBitmap>> day : dayMap.subMap(start, true, end, true).entrySet()) {
+                LocalDate regDt = LocalDate.parse(String.valueOf(day.getKey()), REG_DT);
+                for (Map.Entry<Long, MutableRoaringBitmap> score : day.getValue().entrySet()) {
+                    long count = ImmutableRoaringBitmap.andCardinality(sourceBitmap, score.getValue());
+                    if (count == 0) continue;
+
+                    sentimentCountList.add(DailySentimentCount.builder()
+                            .score(score.getKey())
+                            .count(count)
+                            .regDt(regDt)
+                            .build());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sentimentCountList;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return dayMap.values().stream().mapToInt(Map::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void runOptimize() {
+        lock.writeLock().lock();
+        try {
+            for (Map<Long, MutableRoaringBitmap> scoreMap : dayMap.values()) {
+                for (MutableRoaringBitmap bitmap : scoreMap.values()) bitmap.runOptimize();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.trendflow.analyze.analyze.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// reg_dt 월 단위 RANGE 파티션 관리 (테이블 이름은 코드에 고정된 값만 사용)
+@Repository
+@RequiredArgsConstructor
+public class PartitionRepository {
+    public static final String MAX_PARTITION = "pmax";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 파티션 이름 -> VALUES LESS THAN 값 (파티션이 없으면 빈 맵)
+    public Map<String, String> findPartitionMap(String table) {
+        Map<String, String> partitionMap = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                rs -> {
+                    partitionMap.put(rs.getString(1), rs.getString(2));
+                }, table);
+        return partitionMap;
+    }
+
+    // 파티션 하나의 최대 reg_dt (비어 있으면 null), 파티션 하나만 읽음
+    public Integer findMaxRegDt(String table, String name) {
+        return jdbcTemplate.queryForObject(String.format("SELECT MAX(reg_dt) FROM `%s` PARTITION (%s)", table, name), Integer.class);
+    }
+
+    // 테이블의 최대 reg_dt (비어 있으면 null)
+    // 최근 파티션부터 하나씩 읽어서 데이터가 있는 첫 파티션에서 멈춤, 파티션이 없으면 테이블 전체
+    public Integer findMaxRegDt(String table) {
+        List<String> nameList = new ArrayList<>(findPartitionMap(table).keySet());
+        if (nameList.isEmpty())
+            return jdbcTemplate.queryForObject(String.format("SELECT MAX(reg_dt) FROM `%s`", table), Integer.class);
+
+        Collections.reverse(nameList);
+        for (String name : nameList) {
+            Integer maxRegDt = findMaxRegDt(table, name);
+            if (maxRegDt != null) return maxRegDt;
+        }
+        return null;
+    }
+
+    public void addPartition(String table, String name, Integer lessThan) {
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` REORGANIZE PARTITION %s INTO (" +
+                "PARTITION %s VALUES LESS THAN (%d), PARTITION %s VALUES LESS THAN MAXVALUE)",
+                table, MAX_PARTITION, name, lessThan, MAX_PARTITION));
+    }
+
+    public void dropPartition(String table, String name) {
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` DROP PARTITION %s", table, name));
+    }
+}
@@ -0,0 +1,35 @@
+package com.trendflow.analyze.analyze.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+@Repository
+@RequiredArgsConstructor
+public class SentimentSourceRepository {
+    private static final String FIND_ALL_SINCE =
+            "SELECT s.source_id, s.score, s.reg_dt FROM sentiment s " +
+                    "WHERE s.reg_dt >= ?";
+
+    public interface SentimentConsumer {
+        void accept(long sourceId, long score, int regDt);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 감성 색인 적재용 : 날짜 이후 (소스 id, 점수, 날짜) 전체를 한 행씩 넘김 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 스트리밍)
+    public void findAllSince(Integer since, SentimentConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_ALL_SINCE,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setInt(1, since);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getLong(1), rs.getLong(2), rs.getInt(3));
+        });
+    }
+}
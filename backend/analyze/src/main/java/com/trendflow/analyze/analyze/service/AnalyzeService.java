@@ -13,14 +13,17 @@ import com.trendflow.analyze.global.exception.NotFoundException;
 import com.trendflow.analyze.global.redis.*;
 import com.trendflow.analyze.msa.dto.vo.Keyword;
 import com.trendflow.analyze.msa.dto.vo.KeywordCount;
+import com.trendflow.analyze.msa.dto.vo.KeywordPage;
 import com.trendflow.analyze.msa.dto.vo.Source;
 import com.trendflow.analyze.msa.service.CommonService;
+import com.trendflow.analyze.msa.service.DuplicateSourceCache;
 import com.trendflow.analyze.msa.service.KeywordService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +32,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,13 +44,20 @@ public class AnalyzeService {
     private final SentimentRepository sentimentRepository;
     private final YoutubeSourceRepository youtubeSourceRepository;
     private final YoutubueAnalyzeRepository youtubueAnalyzeRepository;
+    private final PageCursorRepository pageCursorRepository;
 
     private final CommonService commonService;
     private final KeywordService keywordService;
+    private final DuplicateSourceCache duplicateSourceCache;
+    private final SentimentIndexService sentimentIndexService;
     private final KafkaService kafkaService;
     private final YoutubeService youtubeService;
 
-    @Transactional
+    // 감성 지수 조회 시 IN 절에 넣을 소스 id 수
+    @Value("${analyze.social.source-batch-size:1000}")
+    private Integer sourceBatchSize;
+
+    @Transactional(readOnly = true)
     public List<FindSocialResponse> findSocial(FindSocialRequest findSocialRequest) {
         String keyword = findSocialRequest.getKeyword();
         LocalDate startDate = findSocialRequest.getStartDate();
@@ -196,8 +208,16 @@ public class AnalyzeService {
                 findRelationContentResponseList = new ArrayList<>();
             }
         } else {
+            // 이전 페이지 응답 시 저장해 둔 커서가 있으면 키셋 조회
+            String cursorKey = String.format("%s_%s_%s_%d_%s_%s", Code.PAGE_CURSOR.getName(), keyword, code, perPage, startDate, endDate);
+            String cursor = findRelationContentRequest.getCursor();
+            if (cursor == null) cursor = pageCursorRepository.findById(String.format("%s_%d", cursorKey, page)).orElse(null);
+
             // 키워드 리스트 요청
-            List<Keyword> keywordList = keywordService.getKeywordPage(keyword, code, page, perPage, startDate, endDate);
+            KeywordPage keywordPage = keywordService.getKeywordPage(keyword, code, cursor, page, perPage, startDate, endDate);
+            List<Keyword> keywordList = keywordPage.getKeywordList();
+            if (keywordPage.getNextCursor() != null)
+                pageCursorRepository.saveResult(String.format("%s_%d", cursorKey, page + 1), keywordPage.getNextCursor(), 600);
             // 원본 데이터 요청
             List<Source> sourceList = commonService.getSource(keywordList.stream()
                     .map(Keyword::getSourceId)
@@ -377,7 +397,7 @@ public class AnalyzeService {
         return findCompareKeywordResponse;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<FindRelationKeywordResponse> findRelationKeyword(List<Long> keywordIdList) {
         List<Relation> relationList = relationRepository.findByKeywordIdList(keywordIdList, 8);
         return relationList.stream()
@@ -385,7 +405,7 @@ public class AnalyzeService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<FindWordCloudKeywordResponse> findWordCloudKeyword(List<Long> keywordIdList) {
         List<Relation> relationList = relationRepository.findByKeywordIdList(keywordIdList, 100);
         return relationList.stream()
@@ -400,18 +420,13 @@ public class AnalyzeService {
         Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
         Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
-        // 키워드와 일치하는 키워드 객체 응답
-        List<Keyword> keywordList = keywordService.getKeyword(keyword, startDate.minusDays(1), endDate);
-        // 키워드의 일자별, 소스별 긍정, 중립, 부정 지수
-        List<SentimentCount> sentimentList = sentimentRepository.findBySourceIdIn(
-                keywordList.stream()
-                    .map(Keyword::getSourceId)
-                    .collect(Collectors.toList()), start, end);
-
         // 맵 생성
         Map<LocalDate, MentionCountInfo> keywordCountMap = new HashMap<>();
+        // 주간 합계는 일별로 나누지 않고 그 주에서 조회 기간에 들어오는 첫날에 둠
+        LocalDate first = startDate.minusDays(1);
         for (KeywordCount keywordCount : keywordCountList) {
             LocalDate now = keywordCount.getRegDt();
+            if (Boolean.TRUE.equals(keywordCount.getWeekly()) && now.isBefore(first)) now = first;
             String platformCode = keywordCount.getPlatformCode();
             Long count = keywordCount.getCount();
 
@@ -426,18 +441,38 @@ public class AnalyzeService {
         }
 
         Map<LocalDate, GrapeQuotientInfo> sentimentCountMap = new HashMap<>();
-        for (SentimentCount sentimentCount : sentimentList) {
-            LocalDate now = sentimentCount.getRegDt();
-            Long score = sentimentCount.getScore();
-            Long count = sentimentCount.getCount();
-
-            if (!sentimentCountMap.containsKey(now))
-                sentimentCountMap.put(now, setGrapeQuotientInfo(GrapeQuotientInfo.builder()
-                        .positive(0D)
-                        .negative(0D)
-                        .neutral(0D)
-                        .build(), score, count));
-            else sentimentCountMap.put(now, setGrapeQuotientInfo(sentimentCountMap.get(now), score, count));
+        Consumer<List<SentimentCount>> addSentimentCount = sentimentCountList -> {
+            for (SentimentCount sentimentCount : sentimentCountList) {
+                LocalDate now = sentimentCount.getRegDt();
+                Long score = sentimentCount.getScore();
+                Long count = sentimentCount.getCount();
+
+                if (!sentimentCountMap.containsKey(now))
+                    sentimentCountMap.put(now, setGrapeQuotientInfo(GrapeQuotientInfo.builder()
+                            .positive(0D)
+                            .negative(0D)
+                            .neutral(0D)
+                            .build(), score, count));
+                else sentimentCountMap.put(now, setGrapeQuotientInfo(sentimentCountMap.get(now), score, count));
+            }
+        };
+
+        // 감성 색인이 기간을 가지고 있으면 소스 비트맵과 점수별 비트맵의 교집합으로 계산
+        // 아니면 (소스 비트맵을 만들 수 없거나 그 사이 색인이 바뀐 경우 포함) 키워드가 언급된 소스 id 묶음 단위로
+        // 일자별 긍정, 중립, 부정 지수를 조회해서 합산
+        // 두 경우 모두 재전송 기사 사본 (대표가 아닌 소스) 은 빼고 셈
+        Optional<List<SentimentCount>> indexed = Optional.empty();
+        if (sentimentIndexService.covers(start)) {
+            indexed = keywordService.getSourceBitmap(keyword, startDate.minusDays(1), endDate)
+                    .flatMap(sourceBitmap -> sentimentIndexService.count(duplicateSourceCache.exclude(sourceBitmap), start, end));
+        }
+        if (indexed.isPresent()) {
+            addSentimentCount.accept(indexed.get());
+        } else {
+            keywordService.forEachSourceId(keyword, startDate.minusDays(1), endDate, sourceBatchSize, sourceIdList -> {
+                List<Long> canonicalList = duplicateSourceCache.exclude(sourceIdList);
+                if (!canonicalList.isEmpty()) addSentimentCount.accept(sentimentRepository.findBySourceIdIn(canonicalList, start, end));
+            });
         }
 
         return SocialMap.builder()
@@ -524,9 +559,9 @@ public class AnalyzeService {
     }
 
     private GrapeQuotientInfo setGrapeQuotientInfo(GrapeQuotientInfo grapeQuotientInfo, Long score, Long count) {
-        if (score == 1L) grapeQuotientInfo.setPositive(count.doubleValue());
-        else if (score == 0L) grapeQuotientInfo.setNegative(count.doubleValue());
-        else grapeQuotientInfo.setNeutral(count.doubleValue());
+        if (score == 1L) grapeQuotientInfo.setPositive(grapeQuotientInfo.getPositive() + count);
+        else if (score == 0L) grapeQuotientInfo.setNegative(grapeQuotientInfo.getNegative() + count);
+        else grapeQuotientInfo.setNeutral(grapeQuotientInfo.getNeutral() + count);
 
         return grapeQuotientInfo;
     }
@@ -0,0 +1,112 @@
+package com.trendflow.analyze.analyze.service;
+
+import com.trendflow.analyze.analyze.repository.PartitionRepository;
+import com.trendflow.analyze.global.code.AnalyzeCacheCode;
+import com.trendflow.analyze.global.redis.CacheLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionService {
+    // db/migration/V2__analyze_partition.sql 로 파티션을 적용한 테이블
+    private static final List<String> TABLE_LIST = Arrays.asList("relation", "sentiment");
+
+    private final PartitionRepository partitionRepository;
+    private final CacheLockRepository cacheLockRepository;
+
+    @Value("${analyze.partition.ahead-months:3}")
+    private Integer aheadMonths;
+    // 0 이면 파티션을 삭제하지 않음 (명시적으로 설정한 경우만 삭제)
+    @Value("${analyze.partition.retention-months:0}")
+    private Integer retentionMonths;
+
+    // 락을 잡은 인스턴스 하나만 DDL 실행
+    @Scheduled(cron = "${analyze.partition.cron:0 10 4 * * *}")
+    public void maintain() {
+        String lockKey = AnalyzeCacheCode.PARTITION_LOCK.getCode();
+        Optional<String> token = cacheLockRepository.tryLock(lockKey, 600);
+        if (!token.isPresent()) return;
+
+        try {
+            for (String table : TABLE_LIST) {
+                try {
+                    Map<String, String> partitionMap = partitionRepository.findPartitionMap(table);
+                    if (partitionMap.isEmpty()) {
+                        log.warn("maintain - {} is not partitioned", table);
+                        continue;
+                    }
+                    addPartition(table, partitionMap);
+                    dropPartition(table, partitionMap);
+                } catch (DataAccessException e) {
+                    log.warn("maintain - {} : {}", table, e.getMessage());
+                }
+            }
+        } finally {
+            cacheLockRepository.unlock(lockKey, token.get());
+        }
+    }
+
+    // 마지막으로 나눈 월 파티션 다음 달부터 다음 몇 달 치까지 빠짐없이 순서대로 생성
+    // 마이그레이션은 p202312 까지만 만들므로 그 뒤 달을 건너뛰면 그 사이 데이터가 pmax 다음 파티션 하나에 몰림
+    private void addPartition(String table, Map<String, String> partitionMap) {
+        for (YearMonth month : findMissingMonth(partitionMap, YearMonth.now().plusMonths(aheadMonths))) {
+            String name = toPartitionName(month);
+            partitionRepository.addPartition(table, name, toLessThan(month));
+            log.info("maintain - add partition {}.{}", table, name);
+        }
+    }
+
+    // 마지막 월 파티션 (pmax 제외) 다음 달부터 until 까지, 월 파티션이 없으면 until 한 달만
+    static List<YearMonth> findMissingMonth(Map<String, String> partitionMap, YearMonth until) {
+        int last = 0;
+        for (Map.Entry<String, String> partition : partitionMap.entrySet()) {
+            if (PartitionRepository.MAX_PARTITION.equals(partition.getKey())) continue;
+            last = Math.max(last, Integer.parseInt(partition.getValue()));
+        }
+
+        List<YearMonth> monthList = new ArrayList<>();
+        YearMonth month = last == 0 ? until : YearMonth.of(last / 10000, last / 100 % 100);
+        for (; !month.isAfter(until); month = month.plusMonths(1)) monthList.add(month);
+        return monthList;
+    }
+
+    // 최근 데이터 기준 보관 기간이 지난 월 파티션 삭제
+    // 기준은 현재 시각이 아니라 데이터가 있는 가장 최근 달 (과거 데이터만 적재된 경우 전부 지우지 않도록)
+    private void dropPartition(String table, Map<String, String> partitionMap) {
+        if (retentionMonths <= 0) return;
+
+        Integer maxRegDt = partitionRepository.findMaxRegDt(table);
+        if (maxRegDt == null) return;
+
+        int cutoff = toLessThan(YearMonth.of(maxRegDt / 10000, maxRegDt / 100 % 100).minusMonths(retentionMonths));
+        for (Map.Entry<String, String> partition : partitionMap.entrySet()) {
+            if (PartitionRepository.MAX_PARTITION.equals(partition.getKey())) continue;
+            if (Integer.parseInt(partition.getValue()) > cutoff) continue;
+
+            partitionRepository.dropPartition(table, partition.getKey());
+            log.info("maintain - drop partition {}.{}", table, partition.getKey());
+        }
+    }
+
+    private static String toPartitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static int toLessThan(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        return next.getYear() * 10000 + next.getMonthValue() * 100 + 1;
+    }
+}
@@ -0,0 +1,94 @@
+package com.trendflow.analyze.analyze.service;
+
+import com.trendflow.analyze.analyze.entity.SentimentCount;
+import com.trendflow.analyze.analyze.index.SentimentIndex;
+import com.trendflow.analyze.analyze.repository.PartitionRepository;
+import com.trendflow.analyze.analyze.repository.SentimentSourceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+// 가장 최근 감성 데이터 날짜부터 analyze.sentiment-index.days 일의 (날짜, 점수) -> 소스 id 비트맵
+// 기준은 현재 시각이 아니라 데이터 날짜 (과거 데이터만 적재된 경우에도 색인에서 응답)
+// 감성 점수는 파이프라인이 DB 에 바로 쓰므로 주기적으로 최근 이틀 치를 다시 읽어서 반영
+// 범위가 색인 밖이거나 준비 전이면 empty 를 돌려주고 호출하는 쪽이 DB 로 조회
+@Slf4j
+@Service
+public class SentimentIndexService {
+    private final SentimentSourceRepository sentimentSourceRepository;
+    private final PartitionRepository partitionRepository;
+
+    @Value("${analyze.sentiment-index.days:90}")
+    private Integer days;
+
+    private volatile SentimentIndex sentimentIndex;
+    private volatile boolean building = false;
+
+    public SentimentIndexService(SentimentSourceRepository sentimentSourceRepository, PartitionRepository partitionRepository,
+                                 MeterRegistry meterRegistry) {
+        this.sentimentSourceRepository = sentimentSourceRepository;
+        this.partitionRepository = partitionRepository;
+
+        Gauge.builder("analyze.sentiment-index.size", this, service -> service.sentimentIndex == null ? 0 : service.sentimentIndex.size())
+                .register(meterRegistry);
+    }
+
+    public boolean covers(Integer start) {
+        SentimentIndex now = sentimentIndex;
+        return now != null && now.covers(start);
+    }
+
+    public Optional<List<SentimentCount>> count(ImmutableRoaringBitmap sourceBitmap, Integer start, Integer end) {
+        SentimentIndex now = sentimentIndex;
+        if (now == null || !now.covers(start)) return Optional.empty();
+        return Optional.of(now.count(sourceBitmap, start, end));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${analyze.sentiment-index.rebuild:86400000}")
+    public void rebuild() {
+        if (building) return;
+        building = true;
+        try {
+            Integer maxRegDt = partitionRepository.findMaxRegDt("sentiment");
+            LocalDate latest = maxRegDt == null ? LocalDate.now() : LocalDate.parse(String.valueOf(maxRegDt), DateTimeFormatter.BASIC_ISO_DATE);
+            int since = toRegDt(latest.minusDays(days));
+
+            SentimentIndex next = new SentimentIndex(since);
+            sentimentSourceRepository.findAllSince(since, next::add);
+            next.runOptimize();
+            sentimentIndex = next;
+            log.info("rebuild - sentiment index : {}", next.size());
+        } catch (DataAccessException e) {
+            log.error("rebuild - {}", e.getMessage());
+        } finally {
+            building = false;
+        }
+    }
+
+    // 중복 추가는 무시되므로 어제부터 다시 읽음
+    @Scheduled(initialDelayString = "${analyze.sentiment-index.refresh:300000}", fixedDelayString = "${analyze.sentiment-index.refresh:300000}")
+    public void refresh() {
+        SentimentIndex now = sentimentIndex;
+        if (now == null || building) return;
+
+        try {
+            sentimentSourceRepository.findAllSince(toRegDt(LocalDate.now().minusDays(1)), now::add);
+        } catch (DataAccessException e) {
+            log.error("refresh - {}", e.getMessage());
+        }
+    }
+
+    private static int toRegDt(LocalDate date) {
+        return Integer.parseInt(date.toString().replace("-", ""));
+    }
+}
@@ -0,0 +1,89 @@
+package com.trendflow.analyze.global.bloom;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 알려진 키워드 집합의 블룸 필터 : false 이면 확실히 없는 키워드
+// keyword 서비스에서 생성한 필터를 받아 사용하므로 정규화, 해시는 keyword 서비스와 동일해야 함
+public class BloomFilter {
+    // keyword 서비스 BloomFilter.HASH_VERSION 과 같을 때만 사용
+    public static final int HASH_VERSION = 2;
+    private static final Pattern MARK = Pattern.compile("\\p{M}+");
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final int size;
+
+    private BloomFilter(long[] bits, int hashCount, int size) {
+        this.bits = bits;
+        this.bitSize = (long) bits.length * Long.SIZE;
+        this.hashCount = hashCount;
+        this.size = size;
+    }
+
+    public static BloomFilter fromBytes(byte[] bytes, int hashCount, int size) {
+        long[] bits = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(bits);
+        return new BloomFilter(bits, hashCount, size);
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(fold(value));
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    // 채워진 비트 비율로 추정한 현재 오탐률
+    public double expectedFpp() {
+        long count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        return Math.pow((double) count / bitSize, hashCount);
+    }
+
+    public long memory() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // keyword 서비스 BloomFilter.fold 와 동일 (MySQL utf8mb4_0900_ai_ci 비교보다 좁지 않도록 접음)
+    private static String fold(String value) {
+        if (value == null) return "";
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        return Normalizer.normalize(MARK.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toUpperCase(Locale.ROOT)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 접은 키워드의 UTF-8 바이트 기준 FNV-1a 64
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
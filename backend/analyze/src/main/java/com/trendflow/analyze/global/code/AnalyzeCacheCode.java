@@ -0,0 +1,13 @@
+package com.trendflow.analyze.global.code;
+
+// keyword 서비스와 같은 Redis 를 쓰므로 키에 서비스 이름을 붙임
+public enum AnalyzeCacheCode {
+    PARTITION_LOCK("ANALYZE_PARTITION_LOCK");
+
+    private String code;
+    public String getCode() { return this.code; }
+
+    AnalyzeCacheCode(String code){
+        this.code = code;
+    }
+}
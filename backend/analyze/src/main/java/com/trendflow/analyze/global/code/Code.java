@@ -11,7 +11,10 @@ public enum Code {
     BLOG("BLOG"),
     YOUTUBE("YOUTUBE"),
     DAUM("DAUM"),
-    NAVER("NAVER");
+    NAVER("NAVER"),
+
+    PAGE_CURSOR("PAGE_CURSOR"),
+    ETAG("ETAG");
 
     private String name;
 
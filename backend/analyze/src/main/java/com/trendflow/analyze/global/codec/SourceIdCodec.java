@@ -0,0 +1,66 @@
+package com.trendflow.analyze.global.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+
+// 오름차순 소스 id 목록을 앞 값과의 차이 + 1 만 varint (7bit 단위, 상위 비트는 다음 바이트 여부) 로 저장
+// 끝에 0 (끝 표시) 과 전체 개수가 붙음, 끝 표시나 개수가 맞지 않으면 (중간에 끊긴 응답) 예외
+// 키워드 서비스 SourceIdCodec 의 읽기 전용 사본
+public class SourceIdCodec {
+    private static final int END = 0;
+
+    private SourceIdCodec() {}
+
+    // 한 번에 하나씩 읽음 (전체를 배열로 만들지 않음)
+    public static class Reader {
+        private final InputStream in;
+        private long last = 0;
+        private long count = 0;
+        private long next;
+        private boolean ready = false;
+        private boolean end = false;
+
+        public Reader(InputStream in) {
+            this.in = in;
+        }
+
+        public boolean hasNext() throws IOException {
+            if (ready) return true;
+            if (end) return false;
+
+            long value = readVarint(in);
+            if (value == END) {
+                if (readVarint(in) != count) throw new IOException("source id count mismatch");
+                if (in.read() != -1) throw new IOException("unexpected bytes after source id list");
+                end = true;
+                return false;
+            }
+
+            last += value - 1;
+            count++;
+            next = last;
+            ready = true;
+            return true;
+        }
+
+        public long next() throws IOException {
+            if (!hasNext()) throw new NoSuchElementException();
+            ready = false;
+            return next;
+        }
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 63) throw new IOException("malformed source id varint");
+            int b = in.read();
+            if (b == -1) throw new EOFException("truncated source id list");
+
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.trendflow.analyze.global.codec;
+
+import feign.Response;
+import feign.codec.Decoder;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+// ImmutableRoaringBitmap 은 Roaring 직렬화 형식으로 읽고 나머지는 기본 디코더에 넘김
+// 소스 id 목록 (SourceIdCodec) 은 Response 를 그대로 받아 KeywordService 에서 스트리밍으로 읽음
+public class SourceIdDecoder implements Decoder {
+    private final Decoder delegate;
+
+    public SourceIdDecoder(Decoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (type == ImmutableRoaringBitmap.class) {
+            if (response.body() == null) return new MutableRoaringBitmap();
+            try (InputStream in = response.body().asInputStream()) {
+                return new ImmutableRoaringBitmap(ByteBuffer.wrap(StreamUtils.copyToByteArray(in)));
+            }
+        }
+        return delegate.decode(response, type);
+    }
+}
@@ -0,0 +1,71 @@
+package com.trendflow.analyze.global.config;
+
+import com.trendflow.analyze.global.datasource.ReplicaLagMonitor;
+import com.trendflow.analyze.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// 분석용 읽기 (레플리카) 와 쓰기 (프라이머리) 커넥션 풀 분리
+// 풀 별 지표는 hikaricp.* {pool=primary|replica} 로 수집됨
+// analyze.datasource.embedded=true 면 로컬 테스트용 H2 두 개를 프라이머리 / 레플리카로 사용
+@Configuration
+@ConditionalOnProperty(name = "analyze.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:analyze-%s;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Value("${analyze.datasource.embedded:false}")
+    private Boolean embedded;
+    @Value("${analyze.datasource.max-lag:5}")
+    private Long maxLag;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = embedded
+                ? new HikariDataSource()
+                : dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (embedded) dataSource.setJdbcUrl(String.format(EMBEDDED_URL, ReplicationRoutingDataSource.PRIMARY));
+        dataSource.setPoolName(ReplicationRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("analyze.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        if (embedded) dataSource.setJdbcUrl(String.format(EMBEDDED_URL, ReplicationRoutingDataSource.REPLICA));
+        dataSource.setPoolName(ReplicationRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagMonitor(embedded ? null : replicaDataSource, maxLag);
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                          @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                          ReplicaLagMonitor replicaLagMonitor,
+                                                          MeterRegistry meterRegistry) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
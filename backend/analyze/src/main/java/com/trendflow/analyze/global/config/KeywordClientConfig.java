@@ -0,0 +1,21 @@
+package com.trendflow.analyze.global.config;
+
+import com.trendflow.analyze.global.codec.SourceIdDecoder;
+import feign.codec.Decoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+import feign.optionals.OptionalDecoder;
+
+// KeywordServiceClient 전용 설정 (@Configuration 을 붙이면 모든 Feign 클라이언트에 적용되므로 붙이지 않음)
+public class KeywordClientConfig {
+    @Bean
+    public Decoder feignDecoder(ObjectFactory<HttpMessageConverters> messageConverters,
+                                ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        return new SourceIdDecoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers))));
+    }
+}
@@ -0,0 +1,63 @@
+package com.trendflow.analyze.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+// 레플리카 복제 지연을 주기적으로 확인해서 허용치를 넘거나 복제가 멈추면 읽기를 프라이머리로 돌림
+@Slf4j
+public class ReplicaLagMonitor {
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLag;
+
+    private volatile boolean available = true;
+    private volatile long lag = 0;
+
+    // replica 가 null 이면 (임베디드 모드) 지연 확인 없이 항상 사용
+    public ReplicaLagMonitor(DataSource replica, long maxLag) {
+        this.jdbcTemplate = replica == null ? null : new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // 초 단위 지연 (확인 실패 또는 복제 중단 시 -1)
+    public long getLag() {
+        return lag;
+    }
+
+    @Scheduled(fixedDelayString = "${analyze.datasource.lag-check:5000}")
+    public void check() {
+        if (jdbcTemplate == null) return;
+
+        try {
+            update(findLag());
+        } catch (DataAccessException e) {
+            log.warn("check - replica lag : {}", e.getMessage());
+            update(null);
+        }
+    }
+
+    void update(Long seconds) {
+        boolean now = seconds != null && seconds <= maxLag;
+        if (now != available) log.info("check - replica available : {} (lag {})", now, seconds);
+        lag = seconds == null ? -1 : seconds;
+        available = now;
+    }
+
+    private Long findLag() {
+        List<Map<String, Object>> statusList = jdbcTemplate.queryForList("SHOW REPLICA STATUS");
+        // 복제 설정이 없는 서버 (같은 DB 를 양쪽에 지정한 경우)
+        if (statusList.isEmpty()) return 0L;
+
+        Object seconds = statusList.get(0).get("Seconds_Behind_Source");
+        return seconds == null ? null : ((Number) seconds).longValue();
+    }
+}
@@ -0,0 +1,37 @@
+package com.trendflow.analyze.global.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 여러 인스턴스 중 하나만 실행해야 하는 작업의 락 (keyword 서비스 CacheLockRepository 와 같은 방식)
+@Repository
+public class CacheLockRepository {
+    // 자신이 잡은 락만 해제 (다른 인스턴스가 만료 후 다시 잡은 락을 지우지 않도록)
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private StringRedisTemplate redisTemplate;
+
+    public CacheLockRepository(@Qualifier("redisLockTemplate") StringRedisTemplate redisTemplate){
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Optional<String> tryLock(String key, Integer expire) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, expire, TimeUnit.SECONDS);
+        if (Boolean.TRUE.equals(locked)) return Optional.of(token);
+        return Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), token);
+    }
+}
@@ -0,0 +1,32 @@
+package com.trendflow.analyze.global.redis;
+
+import com.trendflow.analyze.global.code.Code;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 지난 기간 응답의 ETag (결과가 바뀌지 않으므로 다시 계산하지 않고 304 판단)
+// 페이지 커서와 키가 섞이지 않도록 전용 템플릿과 ETAG_ 접두사 사용
+@Repository
+public class ETagRepository {
+    private StringRedisTemplate redisTemplate;
+
+    public ETagRepository(@Qualifier("redisETagTemplate") StringRedisTemplate redisTemplate){
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void saveETag(String key, String eTag, Integer expire) {
+        redisTemplate.opsForValue().set(toKey(key), eTag, expire, TimeUnit.SECONDS);
+    }
+
+    public Optional<String> findById(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(toKey(key)));
+    }
+
+    private static String toKey(String key) {
+        return String.format("%s_%s", Code.ETAG.getName(), key);
+    }
+}
@@ -0,0 +1,25 @@
+package com.trendflow.analyze.global.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+public class PageCursorRepository {
+    private StringRedisTemplate redisTemplate;
+
+    public PageCursorRepository(@Qualifier("redisPageCursorTemplate") StringRedisTemplate redisTemplate){
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void saveResult(String key, String cursor, Integer expire) {
+        redisTemplate.opsForValue().set(key, cursor, expire, TimeUnit.SECONDS);
+    }
+
+    public Optional<String> findById(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+}
@@ -0,0 +1,42 @@
+package com.trendflow.analyze.global.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// 조건부 GET 응답
+// ETag 를 붙인 200 응답은 스프링이 If-None-Match 와 비교해서 304 로 바꿔줌 (본문 전송만 생략)
+// 결과 버전을 미리 알 수 있는 API 는 WebRequest.checkNotModified(toETag(version)) 로 서비스 호출 전에 확인하고 null 을 반환
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+    private final ObjectMapper objectMapper;
+
+    public static String toETag(String version) {
+        return "\"" + version + "\"";
+    }
+
+    // 본문 JSON 의 해시
+    public String hash(Object body) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public <T> ResponseEntity<T> ok(T body, CacheControl cacheControl) {
+        return ok(body, toETag(hash(body)), cacheControl);
+    }
+
+    public <T> ResponseEntity<T> ok(T body, String eTag, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+}
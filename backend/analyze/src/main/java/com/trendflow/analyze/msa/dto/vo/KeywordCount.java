@@ -15,4 +15,6 @@ public class KeywordCount {
     private String platformCode;
     private Long count;
     private LocalDate regDt;
+    // true 면 regDt (월요일) 부터 7일의 합계 (keyword 서비스의 압축 기준일 이전)
+    private Boolean weekly;
 }
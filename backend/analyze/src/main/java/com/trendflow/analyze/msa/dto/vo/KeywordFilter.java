@@ -0,0 +1,20 @@
+package com.trendflow.analyze.msa.dto.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeywordFilter {
+    private Integer hashVersion;
+    private Integer hashCount;
+    private Integer size;
+    private byte[] bits;
+    private LocalDateTime createdAt;
+}
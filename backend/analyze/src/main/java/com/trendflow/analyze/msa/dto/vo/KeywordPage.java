@@ -0,0 +1,17 @@
+package com.trendflow.analyze.msa.dto.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeywordPage {
+    private List<Keyword> keywordList;
+    private String nextCursor;
+}
@@ -0,0 +1,89 @@
+package com.trendflow.analyze.msa.service;
+
+import com.trendflow.analyze.msa.dto.vo.CodeTable;
+import com.trendflow.analyze.msa.dto.vo.LocalCode;
+import com.trendflow.analyze.msa.dto.vo.RelateCode;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// common 서비스의 전체 코드 테이블 사본
+// common 이 Redis 채널로 새 버전을 알리면 다시 받고, 알림이 빠질 때를 대비해 주기적으로도 ETag 로 확인
+// 받기 전이거나 없는 코드는 empty 를 돌려주고 호출하는 쪽이 Feign 으로 조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodeTableCache implements MessageListener {
+    private final CommonServiceClient commonServiceClient;
+
+    private volatile Snapshot snapshot;
+
+    public Optional<LocalCode> findLocalCode(String name) {
+        Snapshot now = snapshot;
+        if (now == null) return Optional.empty();
+        return Optional.ofNullable(now.localCodeMap.get(name));
+    }
+
+    public Optional<List<RelateCode>> findRelateCode(String code) {
+        Snapshot now = snapshot;
+        if (now == null) return Optional.empty();
+        return Optional.of(now.relateCodeMap.getOrDefault(code, Collections.emptyList()));
+    }
+
+    // 메시지 본문은 새 버전
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String version = new String(message.getBody(), StandardCharsets.UTF_8);
+        Snapshot now = snapshot;
+        if (now != null && now.version.equals(version)) return;
+        refresh();
+    }
+
+    // 실패 시 기존 사본 유지
+    @Scheduled(initialDelay = 0, fixedDelayString = "${common.code.refresh:300000}")
+    public synchronized void refresh() {
+        Snapshot now = snapshot;
+        try {
+            ResponseEntity<CodeTable> response = commonServiceClient.getCodeTable(now == null ? null : "\"" + now.version + "\"");
+            CodeTable codeTable = response.getBody();
+            if (codeTable == null || codeTable.getVersion() == null) return;
+
+            snapshot = new Snapshot(codeTable);
+            log.info("refresh - code table {}", codeTable.getVersion());
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_MODIFIED.value()) return;
+            log.error("refresh - {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("refresh - {}", e.getMessage());
+        }
+    }
+
+    private static class Snapshot {
+        private final String version;
+        private final Map<String, LocalCode> localCodeMap = new HashMap<>();
+        private final Map<String, List<RelateCode>> relateCodeMap = new HashMap<>();
+
+        private Snapshot(CodeTable codeTable) {
+            this.version = codeTable.getVersion();
+            if (codeTable.getLocalCodeList() != null)
+                for (LocalCode localCode : codeTable.getLocalCodeList()) localCodeMap.put(localCode.getName(), localCode);
+            if (codeTable.getRelateCodeList() != null)
+                for (RelateCode relateCode : codeTable.getRelateCodeList())
+                    relateCodeMap.computeIfAbsent(relateCode.getCode(), k -> new ArrayList<>()).add(relateCode);
+        }
+    }
+}
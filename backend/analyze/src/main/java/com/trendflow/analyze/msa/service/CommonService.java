@@ -12,12 +12,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommonService {
     private final CommonServiceClient commonServiceClient;
+    private final CodeTableCache codeTableCache;
 
     public String getLocalCode(Code code){
         String codeName = code.getName();
-        LocalCode localCode = commonServiceClient.getLocalCode(codeName);
+        LocalCode localCode = codeTableCache.findLocalCode(codeName)
+                .orElseGet(() -> commonServiceClient.getLocalCode(codeName));
         return localCode.getCode();
-}
+    }
+
     public List<Source> getSource(List<Long> sourceIdList){
         return commonServiceClient.getSource(sourceIdList);
     }
@@ -1,10 +1,14 @@
 package com.trendflow.analyze.msa.service;
 
 import com.trendflow.analyze.msa.dto.request.GetSourceRequest;
+import com.trendflow.analyze.msa.dto.vo.CodeTable;
 import com.trendflow.analyze.msa.dto.vo.LocalCode;
 import com.trendflow.analyze.msa.dto.vo.RelateCode;
 import com.trendflow.analyze.msa.dto.vo.Source;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,10 +17,16 @@ import java.util.List;
 
 @FeignClient("COMMON")
 public interface CommonServiceClient {
+    // If-None-Match 가 현재 버전과 같으면 304 (FeignException)
+    @GetMapping("/common/code")
+    ResponseEntity<CodeTable> getCodeTable(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
     @GetMapping("/common/local/{name}")
     LocalCode getLocalCode(@PathVariable String name);
     @GetMapping("/common/relate/{name}")
     RelateCode getRelateCode(@PathVariable String name);
     @PostMapping("/common/source")
     List<Source> getSource(@RequestBody List<Long> sourceIdList);
+    // 중복 소스 id Roaring 비트맵 (Response 는 디코더를 거치지 않고 본문을 열어 둔 채 반환, 호출한 쪽에서 닫음)
+    @GetMapping("/common/source/duplicate-bitmap")
+    Response getDuplicateBitmap();
 }
@@ -0,0 +1,66 @@
+package com.trendflow.analyze.msa.service;
+
+import feign.FeignException;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// common 서비스가 재전송 기사로 연결한 (대표가 아닌) 소스 id 사본
+// 감성 집계에서 같은 기사의 사본을 한 번만 세도록 제외, 받기 전이거나 받을 수 없으면 제외하지 않음
+// 소스 id 단위로 세는 곳은 감성 집계뿐 : 언급량은 keyword 서비스가 소스 id 없이 일별로 미리 합산해 두고,
+// 관련 콘텐츠 목록은 키워드 행 키셋 페이지라 여기서 빼면 페이지 크기가 맞지 않으므로 (매체별 사본도 보여줌) 그대로 둠
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DuplicateSourceCache {
+    private final CommonServiceClient commonServiceClient;
+
+    private volatile ImmutableRoaringBitmap duplicateBitmap;
+
+    public ImmutableRoaringBitmap exclude(ImmutableRoaringBitmap sourceBitmap) {
+        ImmutableRoaringBitmap now = duplicateBitmap;
+        if (now == null || now.isEmpty()) return sourceBitmap;
+        return ImmutableRoaringBitmap.andNot(sourceBitmap, now);
+    }
+
+    public List<Long> exclude(List<Long> sourceIdList) {
+        ImmutableRoaringBitmap now = duplicateBitmap;
+        if (now == null || now.isEmpty()) return sourceIdList;
+        return sourceIdList.stream()
+                .filter(sourceId -> sourceId < 0 || sourceId > 0xFFFFFFFFL || !now.contains((int) (long) sourceId))
+                .collect(Collectors.toList());
+    }
+
+    // 실패 시 기존 사본 유지
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${analyze.source-duplicate.refresh:600000}")
+    public void refresh() {
+        try (Response response = commonServiceClient.getDuplicateBitmap()) {
+            // 비트맵으로 나타낼 수 없는 소스 id 가 생겼으면 제외를 멈춤 (일부만 제외하지 않도록)
+            if (response.status() == HttpStatus.UNPROCESSABLE_ENTITY.value()) {
+                log.warn("refresh - duplicate source id out of bitmap range");
+                duplicateBitmap = null;
+                return;
+            }
+            if (response.status() != HttpStatus.OK.value()) throw FeignException.errorStatus("getDuplicateBitmap", response);
+            if (response.body() == null) return;
+
+            MutableRoaringBitmap bitmap = new MutableRoaringBitmap();
+            bitmap.deserialize(new DataInputStream(new BufferedInputStream(response.body().asInputStream())));
+            duplicateBitmap = bitmap;
+            log.info("refresh - duplicate source : {}", bitmap.getLongCardinality());
+        } catch (IOException | RuntimeException e) {
+            log.error("refresh - {}", e.getMessage());
+        }
+    }
+}
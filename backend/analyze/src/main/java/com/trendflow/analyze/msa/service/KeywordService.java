@@ -1,28 +1,128 @@
 package com.trendflow.analyze.msa.service;
 
-import com.trendflow.analyze.msa.dto.vo.Keyword;
+import com.trendflow.analyze.global.bloom.BloomFilter;
+import com.trendflow.analyze.global.codec.SourceIdCodec;
 import com.trendflow.analyze.msa.dto.vo.KeywordCount;
+import com.trendflow.analyze.msa.dto.vo.KeywordFilter;
+import com.trendflow.analyze.msa.dto.vo.KeywordPage;
+import feign.FeignException;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordService {
     private final KeywordServiceClient keywordServiceClient;
+    private final MeterRegistry meterRegistry;
 
-    public List<Keyword> getKeyword(String keyword, LocalDate startDate, LocalDate endDate) {
-        return keywordServiceClient.getKeyword(keyword, startDate, endDate);
+    // 키워드 서비스에서 받아온 블룸 필터, 받아오기 전에는 모든 키워드를 통과시킴
+    private volatile BloomFilter bloomFilter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        missCounter = meterRegistry.counter("analyze.keyword.filter.miss");
+        Gauge.builder("analyze.keyword.filter.fpp", this, service -> service.bloomFilter == null ? 0 : service.bloomFilter.expectedFpp())
+                .register(meterRegistry);
+        Gauge.builder("analyze.keyword.filter.memory", this, service -> service.bloomFilter == null ? 0 : service.bloomFilter.memory())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 수집된 적 없는 키워드는 호출 없이 빈 결과
+    // 응답을 읽으면서 소스 id 를 batchSize 개씩 나눠서 넘김 (IN 절 크기 제한, 전체 목록을 메모리에 올리지 않음)
+    // 응답이 중간에 끊기면 (끝 표시 없음) 예외 : 일부만 집계한 결과를 돌려주지 않음
+    public void forEachSourceId(String keyword, LocalDate startDate, LocalDate endDate, int batchSize, Consumer<List<Long>> consumer) {
+        if (!mightContain(keyword)) return;
+
+        try (Response response = keywordServiceClient.getSourceId(keyword, startDate, endDate)) {
+            if (response.status() != HttpStatus.OK.value()) throw FeignException.errorStatus("getSourceId", response);
+            if (response.body() == null) throw new EOFException("empty source id body");
+
+            SourceIdCodec.Reader reader = new SourceIdCodec.Reader(new BufferedInputStream(response.body().asInputStream()));
+            List<Long> batch = new ArrayList<>(batchSize);
+            while (reader.hasNext()) {
+                batch.add(reader.next());
+                if (batch.size() < batchSize) continue;
+
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+            if (!batch.isEmpty()) consumer.accept(batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 소스 id 가 32 비트를 넘어서 비트맵으로 나타낼 수 없으면 (422) empty : 호출한 쪽이 forEachSourceId 로 조회
+    public Optional<ImmutableRoaringBitmap> getSourceBitmap(String keyword, LocalDate startDate, LocalDate endDate) {
+        if (!mightContain(keyword)) return Optional.of(new MutableRoaringBitmap());
+        try {
+            return Optional.of(keywordServiceClient.getSourceBitmap(keyword, startDate, endDate));
+        } catch (FeignException e) {
+            if (e.status() != HttpStatus.UNPROCESSABLE_ENTITY.value()) throw e;
+            log.warn("getSourceBitmap - {} : source id out of bitmap range", keyword);
+            return Optional.empty();
+        }
     }
 
-    public List<Keyword> getKeywordPage(String keyword, String code, Integer page, Integer perPage, LocalDate startDate, LocalDate endDate) {
-        return keywordServiceClient.getKeywordPage(keyword, code, page, perPage, startDate, endDate);
+    public KeywordPage getKeywordPage(String keyword, String code, String cursor, Integer page, Integer perPage, LocalDate startDate, LocalDate endDate) {
+        if (!mightContain(keyword)) return KeywordPage.builder().keywordList(new ArrayList<>()).build();
+        return keywordServiceClient.getKeywordPage(keyword, code, cursor, page, perPage, startDate, endDate);
     }
 
     public List<KeywordCount> getKeywordCount(String keyword, LocalDate startDate, LocalDate endDate) {
+        if (!mightContain(keyword)) return new ArrayList<>();
         return keywordServiceClient.getKeywordCount(keyword, startDate, endDate);
     }
+
+    public boolean mightContain(String keyword) {
+        BloomFilter now = bloomFilter;
+        if (now == null || now.mightContain(keyword)) return true;
+
+        missCounter.increment();
+        return false;
+    }
+
+    // 실패 시 기존 필터 유지
+    // 받아온 필터는 응답한 keyword 인스턴스의 것 : 다른 인스턴스가 수집한 키워드는 그 인스턴스의 다음 재생성 (keyword.filter.rebuild, 기본 10분)
+    // 이후 다음 갱신까지 (최대 재생성 주기 + analyze.keyword-filter.refresh) 없다고 판단되어 빈 결과가 나갈 수 있음
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${analyze.keyword-filter.refresh:60000}")
+    public void refreshKeywordFilter() {
+        try {
+            KeywordFilter keywordFilter = keywordServiceClient.getKeywordFilter();
+            if (keywordFilter == null || keywordFilter.getCreatedAt() == null) return;
+            // 해시 방식이 다른 필터는 쓰지 않고 모두 통과 (배포 순서가 어긋난 경우)
+            if (!Integer.valueOf(BloomFilter.HASH_VERSION).equals(keywordFilter.getHashVersion())) {
+                log.warn("refreshKeywordFilter - hash version mismatch : {}", keywordFilter.getHashVersion());
+                bloomFilter = null;
+                return;
+            }
+
+            bloomFilter = BloomFilter.fromBytes(keywordFilter.getBits(), keywordFilter.getHashCount(), keywordFilter.getSize());
+        } catch (RuntimeException e) {
+            log.error("refreshKeywordFilter - {}", e.getMessage());
+        }
+    }
 }
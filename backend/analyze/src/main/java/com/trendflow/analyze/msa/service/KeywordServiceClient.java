@@ -1,7 +1,11 @@
 package com.trendflow.analyze.msa.service;
 
-import com.trendflow.analyze.msa.dto.vo.Keyword;
 import com.trendflow.analyze.msa.dto.vo.KeywordCount;
+import com.trendflow.analyze.msa.dto.vo.KeywordFilter;
+import com.trendflow.analyze.msa.dto.vo.KeywordPage;
+import com.trendflow.analyze.global.config.KeywordClientConfig;
+import feign.Response;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,17 +15,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
-@FeignClient("KEYWORD")
+@FeignClient(value = "KEYWORD", configuration = KeywordClientConfig.class)
 public interface KeywordServiceClient {
-    @GetMapping("/keyword")
-    List<Keyword> getKeyword(@RequestParam String keyword,
-                             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-                             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate);
+    // 오름차순 소스 id SourceIdCodec 바이너리 (Response 는 디코더를 거치지 않고 본문을 열어 둔 채 반환, 호출한 쪽에서 닫음)
+    @GetMapping("/keyword/source-id")
+    Response getSourceId(@RequestParam String keyword,
+                       @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                       @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate);
+
+    // 소스 id Roaring 비트맵 (SourceIdDecoder 가 직렬화 형식을 그대로 감쌈)
+    @GetMapping("/keyword/source-bitmap")
+    ImmutableRoaringBitmap getSourceBitmap(@RequestParam String keyword,
+                                           @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                                           @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate);
 
     @GetMapping("/keyword/page")
-    List<Keyword> getKeywordPage(@RequestParam String keyword,
+    KeywordPage getKeywordPage(@RequestParam String keyword,
                              @RequestParam String code,
-                             @RequestParam Integer page,
+                             @RequestParam(required = false) String cursor,
+                             @RequestParam(required = false) Integer page,
                              @RequestParam Integer perPage,
                              @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
                              @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate);
@@ -30,4 +42,7 @@ public interface KeywordServiceClient {
     List<KeywordCount> getKeywordCount(@RequestParam String keyword,
                                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
                                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate);
+
+    @GetMapping("/keyword/filter")
+    KeywordFilter getKeywordFilter();
 }
@@ -0,0 +1,42 @@
+--
+-- 기준 스키마 (이미 운영 중인 DB 는 baseline 으로 건너뜀)
+--
+
+--
+-- Table structure for table `rank`
+--
+
+CREATE TABLE IF NOT EXISTS `rank` (
+  `rank_id` bigint NOT NULL AUTO_INCREMENT,
+  `keyword_id` bigint NOT NULL,
+  `num` int NOT NULL,
+  `reg_dt` int NOT NULL,
+  PRIMARY KEY (`rank_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+--
+-- Table structure for table `relation`
+--
+
+CREATE TABLE IF NOT EXISTS `relation` (
+  `relation_id` bigint NOT NULL AUTO_INCREMENT,
+  `keyword_id` bigint NOT NULL,
+  `keyword` varchar(100) NOT NULL,
+  `relation_keyword_id` bigint NOT NULL,
+  `relation_keyword` varchar(100) NOT NULL,
+  `count` bigint NOT NULL,
+  `reg_dt` int NOT NULL,
+  PRIMARY KEY (`relation_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+--
+-- Table structure for table `sentiment`
+--
+
+CREATE TABLE IF NOT EXISTS `sentiment` (
+  `sentiment_id` bigint NOT NULL AUTO_INCREMENT,
+  `source_id` bigint NOT NULL,
+  `score` bigint NOT NULL,
+  `reg_dt` int NOT NULL,
+  PRIMARY KEY (`sentiment_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='기사 별로 긍 부정 점 수 저장';
@@ -0,0 +1,37 @@
+--
+-- reg_dt 월 단위 RANGE 파티션 (PartitionService 가 월 파티션 추가 / 삭제)
+--
+
+ALTER TABLE `relation` DROP PRIMARY KEY, ADD PRIMARY KEY (`relation_id`, `reg_dt`);
+ALTER TABLE `relation` PARTITION BY RANGE (`reg_dt`) (
+  PARTITION p202301 VALUES LESS THAN (20230201),
+  PARTITION p202302 VALUES LESS THAN (20230301),
+  PARTITION p202303 VALUES LESS THAN (20230401),
+  PARTITION p202304 VALUES LESS THAN (20230501),
+  PARTITION p202305 VALUES LESS THAN (20230601),
+  PARTITION p202306 VALUES LESS THAN (20230701),
+  PARTITION p202307 VALUES LESS THAN (20230801),
+  PARTITION p202308 VALUES LESS THAN (20230901),
+  PARTITION p202309 VALUES LESS THAN (20231001),
+  PARTITION p202310 VALUES LESS THAN (20231101),
+  PARTITION p202311 VALUES LESS THAN (20231201),
+  PARTITION p202312 VALUES LESS THAN (20240101),
+  PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+ALTER TABLE `sentiment` DROP PRIMARY KEY, ADD PRIMARY KEY (`sentiment_id`, `reg_dt`);
+ALTER TABLE `sentiment` PARTITION BY RANGE (`reg_dt`) (
+  PARTITION p202301 VALUES LESS THAN (20230201),
+  PARTITION p202302 VALUES LESS THAN (20230301),
+  PARTITION p202303 VALUES LESS THAN (20230401),
+  PARTITION p202304 VALUES LESS THAN (20230501),
+  PARTITION p202305 VALUES LESS THAN (20230601),
+  PARTITION p202306 VALUES LESS THAN (20230701),
+  PARTITION p202307 VALUES LESS THAN (20230801),
+  PARTITION p202308 VALUES LESS THAN (20230901),
+  PARTITION p202309 VALUES LESS THAN (20231001),
+  PARTITION p202310 VALUES LESS THAN (20231101),
+  PARTITION p202311 VALUES LESS THAN (20231201),
+  PARTITION p202312 VALUES LESS THAN (20240101),
+  PARTITION pmax VALUES LESS THAN MAXVALUE
+);
@@ -0,0 +1,8 @@
+--
+-- 네이티브 쿼리 별 커버링 인덱스
+--
+
+-- 감성 분석 : source_id IN (...) AND reg_dt 범위, score / 날짜 별 건수
+ALTER TABLE `sentiment` ADD INDEX `IDX_Sentiment_SourceId_RegDt_Score` (`source_id`, `reg_dt`, `score`);
+-- 연관 키워드 : keyword_id IN (...) ORDER BY count DESC
+ALTER TABLE `relation` ADD INDEX `IDX_Relation_KeywordId_Count` (`keyword_id`, `count`);
@@ -0,0 +1,102 @@
+package com.trendflow.analyze.analyze.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// 마이그레이션을 적용한 MySQL 에서 조회 쿼리마다 EXPLAIN 을 실행해 풀 스캔(type = ALL)이 없는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+    private static final Pattern PARAM = Pattern.compile(":(\\w+)");
+    private static final Map<String, String> SAMPLE_MAP = new HashMap<>();
+
+    static {
+        SAMPLE_MAP.put("startDate", "20230201");
+        SAMPLE_MAP.put("endDate", "20230207");
+        SAMPLE_MAP.put("limit", "10");
+        SAMPLE_MAP.put("keywordIdList", "1, 2, 3");
+        SAMPLE_MAP.put("sourceIdList", "100, 200, 300");
+    }
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+
+        // 옵티마이저가 작은 테이블이라고 풀 스캔을 고르지 않도록 두 달 치 데이터를 채움
+        Random random = new Random(0);
+        List<Object[]> relationList = new ArrayList<>();
+        List<Object[]> sentimentList = new ArrayList<>();
+        for (int day = 0; day < 56; day++) {
+            int regDt = 20230101 + (day / 28) * 100 + day % 28;
+            for (int k = 0; k < 200; k++) {
+                int relationId = random.nextInt(200);
+                relationList.add(new Object[]{ k, "k" + k, relationId, "k" + relationId, random.nextInt(100) + 1, regDt });
+            }
+            for (int source = 0; source < 100; source++) {
+                sentimentList.add(new Object[]{ day * 100L + source, random.nextInt(3), regDt });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO relation (keyword_id, keyword, relation_keyword_id, relation_keyword, count, reg_dt) VALUES (?, ?, ?, ?, ?, ?)", relationList);
+        jdbcTemplate.batchUpdate("INSERT INTO sentiment (source_id, score, reg_dt) VALUES (?, ?, ?)", sentimentList);
+        jdbcTemplate.execute("ANALYZE TABLE relation, sentiment");
+    }
+
+    static Stream<Method> queryList() {
+        return Stream.of(RelationRepository.class, SentimentRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(Query.class) && !method.isAnnotationPresent(Modifying.class));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryList")
+    void noFullScan(Method method) {
+        String sql = toSql(method.getAnnotation(Query.class).value());
+        List<Map<String, Object>> planList = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        for (Map<String, Object> plan : planList) {
+            assertNotEquals("ALL", plan.get("type"), method.getName() + " : full scan on " + plan.get("table"));
+        }
+    }
+
+    private static String toSql(String query) {
+        Matcher matcher = PARAM.matcher(query.trim().replaceAll(";$", ""));
+        StringBuffer sql = new StringBuffer();
+        while (matcher.find()) {
+            String value = SAMPLE_MAP.get(matcher.group(1));
+            assertNotNull(value, "no sample value for :" + matcher.group(1));
+            matcher.appendReplacement(sql, value);
+        }
+        matcher.appendTail(sql);
+        return sql.toString();
+    }
+}
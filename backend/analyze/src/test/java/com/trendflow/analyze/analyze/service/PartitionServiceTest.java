@@ -0,0 +1,65 @@
+package com.trendflow.analyze.analyze.service;
+
+import com.trendflow.analyze.analyze.repository.PartitionRepository;
+import com.trendflow.analyze.global.redis.CacheLockRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PartitionServiceTest {
+
+    @Test
+    void findMissingMonthFromMigratedLayoutTest() {
+        // V2__analyze_partition.sql 직후 : p202301 ~ p202312, pmax
+        List<YearMonth> monthList = PartitionService.findMissingMonth(migratedLayout(), YearMonth.of(2027, 1));
+
+        assertEquals(37, monthList.size());
+        assertEquals(YearMonth.of(2024, 1), monthList.get(0));
+        assertEquals(YearMonth.of(2027, 1), monthList.get(monthList.size() - 1));
+        for (int i = 1; i < monthList.size(); i++) assertEquals(monthList.get(i - 1).plusMonths(1), monthList.get(i));
+    }
+
+    @Test
+    void maintainSplitsEveryMonthInOrderTest() {
+        PartitionRepository partitionRepository = mock(PartitionRepository.class);
+        CacheLockRepository cacheLockRepository = mock(CacheLockRepository.class);
+        when(cacheLockRepository.tryLock(anyString(), anyInt())).thenReturn(Optional.of("token"));
+        when(partitionRepository.findPartitionMap(anyString())).thenReturn(migratedLayout());
+
+        PartitionService partitionService = new PartitionService(partitionRepository, cacheLockRepository);
+        ReflectionTestUtils.setField(partitionService, "aheadMonths", 3);
+        ReflectionTestUtils.setField(partitionService, "retentionMonths", 0);
+        partitionService.maintain();
+
+        YearMonth until = YearMonth.now().plusMonths(3);
+        for (String table : new String[]{ "relation", "sentiment" }) {
+            InOrder inOrder = inOrder(partitionRepository);
+            for (YearMonth month = YearMonth.of(2024, 1); !month.isAfter(until); month = month.plusMonths(1)) {
+                YearMonth next = month.plusMonths(1);
+                inOrder.verify(partitionRepository).addPartition(table, String.format("p%04d%02d", month.getYear(), month.getMonthValue()),
+                        next.getYear() * 10000 + next.getMonthValue() * 100 + 1);
+            }
+        }
+        verify(partitionRepository, never()).dropPartition(anyString(), anyString());
+    }
+
+    private static Map<String, String> migratedLayout() {
+        Map<String, String> partitionMap = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            YearMonth next = YearMonth.of(2023, month).plusMonths(1);
+            partitionMap.put(String.format("p2023%02d", month), String.valueOf(next.getYear() * 10000 + next.getMonthValue() * 100 + 1));
+        }
+        partitionMap.put(PartitionRepository.MAX_PARTITION, "MAXVALUE");
+        return partitionMap;
+    }
+}
@@ -0,0 +1,42 @@
+package com.trendflow.analyze.global.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceIdCodecTest {
+    // 키워드 서비스 SourceIdCodec.encode(new long[]{ 1L, 2L, 300L }) 결과 : 차이 + 1 (2, 2, 299), 끝 표시, 개수
+    private static final byte[] BYTES = { 2, 2, (byte) 0xAB, 2, 0, 3 };
+
+    private static List<Long> readAll(byte[] bytes) throws IOException {
+        List<Long> sourceIdList = new ArrayList<>();
+        SourceIdCodec.Reader reader = new SourceIdCodec.Reader(new ByteArrayInputStream(bytes));
+        while (reader.hasNext()) sourceIdList.add(reader.next());
+        return sourceIdList;
+    }
+
+    @Test
+    void readTest() throws IOException {
+        assertEquals(Arrays.asList(1L, 2L, 300L), readAll(BYTES));
+        assertTrue(readAll(new byte[]{ 0, 0 }).isEmpty());
+    }
+
+    // 어느 위치에서 끊겨도 (빈 본문 포함) 거부
+    @Test
+    void truncatedTest() {
+        for (int length = 0; length < BYTES.length; length++) {
+            byte[] truncated = Arrays.copyOf(BYTES, length);
+            assertThrows(IOException.class, () -> readAll(truncated));
+        }
+
+        byte[] wrongCount = BYTES.clone();
+        wrongCount[wrongCount.length - 1] = 2;
+        assertThrows(IOException.class, () -> readAll(wrongCount));
+    }
+}
@@ -0,0 +1,62 @@
+package com.trendflow.analyze.global.config;
+
+import com.trendflow.analyze.global.datasource.ReplicaLagMonitor;
+import com.trendflow.analyze.global.datasource.ReplicationRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 임베디드 모드로 설정 전체를 띄워서 빈 구성과 라우팅 확인
+class DataSourceConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceConfig.class)
+            .withBean(DataSourceProperties.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void disabledByDefault() {
+        contextRunner.run(context -> {
+            assertFalse(context.containsBean("routingDataSource"));
+            assertFalse(context.containsBean("replicaLagMonitor"));
+        });
+    }
+
+    @Test
+    void embeddedRouting() {
+        contextRunner.withPropertyValues("analyze.datasource.replica.enabled=true", "analyze.datasource.embedded=true")
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    assertTrue(dataSource instanceof LazyConnectionDataSourceProxy);
+                    // 임베디드 모드는 지연 확인 없이 레플리카 사용
+                    assertTrue(context.getBean(ReplicaLagMonitor.class).isAvailable());
+
+                    JdbcTemplate primary = new JdbcTemplate(context.getBean("primaryDataSource", DataSource.class));
+                    JdbcTemplate replica = new JdbcTemplate(context.getBean("replicaDataSource", DataSource.class));
+                    primary.execute("CREATE TABLE db_role (name VARCHAR(10))");
+                    primary.update("INSERT INTO db_role VALUES (?)", ReplicationRoutingDataSource.PRIMARY);
+                    replica.execute("CREATE TABLE db_role (name VARCHAR(10))");
+                    replica.update("INSERT INTO db_role VALUES (?)", ReplicationRoutingDataSource.REPLICA);
+
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+                    TransactionTemplate writeTemplate = new TransactionTemplate(transactionManager);
+                    TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+                    readTemplate.setReadOnly(true);
+
+                    assertEquals(ReplicationRoutingDataSource.PRIMARY,
+                            writeTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class)));
+                    assertEquals(ReplicationRoutingDataSource.REPLICA,
+                            readTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class)));
+                });
+    }
+}
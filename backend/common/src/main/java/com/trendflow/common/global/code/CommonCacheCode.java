@@ -0,0 +1,14 @@
+package com.trendflow.common.global.code;
+
+// keyword, analyze 서비스와 같은 Redis 를 쓰므로 키에 서비스 이름을 붙임
+public enum CommonCacheCode {
+    SOURCE_CONTENT_LEASE("COMMON_SOURCE_CONTENT_LEASE"),
+    SOURCE_CONTENT_LEASE_TOKEN("COMMON_SOURCE_CONTENT_LEASE_TOKEN");
+
+    private String code;
+    public String getCode() { return this.code; }
+
+    CommonCacheCode(String code){
+        this.code = code;
+    }
+}
@@ -0,0 +1,27 @@
+package com.trendflow.common.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+    @Value("${common.source.pool-size:4}")
+    private Integer sourcePoolSize;
+
+    @Bean
+    public ThreadPoolTaskExecutor sourceQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sourcePoolSize);
+        executor.setMaxPoolSize(sourcePoolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("source-query-");
+        // 커넥션 풀을 넘겨 쓰지 않도록 대기열이 차면 요청 스레드에서 직접 조회
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.trendflow.common.global.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+    // 마이그레이션 도입 전부터 운영 중인 DB 는 V1 을 baseline 으로 기록하고 이후 버전만 적용
+    @Bean
+    public FlywayConfigurationCustomizer baselineOnMigrate() {
+        return configuration -> configuration.baselineOnMigrate(true);
+    }
+}
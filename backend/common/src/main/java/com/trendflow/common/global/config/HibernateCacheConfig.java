@@ -0,0 +1,23 @@
+package com.trendflow.common.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 코드, 소스 엔티티 2차 캐시와 쿼리 캐시 (Caffeine JCache, 리전 설정은 resources/application.conf)
+// 통계를 켜야 hibernate-micrometer 가 리전별 hit/miss 를 hibernate.second.level.cache.requests 로 내보냄
+@Configuration
+public class HibernateCacheConfig {
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.provider", "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
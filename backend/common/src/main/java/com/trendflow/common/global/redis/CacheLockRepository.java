@@ -0,0 +1,37 @@
+package com.trendflow.common.global.redis;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 여러 인스턴스 중 하나만 실행해야 하는 작업의 리스 (keyword 서비스 CacheLockRepository 와 같은 방식)
+@Repository
+public class CacheLockRepository {
+    // 리스가 비어 있으면 잡고 새 펜싱 토큰 발급, 이미 자신의 리스면 연장하고 현재 토큰 반환
+    private static final DefaultRedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('get', KEYS[1]) " +
+            "if not owner then " +
+            "redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "return redis.call('incr', KEYS[2]) " +
+            "elseif owner == ARGV[1] then " +
+            "redis.call('expire', KEYS[1], ARGV[2]) " +
+            "return tonumber(redis.call('get', KEYS[2]) or '0') " +
+            "end " +
+            "return -1",
+            Long.class);
+
+    private StringRedisTemplate redisTemplate;
+
+    public CacheLockRepository(StringRedisTemplate redisTemplate){
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Optional<Long> tryLease(String key, String tokenKey, String owner, Integer expire) {
+        Long token = redisTemplate.execute(LEASE_SCRIPT, Arrays.asList(key, tokenKey), owner, String.valueOf(expire));
+        if (token != null && token > 0) return Optional.of(token);
+        return Optional.empty();
+    }
+}
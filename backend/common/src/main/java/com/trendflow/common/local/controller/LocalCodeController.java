@@ -1,19 +1,32 @@
 package com.trendflow.common.local.controller;
 
 import com.trendflow.common.global.exception.NotFoundException;
+import com.trendflow.common.global.web.ConditionalGet;
 import com.trendflow.common.local.dto.request.GetSourceRequest;
+import com.trendflow.common.local.dto.response.FindCodeTableResponse;
 import com.trendflow.common.local.dto.response.FindLocalCodeResponse;
 import com.trendflow.common.local.dto.response.FindRelateCodeResponse;
 import com.trendflow.common.local.dto.response.GetSourceResponse;
 import com.trendflow.common.local.service.LocalCodeService;
+import com.trendflow.common.local.service.SourceDuplicateService;
+import com.trendflow.common.local.service.SourceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -21,14 +34,26 @@ import java.util.List;
 @RequestMapping("/common")
 public class LocalCodeController {
     private final LocalCodeService localCodeService;
+    private final SourceService sourceService;
+    private final SourceDuplicateService sourceDuplicateService;
+    private final ConditionalGet conditionalGet;
+
+    // 응답 캐시 정책 (초), 코드 변경 확인 주기에 맞춤
+    @Value("${common.cache-control.code:60}")
+    private Long codeMaxAge;
 
     @GetMapping("/group/{groupCode}")
-    public ResponseEntity<List<FindLocalCodeResponse>> findAllLocalCode(@PathVariable(name = "groupCode") String groupCode){
+    public ResponseEntity<List<FindLocalCodeResponse>> findAllLocalCode(@PathVariable(name = "groupCode") String groupCode,
+                                                                        WebRequest webRequest){
         log.info("findAllLocalCode - Call");
 
         try {
+            // 코드 테이블 버전이 같으면 조회 없이 304
+            String eTag = ConditionalGet.toETag(localCodeService.findCodeTable().getVersion() + "-" + groupCode);
+            if (webRequest.checkNotModified(eTag)) return null;
+
             List<FindLocalCodeResponse> findLocalCodeResponseList = localCodeService.findAllLocalCode(groupCode);
-            return ResponseEntity.ok().body(findLocalCodeResponseList);
+            return conditionalGet.ok(findLocalCodeResponseList, eTag, CacheControl.maxAge(codeMaxAge, TimeUnit.SECONDS).cachePublic());
         } catch (NotFoundException e){
             return ResponseEntity.badRequest().body(null);
         } catch (RuntimeException e){
@@ -36,6 +61,22 @@ public class LocalCodeController {
         }
     }
 
+    // 전체 코드 테이블, If-None-Match 가 현재 버전과 같으면 304
+    // 구독하는 서비스가 매번 버전을 확인하도록 no-cache (조건부 요청으로만 재사용)
+    @GetMapping("/code")
+    public ResponseEntity<FindCodeTableResponse> findCodeTable(WebRequest webRequest){
+        log.info("findCodeTable - Call");
+
+        try {
+            FindCodeTableResponse findCodeTableResponse = localCodeService.findCodeTable();
+            String eTag = ConditionalGet.toETag(findCodeTableResponse.getVersion());
+            if (webRequest.checkNotModified(eTag)) return null;
+            return conditionalGet.ok(findCodeTableResponse, eTag, CacheControl.noCache());
+        } catch (RuntimeException e){
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
     @GetMapping("/local/{name}")
     public ResponseEntity<FindLocalCodeResponse> findLocalCode(@PathVariable(name = "name") String name){
         log.info("findLocalCode - Call");
@@ -64,12 +105,14 @@ public class LocalCodeController {
         }
     }
 
+    // content=false 면 본문(desc)을 빼고 조회
     @PostMapping("/source")
-    public ResponseEntity<List<GetSourceResponse>> getSource(@RequestBody List<Long> sourceIdList){
+    public ResponseEntity<List<GetSourceResponse>> getSource(@RequestBody List<Long> sourceIdList,
+                                                             @RequestParam(defaultValue = "true") Boolean content){
         log.info("getSource - Call");
 
         try {
-            List<GetSourceResponse> getSourceResponseList = localCodeService.getSource(sourceIdList);
+            List<GetSourceResponse> getSourceResponseList = sourceService.getSource(sourceIdList, content);
             return ResponseEntity.ok().body(getSourceResponseList);
         } catch (NotFoundException e){
             e.printStackTrace();
@@ -79,4 +122,33 @@ public class LocalCodeController {
             return ResponseEntity.internalServerError().body(null);
         }
     }
+
+    // 재전송 기사로 판별된 소스만 (source_id -> 대표 source_id)
+    @PostMapping("/source/canonical")
+    public ResponseEntity<Map<Long, Long>> findCanonicalSource(@RequestBody List<Long> sourceIdList){
+        log.info("findCanonicalSource - Call");
+
+        try {
+            Map<Long, Long> canonicalMap = sourceDuplicateService.findCanonical(sourceIdList);
+            return ResponseEntity.ok().body(canonicalMap);
+        } catch (RuntimeException e){
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
+    // 서비스 간 호출용 : 중복 소스 id 전체를 Roaring 비트맵 직렬화 형식으로 내려보냄 (집계에서 제외)
+    @GetMapping(value = "/source/duplicate-bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void findDuplicateBitmap(HttpServletResponse response){
+        log.info("findDuplicateBitmap - Call");
+
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            // 비트맵으로 나타낼 수 없는 소스 id 가 있으면 422 (호출한 쪽은 중복을 제외하지 않음)
+            if (!sourceDuplicateService.writeDuplicateBitmap(response.getOutputStream()))
+                response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        } catch (IOException | RuntimeException e){
+            log.error(e.getMessage());
+            if (!response.isCommitted()) response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package com.trendflow.common.local.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 전체 코드 테이블 (version 은 내용의 해시, ETag 로도 사용)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FindCodeTableResponse {
+    private String version;
+    private List<FindLocalCodeResponse> localCodeList;
+    private List<FindRelateCodeResponse> relateCodeList;
+}
@@ -2,6 +2,7 @@ package com.trendflow.common.local.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.trendflow.common.local.entity.Source;
+import com.trendflow.common.local.entity.SourceCard;
 import lombok.Builder;
 import lombok.Data;
 
@@ -17,6 +18,7 @@ public class GetSourceResponse {
     private String thumbnail;
     private String title;
     private String desc;
+    private String snippet;
     private LocalDate date;
     private String link;
 
@@ -26,11 +28,23 @@ public class GetSourceResponse {
                 .thumbnail(source.getThumbImg())
                 .title(source.getTitle())
                 .desc(source.getContent())
+                .snippet(source.getSnippet())
                 .date(source.getRegDt())
                 .link(source.getLink())
                 .build();
     }
 
+    public static GetSourceResponse of(SourceCard sourceCard) {
+        return GetSourceResponse.builder()
+                .platformCode(sourceCard.getPlatformCode())
+                .thumbnail(sourceCard.getThumbImg())
+                .title(sourceCard.getTitle())
+                .snippet(sourceCard.getSnippet())
+                .date(sourceCard.getRegDt())
+                .link(sourceCard.getLink())
+                .build();
+    }
+
     public static List<GetSourceResponse> toList(List<Source> sourceList) {
         return sourceList.stream()
                 .map(GetSourceResponse::of)
@@ -1,6 +1,8 @@
 package com.trendflow.common.local.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -12,6 +14,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
+@Cacheable
+// snippet, fingerprint, canonical_id 는 SourceContentService 가 JDBC 로 바꾸고 커밋 후 이 영역에서 해당 id 를 지움
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "source")
 @Table(name = "source")
 public class Source {
     @Id
@@ -26,6 +31,14 @@ public class Source {
     private String title;
     @Column(name = "link")
     private String link;
+    @Column(name = "snippet")
+    private String snippet;
+    @Column(name = "fingerprint")
+    private Long fingerprint;
+    // 재전송 기사면 원본의 source_id, 아니면 자기 자신 (판별 전이면 NULL)
+    @Column(name = "canonical_id")
+    private Long canonicalId;
+    // 압축 전 원문, SourceContentService 가 source_content 로 옮기면 NULL
     @Column(name = "content")
     private String content;
     @Column(name = "reg_dt")
@@ -0,0 +1,14 @@
+package com.trendflow.common.local.entity;
+
+import java.time.LocalDate;
+
+// 본문(content)을 뺀 소스 조회 결과
+public interface SourceCard {
+    Long getSourceId();
+    String getPlatformCode();
+    String getTitle();
+    String getLink();
+    String getSnippet();
+    LocalDate getRegDt();
+    String getThumbImg();
+}
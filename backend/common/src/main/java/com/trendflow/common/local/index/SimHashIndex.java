@@ -0,0 +1,155 @@
+package com.trendflow.common.local.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 본문 SimHash (64bit) 색인
+// 해밍 거리 3 이하인 두 지문은 16bit 씩 나눈 4 개 밴드 중 하나가 반드시 같으므로 밴드 값으로 후보를 바로 찾음
+public class SimHashIndex {
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final int SHINGLE = 3;
+    // 짧은 글(트윗 등)은 지문이 쉽게 겹치므로 제외
+    private static final int MIN_LENGTH = 50;
+
+    // 밴드 별 (밴드 값 -> 같은 밴드 값을 가진 소스)
+    private final List<Map<Integer, List<Entry>>> bandList = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxDistance;
+    private int size = 0;
+    // 색인에 남아 있는 가장 이른 날짜, 가장 최근 날짜
+    private volatile int since;
+    private volatile int latest = 0;
+
+    public SimHashIndex(int maxDistance, int since) {
+        if (maxDistance >= BANDS) throw new IllegalArgumentException("maxDistance must be less than " + BANDS);
+        this.maxDistance = maxDistance;
+        this.since = since;
+        for (int i = 0; i < BANDS; i++) bandList.add(new HashMap<>());
+    }
+
+    public int getSince() {
+        return since;
+    }
+
+    public int getLatest() {
+        return latest;
+    }
+
+    // 공백을 정리한 본문의 글자 3-gram SimHash, 너무 짧으면 null
+    public static Long fingerprint(String content) {
+        if (content == null) return null;
+        String text = content.replaceAll("\\s+", " ").trim();
+        if (text.length() < MIN_LENGTH) return null;
+
+        int[] weight = new int[64];
+        for (int i = 0; i + SHINGLE <= text.length(); i++) {
+            long hash = hash(text.substring(i, i + SHINGLE));
+            for (int bit = 0; bit < 64; bit++) weight[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) if (weight[bit] > 0) fingerprint |= 1L << bit;
+        return fingerprint;
+    }
+
+    // 가장 가까운 지문을 가진 소스의 대표 source_id (거리가 같으면 작은 id), 없으면 null
+    public Long findCanonical(long fingerprint) {
+        lock.readLock().lock();
+        try {
+            Long canonicalId = null;
+            int closest = maxDistance + 1;
+            for (int band = 0; band < BANDS; band++) {
+                List<Entry> entryList = bandList.get(band).get(band(fingerprint, band));
+                if (entryList == null) continue;
+                for (Entry entry : entryList) {
+                    int distance = Long.bitCount(entry.fingerprint ^ fingerprint);
+                    if (distance > closest) continue;
+                    if (distance == closest && canonicalId != null && canonicalId <= entry.canonicalId) continue;
+                    closest = distance;
+                    canonicalId = entry.canonicalId;
+                }
+            }
+            return canonicalId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(long fingerprint, long canonicalId, int regDt) {
+        Entry entry = new Entry(fingerprint, canonicalId, regDt);
+        lock.writeLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++)
+                bandList.get(band).computeIfAbsent(band(fingerprint, band), k -> new ArrayList<>()).add(entry);
+            size++;
+            if (regDt > latest) latest = regDt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // before 이전 날짜 항목 제거
+    public void prune(int before) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            for (int band = 0; band < BANDS; band++) {
+                for (Iterator<List<Entry>> iterator = bandList.get(band).values().iterator(); iterator.hasNext(); ) {
+                    List<Entry> entryList = iterator.next();
+                    int now = entryList.size();
+                    entryList.removeIf(entry -> entry.regDt < before);
+                    if (band == 0) removed += now - entryList.size();
+                    if (entryList.isEmpty()) iterator.remove();
+                }
+            }
+            size -= removed;
+            if (before > since) since = before;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int band(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+
+    // FNV-1a 뒤에 splitmix64 로 비트를 섞음
+    private static long hash(String shingle) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : shingle.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static class Entry {
+        private final long fingerprint;
+        private final long canonicalId;
+        private final int regDt;
+
+        private Entry(long fingerprint, long canonicalId, int regDt) {
+            this.fingerprint = fingerprint;
+            this.canonicalId = canonicalId;
+            this.regDt = regDt;
+        }
+    }
+}
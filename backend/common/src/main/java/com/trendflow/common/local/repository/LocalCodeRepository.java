@@ -2,13 +2,26 @@ package com.trendflow.common.local.repository;
 
 import com.trendflow.common.local.entity.LocalCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 @Repository
 public interface LocalCodeRepository extends JpaRepository<LocalCode, String> {
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "code-query")
+    })
     List<LocalCode> findByGroupCode(String groupCode);
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "code-query")
+    })
     Optional<LocalCode> findByName(String name);
 }
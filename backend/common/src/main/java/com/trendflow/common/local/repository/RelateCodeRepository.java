@@ -2,11 +2,20 @@ package com.trendflow.common.local.repository;
 
 import com.trendflow.common.local.entity.RelateCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 @Repository
 public interface RelateCodeRepository extends JpaRepository<RelateCode, String> {
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "code-query")
+    })
     List<RelateCode> findByCode(String code);
 }
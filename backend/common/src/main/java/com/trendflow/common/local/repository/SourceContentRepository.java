@@ -0,0 +1,131 @@
+package com.trendflow.common.local.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 압축 본문(source_content)과 공유 사전(source_dict) 조회, 저장
+@Repository
+@RequiredArgsConstructor
+public class SourceContentRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    public static class CompressedContent {
+        private Long sourceId;
+        private Integer dictId;
+        private Integer length;
+        private byte[] body;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    public static class SourceDigest {
+        private Long sourceId;
+        private String snippet;
+        private Long fingerprint;
+        private Long canonicalId;
+    }
+
+    public interface UncompactedConsumer {
+        void accept(Long sourceId, String content, Integer regDt);
+    }
+
+    // 아직 옮기지 않은 원문 (source_id 가 after 보다 큰 것부터)
+    // content 에는 인덱스가 없으므로 PK 범위로 시작 위치를 잡아서 이미 옮긴 앞쪽 행을 읽지 않음
+    public void findUncompacted(Long after, Integer limit, UncompactedConsumer consumer) {
+        jdbcTemplate.query("SELECT s.source_id, s.content, s.reg_dt FROM source s " +
+                        "WHERE s.source_id > ? AND s.content IS NOT NULL ORDER BY s.source_id LIMIT ?",
+                rs -> {
+                    consumer.accept(rs.getLong(1), rs.getString(2), rs.getInt(3));
+                }, after, limit);
+    }
+
+    // 옮긴 본문 중 가장 큰 source_id (없으면 0), 압축은 source_id 순이므로 다음 압축의 시작 위치
+    public Long findLastCompacted() {
+        Long last = jdbcTemplate.queryForObject("SELECT MAX(c.source_id) FROM source_content c", Long.class);
+        return last == null ? 0L : last;
+    }
+
+    // 가장 큰 source_id (없으면 0), 이보다 뒤에 옮긴 본문이 있으면 새로 들어온 원문이 없음
+    public Long findLastSource() {
+        Long last = jdbcTemplate.queryForObject("SELECT MAX(s.source_id) FROM source s", Long.class);
+        return last == null ? 0L : last;
+    }
+
+    // 사전 학습용 최근 압축 본문
+    public void findRecent(Integer limit, Consumer<CompressedContent> consumer) {
+        jdbcTemplate.query("SELECT c.source_id, c.dict_id, c.length, c.body FROM source_content c ORDER BY c.source_id DESC LIMIT ?",
+                rs -> {
+                    consumer.accept(toCompressedContent(rs.getLong(1), rs.getObject(2, Integer.class), rs.getInt(3), rs.getBytes(4)));
+                }, limit);
+    }
+
+    public Map<Long, CompressedContent> findBySourceIdIn(Collection<Long> sourceIdList) {
+        Map<Long, CompressedContent> contentMap = new HashMap<>();
+        if (sourceIdList.isEmpty()) return contentMap;
+
+        namedParameterJdbcTemplate.query("SELECT c.source_id, c.dict_id, c.length, c.body FROM source_content c WHERE c.source_id IN (:sourceIdList)",
+                new MapSqlParameterSource("sourceIdList", sourceIdList),
+                rs -> {
+                    contentMap.put(rs.getLong(1), toCompressedContent(rs.getLong(1), rs.getObject(2, Integer.class), rs.getInt(3), rs.getBytes(4)));
+                });
+        return contentMap;
+    }
+
+    // 본문을 옮기고 원문 칸을 비움 (같은 트랜잭션에서 호출)
+    public void saveAll(List<CompressedContent> contentList, List<SourceDigest> digestList) {
+        List<Object[]> contentArgs = new ArrayList<>();
+        for (CompressedContent content : contentList)
+            contentArgs.add(new Object[]{ content.getSourceId(), content.getDictId(), content.getLength(), content.getBody() });
+        List<Object[]> sourceArgs = new ArrayList<>();
+        for (SourceDigest digest : digestList)
+            sourceArgs.add(new Object[]{ digest.getSnippet(), digest.getFingerprint(), digest.getCanonicalId(), digest.getSourceId() });
+
+        jdbcTemplate.batchUpdate("INSERT INTO source_content (source_id, dict_id, length, body) VALUES (?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE dict_id = VALUES(dict_id), length = VALUES(length), body = VALUES(body)", contentArgs);
+        jdbcTemplate.batchUpdate("UPDATE source SET snippet = ?, fingerprint = ?, canonical_id = ?, content = NULL WHERE source_id = ?", sourceArgs);
+    }
+
+    public Map<Integer, byte[]> findDictMap() {
+        Map<Integer, byte[]> dictMap = new HashMap<>();
+        jdbcTemplate.query("SELECT d.dict_id, d.dict FROM source_dict d",
+                rs -> {
+                    dictMap.put(rs.getInt(1), rs.getBytes(2));
+                });
+        return dictMap;
+    }
+
+    public Integer findLastDictId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(d.dict_id) FROM source_dict d", Integer.class);
+    }
+
+    public void saveDict(byte[] dict, Integer sampleCount, Integer regDt) {
+        jdbcTemplate.update("INSERT INTO source_dict (dict, sample_count, reg_dt) VALUES (?, ?, ?)", dict, sampleCount, regDt);
+    }
+
+    private static CompressedContent toCompressedContent(Long sourceId, Integer dictId, Integer length, byte[] body) {
+        return CompressedContent.builder()
+                .sourceId(sourceId)
+                .dictId(dictId)
+                .length(length)
+                .body(body)
+                .build();
+    }
+}
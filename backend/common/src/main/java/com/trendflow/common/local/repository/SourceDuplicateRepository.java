@@ -0,0 +1,59 @@
+package com.trendflow.common.local.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class SourceDuplicateRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public interface FingerprintConsumer {
+        void accept(long fingerprint, long canonicalId, int regDt);
+    }
+
+    // 지문 색인 재생성용 : 날짜 이후 지문이 있는 소스
+    public void findFingerprintSince(Integer since, FingerprintConsumer consumer) {
+        jdbcTemplate.query("SELECT s.fingerprint, s.canonical_id, s.reg_dt FROM source s " +
+                        "WHERE s.reg_dt >= ? AND s.fingerprint IS NOT NULL",
+                rs -> {
+                    consumer.accept(rs.getLong(1), rs.getLong(2), rs.getInt(3));
+                }, since);
+    }
+
+    // 지문이 있는 소스 중 가장 최근 날짜 (없으면 null)
+    public Integer findMaxRegDt() {
+        return jdbcTemplate.queryForObject("SELECT MAX(s.reg_dt) FROM source s WHERE s.fingerprint IS NOT NULL", Integer.class);
+    }
+
+    // 다른 소스에 중복으로 연결된 source_id 전체 (idx_source_canonical_id 만 읽음)
+    public void findDuplicateSourceId(LongConsumer consumer) {
+        jdbcTemplate.query("SELECT s.source_id FROM source s WHERE s.canonical_id <> s.source_id",
+                rs -> {
+                    consumer.accept(rs.getLong(1));
+                });
+    }
+
+    // 중복으로 연결된 소스만 (source_id -> 대표 source_id)
+    public Map<Long, Long> findCanonicalMap(Collection<Long> sourceIdList) {
+        Map<Long, Long> canonicalMap = new HashMap<>();
+        if (sourceIdList.isEmpty()) return canonicalMap;
+
+        namedParameterJdbcTemplate.query("SELECT s.source_id, s.canonical_id FROM source s " +
+                        "WHERE s.source_id IN (:sourceIdList) AND s.canonical_id <> s.source_id",
+                new MapSqlParameterSource("sourceIdList", sourceIdList),
+                rs -> {
+                    canonicalMap.put(rs.getLong(1), rs.getLong(2));
+                });
+        return canonicalMap;
+    }
+}
@@ -1,6 +1,7 @@
 package com.trendflow.common.local.repository;
 
 import com.trendflow.common.local.entity.Source;
+import com.trendflow.common.local.entity.SourceCard;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,8 +13,13 @@ import java.util.List;
 @Repository
 public interface SourceRepository extends JpaRepository<Source, Long> {
 
-    @Query(value = "SELECT s.source_id, s.brand_id, s.platform_code, s.title, s.link, s.content, DATE(s.reg_dt) as reg_dt, thumb_img " +
+    @Query(value = "SELECT s.source_id, s.brand_id, s.platform_code, s.title, s.link, s.snippet, s.fingerprint, s.canonical_id, s.content, DATE(s.reg_dt) as reg_dt, thumb_img " +
             "FROM source s " +
             "WHERE s.source_id IN (:sourceIdList);", nativeQuery = true)
     List<Source> findByPlatformCodeInAndSourceIdIn(@Param("sourceIdList") List<Long> sourceIdList);
+
+    @Query(value = "SELECT s.source_id as sourceId, s.platform_code as platformCode, s.title as title, s.link as link, s.snippet as snippet, DATE(s.reg_dt) as regDt, s.thumb_img as thumbImg " +
+            "FROM source s " +
+            "WHERE s.source_id IN (:sourceIdList);", nativeQuery = true)
+    List<SourceCard> findCardBySourceIdIn(@Param("sourceIdList") List<Long> sourceIdList);
 }
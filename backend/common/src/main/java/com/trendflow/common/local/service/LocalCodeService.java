@@ -3,50 +3,98 @@ package com.trendflow.common.local.service;
 import com.trendflow.common.global.code.Code;
 import com.trendflow.common.global.exception.NotFoundException;
 import com.trendflow.common.local.dto.request.GetSourceRequest;
+import com.trendflow.common.local.dto.response.FindCodeTableResponse;
 import com.trendflow.common.local.dto.response.FindLocalCodeResponse;
 import com.trendflow.common.local.dto.response.FindRelateCodeResponse;
-import com.trendflow.common.local.dto.response.GetSourceResponse;
 import com.trendflow.common.local.entity.LocalCode;
 import com.trendflow.common.local.entity.RelateCode;
-import com.trendflow.common.local.entity.Source;
 import com.trendflow.common.local.repository.LocalCodeRepository;
 import com.trendflow.common.local.repository.RelateCodeRepository;
-import com.trendflow.common.local.repository.SourceRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LocalCodeService {
     private final LocalCodeRepository localCodeRepository;
     private final RelateCodeRepository relateCodeRepository;
-    private final SourceRepository sourceRepository;
+    private final StringRedisTemplate stringRedisTemplate;
 
-    @Transactional
+    @Value("${common.code.channel:common:code}")
+    private String codeChannel;
+
+    // 마지막으로 읽은 전체 코드 테이블
+    private volatile FindCodeTableResponse codeTable;
+
+    @Transactional(readOnly = true)
     public List<FindLocalCodeResponse> findAllLocalCode(String groupCode) {
         List<LocalCode> localCodeList = localCodeRepository.findByGroupCode(groupCode);
         return FindLocalCodeResponse.toList(localCodeList);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public FindLocalCodeResponse findLocalCode(String name) throws RuntimeException{
         LocalCode localCode = localCodeRepository.findByName(name)
                 .orElseThrow(() -> new NotFoundException());
         return FindLocalCodeResponse.of(localCode);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<FindRelateCodeResponse> findRelateCode(String code) {
         List<RelateCode> relateCodeList = relateCodeRepository.findByCode(code);
         return FindRelateCodeResponse.toList(relateCodeList);
     }
 
-    public List<GetSourceResponse> getSource(List<Long> sourceIdList) throws RuntimeException {
-        List<Source> sourceList = sourceRepository.findByPlatformCodeInAndSourceIdIn(sourceIdList);
-        return GetSourceResponse.toList(sourceList);
+    public FindCodeTableResponse findCodeTable() {
+        FindCodeTableResponse now = codeTable;
+        if (now == null) now = checkCodeTable();
+        return now;
+    }
+
+    // 코드 테이블을 다시 읽어서 버전이 바뀌었으면 구독 중인 서비스에 새 버전을 알림
+    // 코드는 DB 에서 직접 바뀌므로 주기적으로 확인 (인스턴스가 여럿이면 같은 버전이 여러 번 나갈 수 있음, 받는 쪽에서 무시)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${common.code.check:60000}")
+    public FindCodeTableResponse checkCodeTable() {
+        List<FindLocalCodeResponse> localCodeList = FindLocalCodeResponse.toList(localCodeRepository.findAll(Sort.by("code")));
+        List<FindRelateCodeResponse> relateCodeList = FindRelateCodeResponse.toList(relateCodeRepository.findAll(Sort.by("platformCode")));
+
+        StringBuilder content = new StringBuilder();
+        for (FindLocalCodeResponse localCode : localCodeList)
+            content.append(localCode.getCode()).append('|').append(localCode.getName()).append('|')
+                    .append(localCode.getGroupCode()).append('|').append(localCode.getGroupName()).append('\n');
+        for (FindRelateCodeResponse relateCode : relateCodeList)
+            content.append(relateCode.getPlatformCode()).append('|').append(relateCode.getCode()).append('\n');
+        String version = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+
+        FindCodeTableResponse before = codeTable;
+        FindCodeTableResponse now = FindCodeTableResponse.builder()
+                .version(version)
+                .localCodeList(localCodeList)
+                .relateCodeList(relateCodeList)
+                .build();
+        codeTable = now;
+
+        if (before == null || !before.getVersion().equals(version)) {
+            try {
+                stringRedisTemplate.convertAndSend(codeChannel, version);
+                log.info("checkCodeTable - publish {}", version);
+            } catch (RuntimeException e) {
+                // 알림이 빠져도 구독하는 쪽의 주기적 확인으로 반영됨
+                log.error("checkCodeTable - {}", e.getMessage());
+            }
+        }
+        return now;
     }
 }
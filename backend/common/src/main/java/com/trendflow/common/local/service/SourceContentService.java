@@ -0,0 +1,291 @@
+package com.trendflow.common.local.service;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.trendflow.common.global.code.CommonCacheCode;
+import com.trendflow.common.global.redis.CacheLockRepository;
+import com.trendflow.common.local.entity.Source;
+import com.trendflow.common.local.index.SimHashIndex;
+import com.trendflow.common.local.repository.SourceContentRepository;
+import com.trendflow.common.local.repository.SourceContentRepository.CompressedContent;
+import com.trendflow.common.local.repository.SourceContentRepository.SourceDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// 소스 본문 압축 저장
+// 수집기가 source.content 에 쓴 원문을 주기적으로 Zstd (최근 본문으로 학습한 공유 사전) 로 압축해서 source_content 로 옮기고
+// source 에는 짧은 snippet 과 SimHash 지문, 대표 source_id 만 남김. 본문은 요청한 경우에만 source_content 에서 읽어서 풂
+// 압축과 사전 학습은 리스를 가진 인스턴스 하나만 실행
+@Slf4j
+@Service
+public class SourceContentService {
+    private final SourceContentRepository sourceContentRepository;
+    private final SourceDuplicateService sourceDuplicateService;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheLockRepository cacheLockRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${common.source-content.level:6}")
+    private Integer level;
+    @Value("${common.source-content.batch-size:500}")
+    private Integer batchSize;
+    @Value("${common.source-content.snippet-length:100}")
+    private Integer snippetLength;
+    @Value("${common.source-content.dict-size:114688}")
+    private Integer dictSize;
+    @Value("${common.source-content.train-samples:5000}")
+    private Integer trainSamples;
+    @Value("${common.source-content.train-bytes:16777216}")
+    private Integer trainBytes;
+    @Value("${common.source-content.compact:60000}")
+    private Long compactDelay;
+    @Value("${common.source-content.idle-max:900000}")
+    private Long idleMax;
+    @Value("${common.source-content.lease-expire:300}")
+    private Integer leaseExpire;
+
+    // 옮길 원문이 없으면 다음 확인을 compact 주기부터 두 배씩 idle-max 까지 미룸
+    private long idleDelay = 0;
+    private long idleUntil = 0;
+
+    // dict_id -> 해제용 사전, 압축은 가장 최근 사전으로
+    private volatile Map<Integer, ZstdDictDecompress> decompressMap;
+    private volatile CompressDict compressDict;
+
+    public SourceContentService(SourceContentRepository sourceContentRepository, SourceDuplicateService sourceDuplicateService,
+                                TransactionTemplate transactionTemplate, CacheLockRepository cacheLockRepository,
+                                EntityManagerFactory entityManagerFactory) {
+        this.sourceContentRepository = sourceContentRepository;
+        this.sourceDuplicateService = sourceDuplicateService;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheLockRepository = cacheLockRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // 압축된 본문을 풀어서 돌려줌 (source_content 에 없는 id 는 빠짐)
+    public Map<Long, String> findContent(Collection<Long> sourceIdList) {
+        Map<Long, CompressedContent> compressedMap = sourceContentRepository.findBySourceIdIn(sourceIdList);
+        Map<Long, String> contentMap = new HashMap<>();
+        for (CompressedContent compressed : compressedMap.values())
+            contentMap.put(compressed.getSourceId(), decompress(compressed));
+        return contentMap;
+    }
+
+    // 마지막으로 옮긴 source_id 다음부터 옮김, 그 뒤로 들어온 소스가 없으면 원문을 찾지 않음
+    @Scheduled(initialDelayString = "${common.source-content.compact:60000}", fixedDelayString = "${common.source-content.compact:60000}")
+    public void compact() {
+        if (System.currentTimeMillis() < idleUntil) return;
+
+        try {
+            Optional<Long> token = lease();
+            if (!token.isPresent()) {
+                sourceDuplicateService.release();
+                return;
+            }
+
+            Long after = sourceContentRepository.findLastCompacted();
+            int total = after >= sourceContentRepository.findLastSource() ? 0 : compactFrom(after, token.get());
+            if (total > 0) log.info("compact - {}", total);
+            backoff(total);
+        } catch (DataAccessException e) {
+            log.error("compact - {}", e.getMessage());
+        }
+    }
+
+    // 자동 증가 id 는 커밋 순서와 다를 수 있으므로 시작 위치보다 앞에 늦게 커밋된 원문을 하루 한 번 처음부터 찾아서 옮김
+    @Scheduled(cron = "${common.source-content.sweep-cron:0 0 4 * * *}")
+    public void sweep() {
+        try {
+            Optional<Long> token = lease();
+            if (!token.isPresent()) return;
+
+            int total = compactFrom(0L, token.get());
+            if (total > 0) log.info("sweep - {}", total);
+        } catch (DataAccessException e) {
+            log.error("sweep - {}", e.getMessage());
+        }
+    }
+
+    // 최근 본문으로 사전을 다시 학습 (이후 압축부터 적용, 기존 본문은 dict_id 로 이전 사전을 계속 사용)
+    @Scheduled(cron = "${common.source-content.train-cron:0 0 5 1 * *}")
+    public void retrain() {
+        try {
+            if (!lease().isPresent()) return;
+
+            if (decompressMap == null) loadDict();
+            List<byte[]> sampleList = new ArrayList<>();
+            sourceContentRepository.findRecent(trainSamples, compressed -> sampleList.add(decompress(compressed).getBytes(StandardCharsets.UTF_8)));
+            train(sampleList);
+        } catch (DataAccessException e) {
+            log.error("retrain - {}", e.getMessage());
+        }
+    }
+
+    // 배치마다 리스를 연장하고 잃으면 (토큰이 바뀌면) 중단
+    private int compactFrom(Long after, Long token) {
+        sourceDuplicateService.prepare(token);
+
+        // 다른 인스턴스가 새로 학습한 사전이 있으면 그 사전으로 압축
+        CompressDict dict = compressDict;
+        Integer lastDictId = sourceContentRepository.findLastDictId();
+        if (decompressMap == null || (lastDictId != null && (dict == null || !lastDictId.equals(dict.dictId)))) loadDict();
+
+        // 사전이 없으면 아직 옮기지 않은 원문으로 먼저 학습
+        if (compressDict == null) {
+            List<byte[]> sampleList = new ArrayList<>();
+            sourceContentRepository.findUncompacted(after, trainSamples, (sourceId, content, regDt) -> sampleList.add(content.getBytes(StandardCharsets.UTF_8)));
+            train(sampleList);
+        }
+
+        int total = 0;
+        Long last = after;
+        while (last != null) {
+            if (total > 0 && !token.equals(lease().orElse(null))) {
+                log.warn("compact - lease lost at {}", last);
+                break;
+            }
+            List<Long> sourceIdList = compactBatch(last);
+            total += sourceIdList.size();
+            last = sourceIdList.size() < batchSize ? null : sourceIdList.get(sourceIdList.size() - 1);
+        }
+        return total;
+    }
+
+    // 옮긴 source_id 목록 (source_id 순)
+    private List<Long> compactBatch(Long after) {
+        CompressDict dict = compressDict;
+        List<Long> sourceIdList = new ArrayList<>();
+        List<CompressedContent> contentList = new ArrayList<>();
+        List<SourceDigest> digestList = new ArrayList<>();
+        SourceDuplicateService.LinkBatch linkBatch = sourceDuplicateService.newBatch();
+        sourceContentRepository.findUncompacted(after, batchSize, (sourceId, content, regDt) -> {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            sourceIdList.add(sourceId);
+            contentList.add(CompressedContent.builder()
+                    .sourceId(sourceId)
+                    .dictId(dict == null ? null : dict.dictId)
+                    .length(bytes.length)
+                    .body(dict == null ? Zstd.compress(bytes, level) : Zstd.compress(bytes, dict.dict))
+                    .build());
+
+            // 옮기는 김에 재전송 기사인지 확인해서 대표 source_id 를 연결
+            Long fingerprint = SimHashIndex.fingerprint(content);
+            digestList.add(SourceDigest.builder()
+                    .sourceId(sourceId)
+                    .snippet(toSnippet(content))
+                    .fingerprint(fingerprint)
+                    .canonicalId(fingerprint == null ? sourceId : sourceDuplicateService.link(linkBatch, sourceId, fingerprint, regDt))
+                    .build());
+        });
+        if (contentList.isEmpty()) return sourceIdList;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            sourceContentRepository.saveAll(contentList, digestList);
+            sourceDuplicateService.applyAfterCommit(linkBatch);
+        });
+        // JDBC 로 바꾼 행은 2차 캐시가 모르므로 커밋 후 지움 (다음 조회에서 DB 값을 다시 읽음)
+        Cache cache = entityManagerFactory.getCache();
+        for (Long sourceId : sourceIdList) cache.evict(Source.class, sourceId);
+        return sourceIdList;
+    }
+
+    private void backoff(int total) {
+        if (total > 0) {
+            idleDelay = 0;
+            idleUntil = 0;
+            return;
+        }
+        idleDelay = idleDelay == 0 ? compactDelay : Math.min(idleDelay * 2, idleMax);
+        idleUntil = System.currentTimeMillis() + idleDelay;
+    }
+
+    // 잡고 있던 리스면 연장
+    private Optional<Long> lease() {
+        return cacheLockRepository.tryLease(CommonCacheCode.SOURCE_CONTENT_LEASE.getCode(),
+                CommonCacheCode.SOURCE_CONTENT_LEASE_TOKEN.getCode(), owner, leaseExpire);
+    }
+
+    private void train(List<byte[]> sampleList) {
+        // 샘플이 너무 적으면 학습이 실패하므로 사전 없이 압축
+        if (sampleList.size() < trainSamples / 5) return;
+
+        try {
+            ZstdDictTrainer trainer = new ZstdDictTrainer(trainBytes, dictSize);
+            int sampleCount = 0;
+            for (byte[] sample : sampleList) {
+                if (!trainer.addSample(sample)) break;
+                sampleCount++;
+            }
+            byte[] dict = trainer.trainSamples();
+
+            sourceContentRepository.saveDict(dict, sampleCount, Integer.parseInt(LocalDate.now().toString().replace("-", "")));
+            loadDict();
+            log.info("train - dict {} from {} samples", compressDict.dictId, sampleCount);
+        } catch (RuntimeException e) {
+            log.error("train - {}", e.getMessage());
+        }
+    }
+
+    private synchronized void loadDict() {
+        Map<Integer, byte[]> dictMap = sourceContentRepository.findDictMap();
+        Map<Integer, ZstdDictDecompress> nextMap = new HashMap<>();
+        for (Map.Entry<Integer, byte[]> dict : dictMap.entrySet())
+            nextMap.put(dict.getKey(), new ZstdDictDecompress(dict.getValue()));
+
+        if (!dictMap.isEmpty()) {
+            Integer last = Collections.max(dictMap.keySet());
+            compressDict = new CompressDict(last, new ZstdDictCompress(dictMap.get(last), level));
+        }
+        decompressMap = nextMap;
+    }
+
+    private String decompress(CompressedContent compressed) {
+        byte[] bytes;
+        if (compressed.getDictId() == null) bytes = Zstd.decompress(compressed.getBody(), compressed.getLength());
+        else {
+            // 다른 인스턴스가 새로 학습한 사전이면 다시 읽음
+            if (decompressMap == null || !decompressMap.containsKey(compressed.getDictId())) loadDict();
+            ZstdDictDecompress dict = decompressMap.get(compressed.getDictId());
+            if (dict == null) throw new IllegalStateException("unknown source dict : " + compressed.getDictId());
+            bytes = Zstd.decompress(compressed.getBody(), dict, compressed.getLength());
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String toSnippet(String content) {
+        String snippet = content.replaceAll("\\s+", " ").trim();
+        if (snippet.codePointCount(0, snippet.length()) <= snippetLength) return snippet;
+        return snippet.substring(0, snippet.offsetByCodePoints(0, snippetLength));
+    }
+
+    private static class CompressDict {
+        private final Integer dictId;
+        private final ZstdDictCompress dict;
+
+        private CompressDict(Integer dictId, ZstdDictCompress dict) {
+            this.dictId = dictId;
+            this.dict = dict;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.trendflow.common.local.service;
+
+import com.trendflow.common.local.index.SimHashIndex;
+import com.trendflow.common.local.repository.SourceDuplicateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 재전송 기사 판별
+// 가장 최근 지문 날짜부터 common.source-duplicate.days 일의 본문 지문을 SimHashIndex 에 두고, 새 소스가 들어오면 가장 가까운 지문의 대표 source_id 에 연결
+// 지문은 배치 트랜잭션이 커밋된 뒤에만 색인에 들어감
+// 연결은 압축 리스를 가진 인스턴스에서만 일어나고, 리스 토큰이 바뀌면 (다른 인스턴스가 그동안 연결했을 수 있으므로) DB 에서 다시 만듦
+@Slf4j
+@Service
+public class SourceDuplicateService {
+    private static final DateTimeFormatter REG_DT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final SourceDuplicateRepository sourceDuplicateRepository;
+    private final Counter duplicateCounter;
+
+    @Value("${common.source-duplicate.days:7}")
+    private Integer days;
+    @Value("${common.source-duplicate.distance:3}")
+    private Integer distance;
+
+    private volatile SimHashIndex simHashIndex;
+    // 색인을 만든 리스 토큰
+    private Long indexToken;
+
+    public SourceDuplicateService(SourceDuplicateRepository sourceDuplicateRepository, MeterRegistry meterRegistry) {
+        this.sourceDuplicateRepository = sourceDuplicateRepository;
+        this.duplicateCounter = meterRegistry.counter("common.source.duplicate");
+
+        Gauge.builder("common.source-duplicate.size", this, service -> service.simHashIndex == null ? 0 : service.simHashIndex.size())
+                .register(meterRegistry);
+    }
+
+    // 압축 전 호출 : 리스를 새로 잡았으면 기존 색인을 버림
+    public synchronized void prepare(Long token) {
+        if (token.equals(indexToken)) return;
+        simHashIndex = null;
+        indexToken = token;
+    }
+
+    // 리스를 잃으면 색인을 들고 있지 않음
+    public synchronized void release() {
+        simHashIndex = null;
+        indexToken = null;
+    }
+
+    public LinkBatch newBatch() {
+        return new LinkBatch(distance);
+    }
+
+    // 대표 source_id (가까운 지문이 없으면 자기 자신) 를 돌려주고 배치에 기록 (색인에는 커밋 후 applyAfterCommit 에서 넣음)
+    // 같은 배치 안의 앞선 소스와도 비교 (색인에 있는 더 오래된 소스가 우선)
+    public Long link(LinkBatch batch, Long sourceId, Long fingerprint, Integer regDt) {
+        SimHashIndex now = simHashIndex;
+        if (now == null) now = rebuild();
+
+        Long canonicalId = now.findCanonical(fingerprint);
+        if (canonicalId == null) canonicalId = batch.pending.findCanonical(fingerprint);
+        if (canonicalId == null) canonicalId = sourceId;
+        else duplicateCounter.increment();
+
+        batch.pending.add(fingerprint, canonicalId, regDt);
+        batch.linkedList.add(new Linked(fingerprint, canonicalId, regDt));
+        return canonicalId;
+    }
+
+    // 배치 트랜잭션 안에서 호출 : 커밋되면 배치의 지문을 색인에 넣음 (롤백되면 버림)
+    public void applyAfterCommit(LinkBatch batch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(batch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(batch);
+            }
+        });
+    }
+
+    // 색인 기간보다 오래된 소스는 넣지 않음 (백필 시 전체 본문 지문이 힙에 올라오지 않도록)
+    // 그 사이 색인을 버렸으면 넣지 않음 (다음에 DB 에서 만들 때 커밋된 지문이 포함됨)
+    private synchronized void apply(LinkBatch batch) {
+        SimHashIndex now = simHashIndex;
+        if (now == null) return;
+
+        for (Linked linked : batch.linkedList) {
+            // 더 최근 날짜가 들어오면 기간을 앞으로 밀고 오래된 지문을 버림
+            if (linked.regDt > now.getLatest()) {
+                int before = toRegDt(toDate(linked.regDt).minusDays(days));
+                if (before > now.getSince()) now.prune(before);
+            }
+            if (linked.regDt >= now.getSince()) now.add(linked.fingerprint, linked.canonicalId, linked.regDt);
+        }
+    }
+
+    public Map<Long, Long> findCanonical(List<Long> sourceIdList) {
+        return sourceDuplicateRepository.findCanonicalMap(sourceIdList);
+    }
+
+    // 서비스 간 호출용 : 중복 소스 id 를 Roaring 비트맵 직렬화 형식으로 씀
+    // 32 비트 범위를 벗어난 소스 id 가 있으면 아무것도 쓰지 않고 false
+    public boolean writeDuplicateBitmap(OutputStream out) throws IOException {
+        MutableRoaringBitmap bitmap = new MutableRoaringBitmap();
+        boolean[] outOfRange = {false};
+        sourceDuplicateRepository.findDuplicateSourceId(sourceId -> {
+            if (sourceId < 0 || sourceId > 0xFFFFFFFFL) outOfRange[0] = true;
+            else if (!outOfRange[0]) bitmap.add((int) sourceId);
+        });
+        if (outOfRange[0]) return false;
+        bitmap.runOptimize();
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        bitmap.serialize(dataOut);
+        dataOut.flush();
+        return true;
+    }
+
+    // 실패하면 색인을 두지 않고 예외를 그대로 던짐 (압축을 중단하고 다음 주기에 다시 만듦)
+    private synchronized SimHashIndex rebuild() {
+        if (simHashIndex != null) return simHashIndex;
+
+        Integer maxRegDt = sourceDuplicateRepository.findMaxRegDt();
+        int since = toRegDt((maxRegDt == null ? LocalDate.now() : toDate(maxRegDt)).minusDays(days));
+
+        SimHashIndex next = new SimHashIndex(distance, since);
+        sourceDuplicateRepository.findFingerprintSince(since, next::add);
+        log.info("rebuild - simhash index : {}", next.size());
+        simHashIndex = next;
+        return next;
+    }
+
+    // 한 압축 배치에서 연결한 지문
+    public static class LinkBatch {
+        private final SimHashIndex pending;
+        private final List<Linked> linkedList = new ArrayList<>();
+
+        private LinkBatch(int distance) {
+            this.pending = new SimHashIndex(distance, 0);
+        }
+    }
+
+    private static final class Linked {
+        private final long fingerprint;
+        private final long canonicalId;
+        private final int regDt;
+
+        private Linked(long fingerprint, long canonicalId, int regDt) {
+            this.fingerprint = fingerprint;
+            this.canonicalId = canonicalId;
+            this.regDt = regDt;
+        }
+    }
+
+    private static int toRegDt(LocalDate date) {
+        return Integer.parseInt(date.format(REG_DT));
+    }
+
+    private static LocalDate toDate(Integer regDt) {
+        return LocalDate.parse(String.valueOf(regDt), REG_DT);
+    }
+}
@@ -0,0 +1,108 @@
+package com.trendflow.common.local.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trendflow.common.local.dto.response.GetSourceResponse;
+import com.trendflow.common.local.entity.Source;
+import com.trendflow.common.local.entity.SourceCard;
+import com.trendflow.common.local.repository.SourceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+// 소스 id 목록 조회
+// 캐시에 없는 id 를 chunkSize 개씩 나눠서 sourceQueryExecutor 에서 병렬로 조회하고 요청 순서대로 돌려줌
+// 수집된 소스는 바뀌지 않으므로 id 별로 캐시 (본문 포함 / 제외 따로)
+@Slf4j
+@Service
+public class SourceService {
+    private final SourceRepository sourceRepository;
+    private final SourceContentService sourceContentService;
+    private final ThreadPoolTaskExecutor sourceQueryExecutor;
+    private final Integer chunkSize;
+
+    private final Cache<Long, GetSourceResponse> sourceCache;
+    private final Cache<Long, GetSourceResponse> cardCache;
+
+    public SourceService(SourceRepository sourceRepository,
+                         SourceContentService sourceContentService,
+                         @Qualifier("sourceQueryExecutor") ThreadPoolTaskExecutor sourceQueryExecutor,
+                         @Value("${common.source.chunk-size:200}") Integer chunkSize,
+                         @Value("${common.source.cache-size:20000}") Long cacheSize,
+                         MeterRegistry meterRegistry) {
+        this.sourceRepository = sourceRepository;
+        this.sourceContentService = sourceContentService;
+        this.sourceQueryExecutor = sourceQueryExecutor;
+        this.chunkSize = chunkSize;
+
+        this.sourceCache = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+        this.cardCache = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sourceCache, "common.source");
+        CaffeineCacheMetrics.monitor(meterRegistry, cardCache, "common.source-card");
+    }
+
+    // 중복 id 는 처음 나온 위치에 한 번만, 없는 id 는 빠짐
+    public List<GetSourceResponse> getSource(List<Long> sourceIdList, boolean content) throws RuntimeException {
+        Cache<Long, GetSourceResponse> cache = content ? sourceCache : cardCache;
+        List<Long> idList = new ArrayList<>(new LinkedHashSet<>(sourceIdList));
+
+        Map<Long, GetSourceResponse> sourceMap = new HashMap<>(cache.getAllPresent(idList));
+        List<Long> missList = idList.stream()
+                .filter(sourceId -> !sourceMap.containsKey(sourceId))
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<Map<Long, GetSourceResponse>>> futureList = new ArrayList<>();
+        for (int from = 0; from < missList.size(); from += chunkSize) {
+            List<Long> chunk = missList.subList(from, Math.min(missList.size(), from + chunkSize));
+            futureList.add(CompletableFuture.supplyAsync(() -> findChunk(chunk, content), sourceQueryExecutor));
+        }
+
+        try {
+            for (CompletableFuture<Map<Long, GetSourceResponse>> future : futureList) {
+                Map<Long, GetSourceResponse> found = future.join();
+                cache.putAll(found);
+                sourceMap.putAll(found);
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+
+        return idList.stream()
+                .map(sourceMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, GetSourceResponse> findChunk(List<Long> chunk, boolean content) {
+        Map<Long, GetSourceResponse> found = new HashMap<>();
+        if (content) {
+            List<Long> compactedList = new ArrayList<>();
+            for (Source source : sourceRepository.findByPlatformCodeInAndSourceIdIn(chunk)) {
+                found.put(source.getSourceId(), GetSourceResponse.of(source));
+                if (source.getContent() == null) compactedList.add(source.getSourceId());
+            }
+            // 압축해서 옮긴 본문은 따로 읽어서 풂
+            sourceContentService.findContent(compactedList)
+                    .forEach((sourceId, desc) -> found.get(sourceId).setDesc(desc));
+        } else {
+            for (SourceCard sourceCard : sourceRepository.findCardBySourceIdIn(chunk))
+                found.put(sourceCard.getSourceId(), GetSourceResponse.of(sourceCard));
+        }
+        return found;
+    }
+}
@@ -0,0 +1,41 @@
+--
+-- 기준 스키마 (이미 운영 중인 DB 는 baseline 으로 건너뜀)
+--
+
+--
+-- Table structure for table `local_code`
+--
+
+CREATE TABLE IF NOT EXISTS `local_code` (
+  `code` varchar(10) NOT NULL,
+  `name` varchar(50) NOT NULL,
+  `group_code` varchar(10) NOT NULL,
+  `group_name` varchar(50) NOT NULL,
+  PRIMARY KEY (`code`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='공통 코드';
+
+--
+-- Table structure for table `relate_code`
+--
+
+CREATE TABLE IF NOT EXISTS `relate_code` (
+  `platform_code` varchar(10) NOT NULL,
+  `code` varchar(10) NOT NULL,
+  PRIMARY KEY (`platform_code`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='플랫폼 코드 묶음';
+
+--
+-- Table structure for table `source`
+--
+
+CREATE TABLE IF NOT EXISTS `source` (
+  `source_id` bigint NOT NULL,
+  `brand_id` bigint DEFAULT NULL,
+  `platform_code` varchar(10) NOT NULL,
+  `title` varchar(500) DEFAULT NULL,
+  `link` varchar(1000) DEFAULT NULL,
+  `content` mediumtext,
+  `reg_dt` int NOT NULL,
+  `thumb_img` varchar(1000) DEFAULT NULL,
+  PRIMARY KEY (`source_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='수집한 기사, 블로그, 트윗';
@@ -0,0 +1,30 @@
+--
+-- 소스 본문을 Zstd 로 압축해서 별도 테이블로 분리
+-- 수집기는 계속 source.content 에 쓰고, SourceContentService 가 주기적으로 압축해서 옮긴 뒤 content 를 NULL 로 비움
+--
+
+ALTER TABLE `source` ADD COLUMN `snippet` varchar(200) DEFAULT NULL COMMENT '본문 앞부분 요약' AFTER `link`;
+
+--
+-- Table structure for table `source_dict`
+--
+
+CREATE TABLE IF NOT EXISTS `source_dict` (
+  `dict_id` int NOT NULL AUTO_INCREMENT,
+  `dict` mediumblob NOT NULL,
+  `sample_count` int NOT NULL,
+  `reg_dt` int NOT NULL,
+  PRIMARY KEY (`dict_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='소스 본문 Zstd 공유 사전';
+
+--
+-- Table structure for table `source_content`
+--
+
+CREATE TABLE IF NOT EXISTS `source_content` (
+  `source_id` bigint NOT NULL,
+  `dict_id` int DEFAULT NULL COMMENT 'NULL 이면 사전 없이 압축',
+  `length` int NOT NULL COMMENT '압축 전 UTF-8 바이트 수',
+  `body` mediumblob NOT NULL,
+  PRIMARY KEY (`source_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='Zstd 압축한 소스 본문';
@@ -0,0 +1,10 @@
+--
+-- 본문 SimHash 지문과 중복 소스의 대표 source_id
+-- canonical_id 가 자기 자신이 아니면 다른 소스의 재전송 기사 (집계 시 제외하거나 가중치를 줄 수 있음)
+--
+
+ALTER TABLE `source`
+  ADD COLUMN `fingerprint` bigint DEFAULT NULL COMMENT '본문 SimHash' AFTER `snippet`,
+  ADD COLUMN `canonical_id` bigint DEFAULT NULL COMMENT '대표 source_id' AFTER `fingerprint`,
+  ADD KEY `idx_source_reg_dt_fingerprint` (`reg_dt`, `fingerprint`, `canonical_id`),
+  ADD KEY `idx_source_canonical_id` (`canonical_id`);
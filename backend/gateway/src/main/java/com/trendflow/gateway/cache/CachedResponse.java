@@ -0,0 +1,41 @@
+package com.trendflow.gateway.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 게이트웨이에 저장한 응답 (Redis 에는 JSON 으로 저장, 본문은 base64)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedResponse {
+    private Integer status;
+    private String contentType;
+    private String eTag;
+    private String cacheControl;
+    private byte[] body;
+    // 저장 시각 (epoch ms)
+    private Long storedAt;
+    // 유효 시간 (초)
+    private Long maxAge;
+    // 유효 시간이 지난 뒤 재검증하는 동안 내려줄 수 있는 시간 (초)
+    private Long staleWhileRevalidate;
+
+    public boolean isFresh(long now) {
+        return now < storedAt + maxAge * 1000;
+    }
+
+    public boolean isUsable(long now) {
+        return now < expireAt();
+    }
+
+    public long expireAt() {
+        return storedAt + (maxAge + staleWhileRevalidate) * 1000;
+    }
+
+    public long age(long now) {
+        return Math.max(0, (now - storedAt) / 1000);
+    }
+}
@@ -0,0 +1,136 @@
+package com.trendflow.gateway.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// 라우트 응답 캐시 : 메모리 (Caffeine) 를 먼저 보고, 라우트 설정이 redis 면 Redis 를 두 번째 단계로 사용
+// 항목은 stale-while-revalidate 까지 지나면 만료
+@Slf4j
+@Component
+public class ResponseCache {
+    private static final String KEY_PREFIX = "gateway:response:";
+
+    private final Cache<String, CachedResponse> memory;
+    private final ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+
+    public ResponseCache(@Value("${gateway.response-cache.max-bytes:67108864}") Long maxBytes,
+                         ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.getBody().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return remain(response);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return remain(response);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "gateway-response");
+    }
+
+    public Mono<CachedResponse> find(String key, boolean redis) {
+        CachedResponse cached = memory.getIfPresent(key);
+        if (cached != null || !redis) return Mono.justOrEmpty(cached);
+
+        ReactiveStringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) return Mono.empty();
+
+        // Redis 장애는 캐시 미스로 처리
+        return redisTemplate.opsForValue().get(KEY_PREFIX + key)
+                .flatMap(json -> Mono.justOrEmpty(read(json)))
+                .filter(response -> response.isUsable(System.currentTimeMillis()))
+                .doOnNext(response -> memory.put(key, response))
+                .onErrorResume(e -> {
+                    log.error("find - redis : {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // 메모리에는 바로 넣고 Redis 저장은 응답을 기다리게 하지 않음
+    public void save(String key, CachedResponse response, boolean redis) {
+        memory.put(key, response);
+        if (!redis) return;
+
+        ReactiveStringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) return;
+
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            redisTemplate.opsForValue()
+                    .set(KEY_PREFIX + key, json, Duration.ofSeconds(response.getMaxAge() + response.getStaleWhileRevalidate()))
+                    .subscribe(saved -> {}, e -> log.error("save - redis : {}", e.getMessage()));
+        } catch (JsonProcessingException e) {
+            log.error("save - {}", e.getMessage());
+        }
+    }
+
+    // 라우트 + 정규화한 경로 + 이름순으로 정렬한 쿼리 (같은 이름의 값 순서는 유지)
+    public static String toKey(String routeId, URI uri) {
+        String path = uri.getRawPath() == null ? "/" : uri.getRawPath().replaceAll("/{2,}", "/");
+        if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+        path = UriUtils.decode(path, StandardCharsets.UTF_8);
+
+        MultiValueMap<String, String> queryMap = UriComponentsBuilder.fromUri(uri).build(true).getQueryParams();
+        StringJoiner query = new StringJoiner("&");
+        for (Map.Entry<String, List<String>> param : new TreeMap<>(queryMap).entrySet()) {
+            String name = UriUtils.decode(param.getKey(), StandardCharsets.UTF_8);
+            for (String value : param.getValue()) {
+                query.add(value == null ? name : name + "=" + UriUtils.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return routeId + ":" + path + "?" + query;
+    }
+
+    private CachedResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, CachedResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("read - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long remain(CachedResponse response) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, response.expireAt() - System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.trendflow.gateway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+// 응답 캐시의 Redis 단계는 gateway.response-cache.redis.enabled=true 일 때만 연결
+// 자동 설정은 GatewayApplication 에서 제외했으므로 꺼져 있으면 연결 팩토리도, Redis health 지표도 만들지 않음
+// (Redis 없이 띄운 게이트웨이의 health 가 DOWN 이 되어 라우팅에서 빠지지 않도록)
+@Configuration
+@ConditionalOnProperty(name = "gateway.response-cache.redis.enabled", havingValue = "true")
+@Import({ RedisAutoConfiguration.class, RedisReactiveAutoConfiguration.class })
+public class RedisConfig {
+}
@@ -0,0 +1,240 @@
+package com.trendflow.gateway.filter;
+
+import com.trendflow.gateway.cache.CachedResponse;
+import com.trendflow.gateway.cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 모든 사용자에게 같은 응답을 주는 GET 라우트의 응답 캐시
+// 서비스의 Cache-Control 을 따르고 (no-store, no-cache, private 는 저장하지 않음, max-age 가 없으면 ttl 사용)
+// 유효 시간이 지난 항목은 stale-while-revalidate 동안 그대로 내려주면서 게이트웨이 자신에게 다시 요청해서 갱신
+@Component
+@Slf4j
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+    public static final String CACHE_HEADER = "X-Cache";
+    public static final String REVALIDATE_HEADER = "X-Cache-Revalidate";
+
+    private final ResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+
+    // 갱신 요청이 진행 중인 키
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    // 설정 정보를 제공하는 클래스
+    @Data
+    public static class Config {
+        // 응답에 max-age 가 없을 때 유효 시간 (초)
+        private long ttl = 60;
+        // 응답에 stale-while-revalidate 가 없을 때 값 (초)
+        private long staleWhileRevalidate = 30;
+        // Redis 에도 저장해서 게이트웨이 인스턴스끼리 공유 (gateway.response-cache.redis.enabled 가 꺼져 있으면 메모리만)
+        private boolean redis = false;
+        // 저장할 응답 본문 최대 크기 (byte)
+        private int maxBytes = 1048576;
+    }
+
+    public ResponseCacheFilter(ResponseCache responseCache, MeterRegistry meterRegistry, WebClient.Builder webClientBuilder) {
+        super(Config.class);
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+        this.webClient = webClientBuilder.build();
+    }
+
+    // 응답 본문을 가로채야 하므로 응답을 쓰는 필터보다 먼저 실행
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route == null ? "unknown" : route.getId();
+            String key = ResponseCache.toKey(routeId, request.getURI());
+
+            // 갱신 요청이거나 클라이언트가 no-cache 로 요청하면 저장된 응답을 보지 않음
+            if (isRevalidate(request) || directive(request.getHeaders().getCacheControl(), "no-cache") != null) {
+                record(routeId, "bypass");
+                return fetch(exchange, chain, key, config);
+            }
+
+            return responseCache.find(key, config.isRedis())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(cached -> {
+                        long now = System.currentTimeMillis();
+                        if (cached.isPresent() && cached.get().isFresh(now)) {
+                            record(routeId, "hit");
+                            return write(exchange, cached.get(), "HIT", now);
+                        }
+                        if (cached.isPresent() && cached.get().isUsable(now)) {
+                            record(routeId, "stale");
+                            revalidate(request, key);
+                            return write(exchange, cached.get(), "STALE", now);
+                        }
+                        record(routeId, "miss");
+                        return fetch(exchange, chain, key, config);
+                    });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    // 서비스로 보내고 저장 가능한 응답이면 클라이언트에 흘려보내면서 maxBytes 까지만 복사해두고, 끝나면 저장
+    // Content-Length 나 복사한 크기가 maxBytes 를 넘으면 저장하지 않고 그대로 흘려보냄 (본문 전체를 모아두지 않음)
+    private Mono<Void> fetch(ServerWebExchange exchange, GatewayFilterChain chain, String key, Config config) {
+        ServerHttpResponse original = exchange.getResponse();
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(original) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                getHeaders().set(CACHE_HEADER, "MISS");
+                CachedResponse policy = toPolicy(getRawStatusCode(), getHeaders(), config);
+                if (policy == null || getHeaders().getContentLength() > config.getMaxBytes()) return super.writeWith(body);
+
+                ByteArrayOutputStream copy = new ByteArrayOutputStream();
+                Flux<DataBuffer> tapped = Flux.<DataBuffer>from(body)
+                        .doOnNext(buffer -> {
+                            if (copy.size() > config.getMaxBytes()) return;
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.asByteBuffer().get(bytes);
+                            copy.write(bytes, 0, bytes.length);
+                        })
+                        .doOnComplete(() -> {
+                            if (copy.size() > config.getMaxBytes()) return;
+                            policy.setBody(copy.toByteArray());
+                            responseCache.save(key, policy, config.isRedis());
+                        });
+                return super.writeWith(tapped);
+            }
+        };
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, String result, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(CACHE_HEADER, result);
+        headers.set(HttpHeaders.AGE, String.valueOf(cached.age(now)));
+        if (cached.getCacheControl() != null) headers.setCacheControl(cached.getCacheControl());
+        if (cached.getETag() != null) {
+            headers.setETag(cached.getETag());
+            if (exchange.getRequest().getHeaders().getIfNoneMatch().contains(cached.getETag())) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return response.setComplete();
+            }
+        }
+        if (cached.getContentType() != null) headers.setContentType(MediaType.parseMediaType(cached.getContentType()));
+        response.setRawStatusCode(cached.getStatus());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    // 같은 키의 갱신은 하나만 (응답을 쓰는 동안 이 필터가 새 값을 저장)
+    private void revalidate(ServerHttpRequest request, String key) {
+        InetSocketAddress local = request.getLocalAddress();
+        if (local == null || !revalidating.add(key)) return;
+
+        URI uri = UriComponentsBuilder.fromUri(request.getURI())
+                .scheme("http")
+                .host("localhost")
+                .port(local.getPort())
+                .build(true)
+                .toUri();
+        webClient.get()
+                .uri(uri)
+                .header(REVALIDATE_HEADER, "1")
+                .retrieve()
+                .toBodilessEntity()
+                .doFinally(signal -> revalidating.remove(key))
+                .subscribe(entity -> {}, e -> log.error("revalidate - {} : {}", key, e.getMessage()));
+    }
+
+    // 외부에서 갱신 헤더로 캐시를 우회하지 못하도록 자기 자신이 보낸 요청만 인정
+    private boolean isRevalidate(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        return request.getHeaders().containsKey(REVALIDATE_HEADER)
+                && remote != null && remote.getAddress() != null && remote.getAddress().isLoopbackAddress();
+    }
+
+    // 저장할 수 없는 응답이면 null
+    private static CachedResponse toPolicy(Integer status, HttpHeaders headers, Config config) {
+        if (status == null || status != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) return null;
+
+        String cacheControl = headers.getCacheControl();
+        if (directive(cacheControl, "no-store") != null
+                || directive(cacheControl, "no-cache") != null
+                || directive(cacheControl, "private") != null) return null;
+
+        Long maxAge = seconds(directive(cacheControl, "s-maxage"));
+        if (maxAge == null) maxAge = seconds(directive(cacheControl, "max-age"));
+        if (maxAge == null) maxAge = config.getTtl();
+        if (maxAge <= 0) return null;
+        Long staleWhileRevalidate = seconds(directive(cacheControl, "stale-while-revalidate"));
+        if (staleWhileRevalidate == null) staleWhileRevalidate = config.getStaleWhileRevalidate();
+
+        MediaType contentType = headers.getContentType();
+        return CachedResponse.builder()
+                .status(status)
+                .contentType(contentType == null ? null : contentType.toString())
+                .eTag(headers.getETag())
+                .cacheControl(cacheControl)
+                .storedAt(System.currentTimeMillis())
+                .maxAge(maxAge)
+                .staleWhileRevalidate(Math.max(0, staleWhileRevalidate))
+                .build();
+    }
+
+    // Cache-Control 지시자 값 (값이 없는 지시자는 "", 없으면 null)
+    private static String directive(String cacheControl, String name) {
+        if (cacheControl == null) return null;
+        for (String token : cacheControl.split(",")) {
+            String[] pair = token.trim().split("=", 2);
+            if (!pair[0].trim().toLowerCase(Locale.ROOT).equals(name)) continue;
+            return pair.length == 1 ? "" : pair[1].trim().replace("\"", "");
+        }
+        return null;
+    }
+
+    private static Long seconds(String value) {
+        if (value == null || value.isEmpty()) return null;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void record(String routeId, String result) {
+        meterRegistry.counter("gateway.response-cache.requests", "route", routeId, "result", result).increment();
+    }
+}
@@ -0,0 +1,205 @@
+package com.trendflow.gateway.filter;
+
+import com.trendflow.gateway.cache.CachedResponse;
+import com.trendflow.gateway.cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+// 같은 GET 요청이 동시에 들어오면 하나만 서비스로 보내고 나머지는 그 응답을 받아서 그대로 내려줌
+// 필터를 붙인 라우트에만 적용 (ResponseCacheFilter 와 같이 쓰면 그 뒤에 둘 것)
+// 기다리는 요청은 timeout 이 지나거나 공유할 수 없는 응답이면 (200 이 아님, 쿠키, maxBytes 초과) 직접 서비스로 보냄
+// 앞선 요청이 오류로 끝나거나 취소되면 기다리던 요청 중 하나만 이어서 서비스로 보내고 나머지는 그 응답을 다시 기다림
+@Component
+@Slf4j
+public class SingleFlightFilter extends AbstractGatewayFilterFactory<SingleFlightFilter.Config> {
+    public static final String SINGLE_FLIGHT_HEADER = "X-Single-Flight";
+
+    private final MeterRegistry meterRegistry;
+
+    // 진행 중인 요청 키 -> 응답을 기다리는 sink
+    private final ConcurrentMap<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 설정 정보를 제공하는 클래스
+    @Data
+    public static class Config {
+        // 앞선 요청의 응답을 기다리는 최대 시간 (ms)
+        private long timeout = 3000;
+        // 공유할 응답 본문 최대 크기 (byte)
+        private int maxBytes = 1048576;
+    }
+
+    public SingleFlightFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 응답 본문을 복사해야 하므로 응답을 쓰는 필터보다 먼저 실행
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route == null ? "unknown" : route.getId();
+            String key = ResponseCache.toKey(routeId, request.getURI());
+
+            return join(exchange, chain, routeId, key, config, System.currentTimeMillis() + config.getTimeout());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    // 진행 중인 같은 요청이 없으면 앞장서고, 있으면 deadline 까지 그 응답을 기다림
+    private Mono<Void> join(ServerWebExchange exchange, GatewayFilterChain chain, String routeId, String key, Config config, long deadline) {
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader == null) {
+            record(routeId, "leader");
+            return lead(exchange, chain, key, sink, config);
+        }
+
+        long remain = deadline - System.currentTimeMillis();
+        if (remain <= 0) {
+            record(routeId, "timeout");
+            return chain.filter(exchange);
+        }
+
+        // 기다리는 동안의 결과만 구분 (직접 보낸 요청의 오류는 그대로 전달)
+        return leader.asMono()
+                .timeout(Duration.ofMillis(remain))
+                .materialize()
+                .flatMap(signal -> {
+                    if (signal.hasValue()) {
+                        record(routeId, "shared");
+                        return write(exchange, signal.get());
+                    }
+                    // 앞선 요청이 실패 : 먼저 자리를 잡은 요청 하나가 새로 앞장섬
+                    if (signal.getThrowable() instanceof LeaderFailedException) {
+                        return join(exchange, chain, routeId, key, config, deadline);
+                    }
+                    record(routeId, signal.getThrowable() instanceof TimeoutException ? "timeout" : "fallback");
+                    return chain.filter(exchange);
+                });
+    }
+
+    // 응답을 클라이언트에 흘려보내면서 maxBytes 까지만 복사해두고, 끝나면 기다리는 요청에 전달
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key, Sinks.One<CachedResponse> sink, Config config) {
+        ServerHttpResponse original = exchange.getResponse();
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(original) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                CachedResponse shared = toShared(getRawStatusCode(), getHeaders());
+                Long contentLength = getHeaders().getContentLength();
+                if (shared == null || contentLength > config.getMaxBytes()) {
+                    release(key, sink);
+                    return super.writeWith(body);
+                }
+
+                ByteArrayOutputStream copy = new ByteArrayOutputStream();
+                Flux<DataBuffer> tapped = Flux.<DataBuffer>from(body)
+                        .doOnNext(buffer -> {
+                            if (copy.size() > config.getMaxBytes()) return;
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.asByteBuffer().get(bytes);
+                            copy.write(bytes, 0, bytes.length);
+                        })
+                        .doOnComplete(() -> {
+                            if (copy.size() > config.getMaxBytes()) return;
+                            shared.setBody(copy.toByteArray());
+                            sink.tryEmitValue(shared);
+                        });
+                return super.writeWith(tapped);
+            }
+        };
+
+        // 오류, 취소면 기다리는 요청 중 하나가 이어받고, 본문 없이 끝나면 기다리는 요청은 직접 서비스로 보냄
+        return chain.filter(exchange.mutate().response(decorated).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    if (signal == SignalType.ON_ERROR || signal == SignalType.CANCEL) sink.tryEmitError(LeaderFailedException.INSTANCE);
+                    else sink.tryEmitEmpty();
+                });
+    }
+
+    // 새로 들어온 요청은 앞선 요청을 기다리지 않도록 먼저 빼고 알림
+    private void release(String key, Sinks.One<CachedResponse> sink) {
+        inFlight.remove(key, sink);
+        sink.tryEmitEmpty();
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(SINGLE_FLIGHT_HEADER, "SHARED");
+        if (shared.getCacheControl() != null) headers.setCacheControl(shared.getCacheControl());
+        if (shared.getETag() != null) {
+            headers.setETag(shared.getETag());
+            if (exchange.getRequest().getHeaders().getIfNoneMatch().contains(shared.getETag())) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return response.setComplete();
+            }
+        }
+        if (shared.getContentType() != null) headers.setContentType(MediaType.parseMediaType(shared.getContentType()));
+        response.setRawStatusCode(shared.getStatus());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+    }
+
+    // 다른 사용자에게 내려줄 수 없는 응답이면 null
+    private static CachedResponse toShared(Integer status, HttpHeaders headers) {
+        if (status == null || status != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) return null;
+
+        MediaType contentType = headers.getContentType();
+        return CachedResponse.builder()
+                .status(status)
+                .contentType(contentType == null ? null : contentType.toString())
+                .eTag(headers.getETag())
+                .cacheControl(headers.getCacheControl())
+                .storedAt(System.currentTimeMillis())
+                .maxAge(0L)
+                .staleWhileRevalidate(0L)
+                .build();
+    }
+
+    private void record(String routeId, String result) {
+        meterRegistry.counter("gateway.single-flight.requests", "route", routeId, "result", result).increment();
+    }
+
+    // 앞선 요청이 오류로 끝나거나 취소됨 (기다리는 요청에만 전달되므로 스택을 남기지 않음)
+    private static class LeaderFailedException extends RuntimeException {
+        private static final LeaderFailedException INSTANCE = new LeaderFailedException();
+
+        private LeaderFailedException() {
+            super("single flight leader failed", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.trendflow.gateway.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ResponseCacheTest {
+
+    @Test
+    void toKeyNormalizesPathAndQuery() {
+        String key = ResponseCache.toKey("analyze", URI.create("http://gateway/analyze/social?keyword=%EC%82%BC%EC%84%B1&startDate=2023-02-01&endDate=2023-02-07"));
+
+        assertEquals(key, ResponseCache.toKey("analyze", URI.create("http://gateway//analyze/social/?endDate=2023-02-07&keyword=%EC%82%BC%EC%84%B1&startDate=2023-02-01")));
+        assertEquals("analyze:/analyze/social?endDate=2023-02-07&keyword=삼성&startDate=2023-02-01", key);
+    }
+
+    @Test
+    void toKeySeparatesRoutesAndValues() {
+        URI uri = URI.create("http://gateway/keyword/hot?a=1&a=2");
+
+        assertNotEquals(ResponseCache.toKey("keyword", uri), ResponseCache.toKey("other", uri));
+        assertNotEquals(ResponseCache.toKey("keyword", uri), ResponseCache.toKey("keyword", URI.create("http://gateway/keyword/hot?a=2&a=1")));
+    }
+}
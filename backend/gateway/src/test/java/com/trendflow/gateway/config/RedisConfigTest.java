@@ -0,0 +1,36 @@
+package com.trendflow.gateway.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.redis.RedisReactiveHealthContributorAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.health.HealthContributorAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Redis 자동 설정은 제외했으므로 RedisConfig 로만 연결되는지 확인
+class RedisConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(RedisConfig.class)
+            .withConfiguration(AutoConfigurations.of(HealthContributorAutoConfiguration.class,
+                    RedisReactiveHealthContributorAutoConfiguration.class));
+
+    @Test
+    void disabledByDefault() {
+        contextRunner.run(context -> {
+            assertFalse(context.containsBean("redisHealthContributor"));
+            assertTrue(context.getBeansOfType(ReactiveRedisConnectionFactory.class).isEmpty());
+        });
+    }
+
+    @Test
+    void enabled() {
+        contextRunner.withPropertyValues("gateway.response-cache.redis.enabled=true")
+                .run(context -> {
+                    assertNotNull(context.getBean(ReactiveStringRedisTemplate.class));
+                    assertTrue(context.containsBean("redisHealthContributor"));
+                });
+    }
+}
@@ -0,0 +1,202 @@
+package com.trendflow.gateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendflow.gateway.cache.CachedResponse;
+import com.trendflow.gateway.cache.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 서비스 대신 응답을 쓰는 체인으로 필터 단위 동작 확인
+class ResponseCacheFilterTest {
+    private static final String URL = "http://gateway/keyword/hot?date=2023-02-01";
+    private static final String KEY = ResponseCache.toKey("unknown", URI.create(URL));
+
+    private final ResponseCache responseCache = new ResponseCache(1048576L,
+            new StaticListableBeanFactory().getBeanProvider(ReactiveStringRedisTemplate.class), new ObjectMapper(), new SimpleMeterRegistry());
+    private final ResponseCacheFilter responseCacheFilter = new ResponseCacheFilter(responseCache, new SimpleMeterRegistry(), WebClient.builder());
+    private final GatewayFilter filter = responseCacheFilter.apply(new ResponseCacheFilter.Config());
+
+    private final AtomicInteger upstreamCount = new AtomicInteger();
+
+    @Test
+    void hitAfterMiss() {
+        GatewayFilterChain chain = upstream("public, max-age=120", "body");
+
+        MockServerWebExchange first = get();
+        filter.filter(first, chain).block();
+        MockServerWebExchange second = get();
+        filter.filter(second, chain).block();
+
+        assertEquals(1, upstreamCount.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("body", second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void noStoreAndPrivateAreNotStored() {
+        for (String cacheControl : new String[]{ "no-store", "private, max-age=60", "no-cache" }) {
+            upstreamCount.set(0);
+            GatewayFilterChain chain = upstream(cacheControl, "body");
+
+            filter.filter(get(), chain).block();
+            MockServerWebExchange second = get();
+            filter.filter(second, chain).block();
+
+            assertEquals(2, upstreamCount.get(), cacheControl);
+            assertEquals("MISS", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER), cacheControl);
+            assertNull(responseCache.find(KEY, false).block(), cacheControl);
+        }
+    }
+
+    @Test
+    void maxAgeOverridesTtl() {
+        filter.filter(get(), upstream("public, max-age=120, stale-while-revalidate=5", "body")).block();
+        CachedResponse cached = responseCache.find(KEY, false).block();
+        assertEquals(120L, cached.getMaxAge());
+        assertEquals(5L, cached.getStaleWhileRevalidate());
+
+        // s-maxage 가 max-age 보다 우선
+        filter.filter(get(true), upstream("public, max-age=120, s-maxage=30", "body")).block();
+        assertEquals(30L, responseCache.find(KEY, false).block().getMaxAge());
+
+        // 없으면 라우트 설정 ttl, stale-while-revalidate
+        filter.filter(get(true), upstream(null, "body")).block();
+        cached = responseCache.find(KEY, false).block();
+        assertEquals(60L, cached.getMaxAge());
+        assertEquals(30L, cached.getStaleWhileRevalidate());
+    }
+
+    @Test
+    void staleWhileRevalidateServesStoredResponse() {
+        // 유효 시간은 지났지만 stale-while-revalidate 안
+        responseCache.save(KEY, stored(System.currentTimeMillis() - 70000L, 60L, 30L, null), false);
+
+        MockServerWebExchange exchange = get();
+        filter.filter(exchange, upstream("max-age=60", "fresh")).block();
+
+        assertEquals(0, upstreamCount.get());
+        assertEquals("STALE", exchange.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("70", exchange.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals("stored", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void expiredAfterStaleWhileRevalidate() {
+        responseCache.save(KEY, stored(System.currentTimeMillis() - 100000L, 60L, 30L, null), false);
+
+        MockServerWebExchange exchange = get();
+        filter.filter(exchange, upstream("max-age=60", "fresh")).block();
+
+        assertEquals(1, upstreamCount.get());
+        assertEquals("MISS", exchange.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("fresh", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void notModifiedIsReplayedFromStoredETag() {
+        responseCache.save(KEY, stored(System.currentTimeMillis(), 60L, 30L, "\"v1\""), false);
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(URL)
+                .ifNoneMatch("\"v1\""));
+        filter.filter(exchange, upstream("max-age=60", "fresh")).block();
+
+        assertEquals(0, upstreamCount.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertEquals("\"v1\"", exchange.getResponse().getHeaders().getETag());
+        assertEquals("", exchange.getResponse().getBodyAsString().defaultIfEmpty("").block());
+
+        // 다른 ETag 면 저장된 본문
+        MockServerWebExchange other = MockServerWebExchange.from(MockServerHttpRequest.get(URL)
+                .ifNoneMatch("\"v0\""));
+        filter.filter(other, upstream("max-age=60", "fresh")).block();
+        assertEquals(HttpStatus.OK, other.getResponse().getStatusCode());
+        assertEquals("stored", other.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void largeResponseIsPassedThrough() {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setMaxBytes(8);
+        GatewayFilter small = responseCacheFilter.apply(config);
+
+        // Content-Length 가 maxBytes 를 넘으면 모으지 않고 그대로 내려줌
+        MockServerWebExchange first = get();
+        small.filter(first, exchange -> {
+            exchange.getResponse().getHeaders().setContentLength(10);
+            return upstream("max-age=60", "0123456789").filter(exchange);
+        }).block();
+        assertEquals("0123456789", first.getResponse().getBodyAsString().block());
+        assertNull(responseCache.find(KEY, false).block());
+
+        // 길이를 모르는 응답도 흘려보낸 크기가 넘으면 저장하지 않음
+        MockServerWebExchange second = get();
+        small.filter(second, exchange -> {
+            upstreamCount.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setCacheControl("max-age=60");
+            return exchange.getResponse().writeWith(Flux.just("01234", "56789", "abcde")
+                    .map(chunk -> exchange.getResponse().bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        }).block();
+        assertEquals("0123456789abcde", second.getResponse().getBodyAsString().block());
+        assertNull(responseCache.find(KEY, false).block());
+        assertEquals(2, upstreamCount.get());
+
+        // maxBytes 이하면 저장
+        small.filter(get(), upstream("max-age=60", "01234")).block();
+        assertArrayEquals("01234".getBytes(StandardCharsets.UTF_8), responseCache.find(KEY, false).block().getBody());
+    }
+
+    private MockServerWebExchange get() {
+        return get(false);
+    }
+
+    // noCache : 저장된 응답을 보지 않고 서비스로 보냄
+    private MockServerWebExchange get(boolean noCache) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(URL);
+        if (noCache) request.header(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return MockServerWebExchange.from(request);
+    }
+
+    private GatewayFilterChain upstream(String cacheControl, String body) {
+        return exchange -> {
+            upstreamCount.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (cacheControl != null) exchange.getResponse().getHeaders().setCacheControl(cacheControl);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap(body.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static CachedResponse stored(long storedAt, long maxAge, long staleWhileRevalidate, String eTag) {
+        return CachedResponse.builder()
+                .status(HttpStatus.OK.value())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .eTag(eTag)
+                .cacheControl("max-age=" + maxAge)
+                .body("stored".getBytes(StandardCharsets.UTF_8))
+                .storedAt(storedAt)
+                .maxAge(maxAge)
+                .staleWhileRevalidate(staleWhileRevalidate)
+                .build();
+    }
+}
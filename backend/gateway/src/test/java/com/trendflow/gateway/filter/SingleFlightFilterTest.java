@@ -0,0 +1,120 @@
+package com.trendflow.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 같은 GET 을 동시에 보내고 서비스 대신 응답을 쓰는 체인의 호출 수로 확인
+class SingleFlightFilterTest {
+    private static final String URL = "http://gateway/analyze/social?keyword=%EC%82%BC%EC%84%B1";
+    private static final int CONCURRENCY = 5;
+
+    private final SingleFlightFilter singleFlightFilter = new SingleFlightFilter(new SimpleMeterRegistry());
+    private final AtomicInteger upstreamCount = new AtomicInteger();
+
+    @Test
+    void concurrentRequestsShareOneUpstreamCall() {
+        List<MockServerWebExchange> exchangeList = run(new SingleFlightFilter.Config(), upstream(HttpStatus.OK, "body", 200));
+
+        assertEquals(1, upstreamCount.get());
+        for (MockServerWebExchange exchange : exchangeList) {
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals("body", exchange.getResponse().getBodyAsString().block());
+        }
+        // 첫 요청 외에는 공유한 응답
+        for (int i = 1; i < CONCURRENCY; i++)
+            assertEquals("SHARED", exchangeList.get(i).getResponse().getHeaders().getFirst(SingleFlightFilter.SINGLE_FLIGHT_HEADER));
+    }
+
+    @Test
+    void timeoutFallsBackToUpstream() {
+        SingleFlightFilter.Config config = new SingleFlightFilter.Config();
+        config.setTimeout(50);
+
+        List<MockServerWebExchange> exchangeList = run(config, upstream(HttpStatus.OK, "body", 300));
+
+        assertEquals(CONCURRENCY, upstreamCount.get());
+        for (MockServerWebExchange exchange : exchangeList) {
+            assertEquals("body", exchange.getResponse().getBodyAsString().block());
+            assertNull(exchange.getResponse().getHeaders().getFirst(SingleFlightFilter.SINGLE_FLIGHT_HEADER));
+        }
+    }
+
+    @Test
+    void nonOkFallsBackToUpstream() {
+        List<MockServerWebExchange> exchangeList = run(new SingleFlightFilter.Config(), upstream(HttpStatus.INTERNAL_SERVER_ERROR, "error", 200));
+
+        assertEquals(CONCURRENCY, upstreamCount.get());
+        for (MockServerWebExchange exchange : exchangeList)
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void oversizeFallsBackToUpstream() {
+        SingleFlightFilter.Config config = new SingleFlightFilter.Config();
+        config.setMaxBytes(4);
+
+        List<MockServerWebExchange> exchangeList = run(config, upstream(HttpStatus.OK, "0123456789", 200));
+
+        assertEquals(CONCURRENCY, upstreamCount.get());
+        for (MockServerWebExchange exchange : exchangeList)
+            assertEquals("0123456789", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void waiterTakesOverFailedLeader() {
+        // 첫 호출만 실패
+        GatewayFilterChain succeed = upstream(HttpStatus.OK, "body", 200);
+        GatewayFilterChain chain = exchange -> upstreamCount.get() == 0
+                ? Mono.delay(Duration.ofMillis(200)).doOnNext(tick -> upstreamCount.incrementAndGet())
+                        .then(Mono.error(new IllegalStateException("upstream reset")))
+                : succeed.filter(exchange);
+
+        List<MockServerWebExchange> exchangeList = run(new SingleFlightFilter.Config(), chain);
+
+        // 실패한 요청 + 이어받은 요청 하나
+        assertEquals(2, upstreamCount.get());
+        for (int i = 1; i < CONCURRENCY; i++)
+            assertEquals("body", exchangeList.get(i).getResponse().getBodyAsString().block());
+    }
+
+    // 첫 요청이 앞장선 뒤에 나머지를 동시에 보냄 (앞선 요청의 오류는 무시)
+    private List<MockServerWebExchange> run(SingleFlightFilter.Config config, GatewayFilterChain chain) {
+        GatewayFilter filter = singleFlightFilter.apply(config);
+        List<MockServerWebExchange> exchangeList = new ArrayList<>();
+        List<Mono<Void>> requestList = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(URL));
+            exchangeList.add(exchange);
+            requestList.add(filter.filter(exchange, chain).onErrorResume(e -> Mono.empty()));
+        }
+        Flux.merge(requestList).blockLast(Duration.ofSeconds(10));
+        return exchangeList;
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status, String body, long delay) {
+        return exchange -> Mono.delay(Duration.ofMillis(delay))
+                .then(Mono.defer(() -> {
+                    upstreamCount.incrementAndGet();
+                    exchange.getResponse().setStatusCode(status);
+                    exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                            .wrap(body.getBytes(StandardCharsets.UTF_8))));
+                }));
+    }
+}
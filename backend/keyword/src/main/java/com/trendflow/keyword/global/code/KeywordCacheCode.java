@@ -7,9 +7,21 @@ public enum KeywordCacheCode {
     WEEK_HOT_KEYWORD_RESULT("WEEK_HOT_KEYWORD_RESULT"),
 
     RECOMMEND_KEYWORD("RECOMMEND_KEYWORD"),
+    RECOMMEND_KEYWORD_PAST("RECOMMEND_KEYWORD_PAST"),
+
+    RANK_LEASE("RANK_LEASE"),
+    RANK_LEASE_TOKEN("RANK_LEASE_TOKEN"),
+    RANK_FENCE("RANK_FENCE"),
+
+    PARTITION_LOCK("PARTITION_LOCK"),
+
+    ROLLUP_LEASE("ROLLUP_LEASE"),
+    ROLLUP_LEASE_TOKEN("ROLLUP_LEASE_TOKEN"),
 
     RELATE_KEYWORD("RELATE_KEYWORD"),
     RELATE_KEYWORD_RESULT("RELATE_KEYWORD_RESULT"),
+    RELATE_KEYWORD_LOCK("RELATE_KEYWORD_LOCK"),
+    RELATE_KEYWORD_HIT("RELATE_KEYWORD_HIT"),
 
     WORDCLOUD_KEYWORD("WORDCLOUD_KEYWORD"),
 
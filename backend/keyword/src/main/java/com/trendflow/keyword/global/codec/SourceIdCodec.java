@@ -0,0 +1,128 @@
+package com.trendflow.keyword.global.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// 오름차순 소스 id 목록을 앞 값과의 차이 + 1 만 varint (7bit 단위, 상위 비트는 다음 바이트 여부) 로 저장
+// 스트리밍으로 쓰기 위해 개수를 앞에 두지 않고, 끝에 0 (끝 표시) 과 전체 개수를 씀
+// 끝 표시나 개수가 맞지 않으면 (중간에 끊긴 응답) 읽는 쪽에서 예외
+// analyze 서비스에 읽기 전용 사본이 있으므로 형식 변경 시 함께 수정
+public class SourceIdCodec {
+    private static final int END = 0;
+
+    private SourceIdCodec() {}
+
+    public static class Encoder {
+        private final OutputStream out;
+        private long last = 0;
+        private long count = 0;
+
+        public Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        public void write(long sourceId) throws IOException {
+            if (sourceId < last) throw new IllegalArgumentException("source id must be ascending");
+
+            writeVarint(out, sourceId - last + 1);
+            last = sourceId;
+            count++;
+        }
+
+        // 끝 표시와 개수, 모두 쓴 뒤 한 번만 호출
+        public void finish() throws IOException {
+            out.write(END);
+            writeVarint(out, count);
+        }
+    }
+
+    // 한 번에 하나씩 읽음 (전체를 배열로 만들지 않음)
+    public static class Reader {
+        private final InputStream in;
+        private long last = 0;
+        private long count = 0;
+        private long next;
+        private boolean ready = false;
+        private boolean end = false;
+
+        public Reader(InputStream in) {
+            this.in = in;
+        }
+
+        public boolean hasNext() throws IOException {
+            if (ready) return true;
+            if (end) return false;
+
+            long value = readVarint(in);
+            if (value == END) {
+                if (readVarint(in) != count) throw new IOException("source id count mismatch");
+                if (in.read() != -1) throw new IOException("unexpected bytes after source id list");
+                end = true;
+                return false;
+            }
+
+            last += value - 1;
+            count++;
+            next = last;
+            ready = true;
+            return true;
+        }
+
+        public long next() throws IOException {
+            if (!hasNext()) throw new NoSuchElementException();
+            ready = false;
+            return next;
+        }
+    }
+
+    public static byte[] encode(long[] sourceIdList) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sourceIdList.length * 2 + 2);
+        Encoder encoder = new Encoder(out);
+        try {
+            for (long sourceId : sourceIdList) encoder.write(sourceId);
+            encoder.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static long[] decode(InputStream in) throws IOException {
+        long[] sourceIdList = new long[64];
+        int size = 0;
+
+        Reader reader = new Reader(in);
+        while (reader.hasNext()) {
+            if (size == sourceIdList.length) sourceIdList = Arrays.copyOf(sourceIdList, size * 2);
+            sourceIdList[size++] = reader.next();
+        }
+        return Arrays.copyOf(sourceIdList, size);
+    }
+
+    // 부호 없는 64bit 로 취급 (차이 + 1 이 long 범위를 넘는 경우 포함)
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 63) throw new IOException("malformed source id varint");
+            int b = in.read();
+            if (b == -1) throw new EOFException("truncated source id list");
+
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
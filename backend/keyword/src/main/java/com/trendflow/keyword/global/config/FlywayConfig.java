@@ -0,0 +1,15 @@
+package com.trendflow.keyword.global.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+    // 마이그레이션 도입 전부터 운영 중인 DB 는 V1 을 baseline 으로 기록하고 이후 버전만 적용
+    // exec 스크립트를 이미 손으로 적용했다면 spring.flyway.baseline-version 을 마지막 적용 버전으로 지정
+    @Bean
+    public FlywayConfigurationCustomizer baselineOnMigrate() {
+        return configuration -> configuration.baselineOnMigrate(true);
+    }
+}
@@ -0,0 +1,66 @@
+package com.trendflow.keyword.global.config;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.service.KeywordStreamService;
+import com.trendflow.keyword.keyword.stream.KeywordCountTopology;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
+import org.apache.kafka.streams.kstream.KStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBeanConfigurer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// keyword.stream.enabled=true 일 때만 스트리밍 집계 사용
+@Configuration
+@EnableKafkaStreams
+@ConditionalOnProperty(name = "keyword.stream.enabled", havingValue = "true")
+public class KafkaStreamConfig {
+    @Value("${keyword.stream.application-id:trendflow-keyword-count}")
+    private String applicationId;
+    @Value("${keyword.stream.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+    @Value("${keyword.stream.state-dir:/tmp/kafka-streams}")
+    private String stateDir;
+    @Value("${keyword.stream.topic:keyword-token}")
+    private String topic;
+    @Value("${keyword.stream.flush-interval:10000}")
+    private Long flushInterval;
+    @Value("${keyword.stream.retention-days:7}")
+    private Integer retentionDays;
+
+    @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+    public KafkaStreamsConfiguration kafkaStreamsConfiguration() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, StreamsConfig.EXACTLY_ONCE_V2);
+        props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.LongSerde.class);
+        return new KafkaStreamsConfiguration(props);
+    }
+
+    // DB 장애 등으로 스레드가 죽으면 상태를 되돌린 뒤 다시 처리
+    @Bean
+    public StreamsBuilderFactoryBeanConfigurer keywordStreamConfigurer() {
+        return factoryBean -> factoryBean.setStreamsUncaughtExceptionHandler(
+                exception -> StreamsUncaughtExceptionHandler.StreamThreadExceptionResponse.REPLACE_THREAD);
+    }
+
+    @Bean
+    public KStream<String, KeywordIngest> keywordCountStream(StreamsBuilder streamsBuilder, KeywordStreamService keywordStreamService) {
+        return KeywordCountTopology.build(streamsBuilder, topic, keywordStreamService,
+                Duration.ofMillis(flushInterval), retentionDays);
+    }
+}
@@ -0,0 +1,55 @@
+package com.trendflow.keyword.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// @Transactional(readOnly = true) 는 레플리카, 나머지는 프라이머리로 보냄
+// 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        Map<Object, Object> targetMap = new HashMap<>();
+        targetMap.put(PRIMARY, primary);
+        targetMap.put(REPLICA, replica);
+        setTargetDataSources(targetMap);
+        setDefaultTargetDataSource(primary);
+
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryCounter = meterRegistry.counter("datasource.route", "target", PRIMARY);
+        this.replicaCounter = meterRegistry.counter("datasource.route", "target", REPLICA);
+        this.fallbackCounter = meterRegistry.counter("datasource.route", "target", "fallback");
+        Gauge.builder("datasource.replica.lag", replicaLagMonitor, ReplicaLagMonitor::getLag)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return PRIMARY;
+        }
+        // 복제가 밀린 레플리카에서 방금 쓴 데이터가 안 보이지 않도록 프라이머리로 대체
+        if (!replicaLagMonitor.isAvailable()) {
+            fallbackCounter.increment();
+            return PRIMARY;
+        }
+        replicaCounter.increment();
+        return REPLICA;
+    }
+}
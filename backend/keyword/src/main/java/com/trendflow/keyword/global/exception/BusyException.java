@@ -0,0 +1,8 @@
+package com.trendflow.keyword.global.exception;
+
+import com.trendflow.keyword.global.code.BasicCode;
+
+// 다른 요청이 갱신 중이고 응답할 이전 결과도 없음 (503)
+public class BusyException extends RuntimeException {
+    BasicCode code;
+}
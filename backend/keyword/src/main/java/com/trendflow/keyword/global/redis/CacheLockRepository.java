@@ -0,0 +1,67 @@
+package com.trendflow.keyword.global.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+public class CacheLockRepository {
+    // 자신이 잡은 락만 해제 (다른 인스턴스가 만료 후 다시 잡은 락을 지우지 않도록)
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 리스가 비어 있으면 잡고 새 펜싱 토큰 발급, 이미 자신의 리스면 연장하고 현재 토큰 반환
+    private static final DefaultRedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('get', KEYS[1]) " +
+            "if not owner then " +
+            "redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "return redis.call('incr', KEYS[2]) " +
+            "elseif owner == ARGV[1] then " +
+            "redis.call('expire', KEYS[1], ARGV[2]) " +
+            "return tonumber(redis.call('get', KEYS[2]) or '0') " +
+            "end " +
+            "return -1",
+            Long.class);
+
+    // 첫 요청에서만 집계 구간(만료시간) 설정, INCR 과 EXPIRE 사이에 끊겨도 만료 없는 키가 남지 않도록 한 번에 실행
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('incr', KEYS[1]) " +
+            "if count == 1 then redis.call('expire', KEYS[1], ARGV[1]) end " +
+            "return count",
+            Long.class);
+
+    private StringRedisTemplate redisTemplate;
+
+    public CacheLockRepository(@Qualifier("redisLockTemplate") StringRedisTemplate redisTemplate){
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Optional<String> tryLock(String key, Integer expire) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, expire, TimeUnit.SECONDS);
+        if (Boolean.TRUE.equals(locked)) return Optional.of(token);
+        return Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), token);
+    }
+
+    public Optional<Long> tryLease(String key, String tokenKey, String owner, Integer expire) {
+        Long token = redisTemplate.execute(LEASE_SCRIPT, Arrays.asList(key, tokenKey), owner, String.valueOf(expire));
+        if (token != null && token > 0) return Optional.of(token);
+        return Optional.empty();
+    }
+
+    public Long increment(String key, Integer expire) {
+        return redisTemplate.execute(INCREMENT_SCRIPT, Collections.singletonList(key), String.valueOf(expire));
+    }
+}
@@ -0,0 +1,34 @@
+package com.trendflow.keyword.global.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 펜싱 토큰을 확인하고 이전 결과를 past 키로 옮긴 뒤 새 결과를 게시 (한 번에 실행)
+// 리스가 만료된 뒤 늦게 끝난 이전 소유자의 결과는 토큰이 작아 버려짐
+public class FencedPublisher {
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "local fence = tonumber(redis.call('get', KEYS[3]) or '0') " +
+            "if tonumber(ARGV[2]) < fence then return 0 end " +
+            "if redis.call('exists', KEYS[1]) == 1 then redis.call('rename', KEYS[1], KEYS[2]) end " +
+            "redis.call('set', KEYS[1], ARGV[1]) " +
+            "redis.call('set', KEYS[3], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private FencedPublisher() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static boolean publish(RedisTemplate redisTemplate, String key, String pastKey, String fenceKey, Object value, Long token) {
+        byte[] serialized = redisTemplate.getValueSerializer().serialize(value);
+        byte[] fence = String.valueOf(token).getBytes(StandardCharsets.UTF_8);
+
+        Long published = (Long) redisTemplate.execute(PUBLISH_SCRIPT, RedisSerializer.byteArray(), null,
+                Arrays.asList(key, pastKey, fenceKey), serialized, fence);
+        return published != null && published == 1L;
+    }
+}
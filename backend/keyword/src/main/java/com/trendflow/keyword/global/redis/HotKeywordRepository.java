@@ -28,6 +28,10 @@ public class HotKeywordRepository {
         redisTemplate.expire(key, expire, TimeUnit.SECONDS);
     }
 
+    public boolean publish(String key, String pastKey, String fenceKey, List<HotKeyword> hotKeywordList, Long token) {
+        return FencedPublisher.publish(redisTemplate, key, pastKey, fenceKey, hotKeywordList, token);
+    }
+
     public Optional<List<HotKeyword>> findById(String key) {
         ValueOperations<String, List<HotKeyword>> valueOperations = redisTemplate.opsForValue();
         List<HotKeyword> hotKeywordList = valueOperations.get(key);
@@ -28,6 +28,10 @@ public class RecommendKeywordRepository {
         redisTemplate.expire(key, expire, TimeUnit.SECONDS);
     }
 
+    public boolean publish(String key, String pastKey, String fenceKey, List<RecommendKeyword> recommendKeywordList, Long token) {
+        return FencedPublisher.publish(redisTemplate, key, pastKey, fenceKey, recommendKeywordList, token);
+    }
+
     public Optional<List<RecommendKeyword>> findById(String key) {
         ValueOperations<String, List<RecommendKeyword>> valueOperations = redisTemplate.opsForValue();
         List<RecommendKeyword> recommendKeywordList = valueOperations.get(key);
@@ -33,4 +33,8 @@ public class RelateKeywordRepository {
         List<RelateKeyword> relateKeywordList = valueOperations.get(key);
         return Optional.ofNullable(relateKeywordList);
     }
+
+    public Long getExpire(String key) {
+        return redisTemplate.getExpire(key, TimeUnit.SECONDS);
+    }
 }
@@ -33,4 +33,8 @@ public class WordCloudKeywordRepository {
         List<WordCloudKeyword> wordCloudKeywordList = valueOperations.get(key);
         return Optional.ofNullable(wordCloudKeywordList);
     }
-}
\ No newline at end of file
+
+    public Long getExpire(String key) {
+        return redisTemplate.getExpire(key, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.trendflow.keyword.global.web;
+
+import com.trendflow.keyword.global.exception.UnAuthException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// 적재, 백필 같은 내부 전용 API 의 공유 토큰 확인
+// keyword.internal.token 이 없으면 내부 API 는 모두 거부
+@Component
+public class InternalToken {
+    public static final String HEADER = "X-Internal-Token";
+
+    @Value("${keyword.internal.token:}")
+    private String token;
+
+    public void verify(String value) {
+        if (token == null || token.isEmpty() || value == null) throw new UnAuthException();
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)))
+            throw new UnAuthException();
+    }
+}
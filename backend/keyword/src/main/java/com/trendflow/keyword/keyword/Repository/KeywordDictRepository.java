@@ -0,0 +1,12 @@
+package com.trendflow.keyword.keyword.Repository;
+
+import com.trendflow.keyword.keyword.entity.KeywordDict;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface KeywordDictRepository extends JpaRepository<KeywordDict, Integer> {
+    Optional<KeywordDict> findByKeyword(String keyword);
+}
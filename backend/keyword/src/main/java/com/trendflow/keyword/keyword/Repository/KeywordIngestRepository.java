@@ -0,0 +1,129 @@
+package com.trendflow.keyword.keyword.Repository;
+
+import com.trendflow.keyword.keyword.dto.response.IngestKeywordResponse;
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 대량 적재는 JPA 대신 JDBC 배치 (rewriteBatchedStatements=true 이면 multi-row INSERT 로 전송)
+@Repository
+@RequiredArgsConstructor
+public class KeywordIngestRepository {
+    private static final String UPSERT_KEYWORD =
+            "INSERT INTO keyword (source_id, platform_code, keyword, count, reg_dt) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE count = count + VALUES(count)";
+    private static final String UPSERT_PLATFORM_DAILY =
+            "INSERT INTO keyword_platform_daily (keyword, platform_code, reg_dt, count) " +
+                    "VALUES (?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE count = count + VALUES(count)";
+    private static final String UPSERT_KEYWORD_COUNT =
+            "INSERT INTO keyword_count (keyword, reg_dt, count) " +
+                    "VALUES (?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE count = count + VALUES(count)";
+
+    private static final String UPSERT_STREAM_COUNT =
+            "INSERT INTO keyword_stream_count (keyword, platform_code, reg_dt, count) " +
+                    "VALUES (?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE count = GREATEST(count, VALUES(count))";
+
+    private static final String INSERT_BATCH =
+            "INSERT INTO keyword_ingest_batch (ingest_id, tuple_count, row_count, ingested_at) VALUES (?, 0, 0, NOW())";
+    private static final String UPDATE_BATCH =
+            "UPDATE keyword_ingest_batch SET tuple_count = ?, row_count = ? WHERE ingest_id = ?";
+    private static final String SELECT_BATCH =
+            "SELECT tuple_count, row_count FROM keyword_ingest_batch WHERE ingest_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${keyword.ingest.batch-size:1000}")
+    private Integer batchSize;
+
+    public void upsertKeyword(List<KeywordIngest> keywordList) {
+        jdbcTemplate.batchUpdate(UPSERT_KEYWORD, keywordList, batchSize, (ps, keyword) -> {
+            ps.setLong(1, keyword.getSourceId());
+            ps.setString(2, keyword.getPlatformCode());
+            ps.setString(3, keyword.getKeyword());
+            ps.setLong(4, keyword.getCount());
+            ps.setInt(5, keyword.getRegDt());
+        });
+    }
+
+    public void upsertPlatformDaily(List<KeywordIngest> keywordList) {
+        jdbcTemplate.batchUpdate(UPSERT_PLATFORM_DAILY, keywordList, batchSize, (ps, keyword) -> {
+            ps.setString(1, keyword.getKeyword());
+            ps.setString(2, keyword.getPlatformCode());
+            ps.setInt(3, keyword.getRegDt());
+            ps.setLong(4, keyword.getCount());
+        });
+    }
+
+    public void upsertKeywordCount(List<KeywordIngest> keywordList) {
+        jdbcTemplate.batchUpdate(UPSERT_KEYWORD_COUNT, keywordList, batchSize, (ps, keyword) -> {
+            ps.setString(1, keyword.getKeyword());
+            ps.setInt(2, keyword.getRegDt());
+            ps.setLong(3, keyword.getCount());
+        });
+    }
+
+    // 같은 id 가 이미 있으면 DuplicateKeyException (진행 중인 요청이 있으면 그 트랜잭션이 끝날 때까지 대기)
+    public void insertBatch(String ingestId) {
+        jdbcTemplate.update(INSERT_BATCH, ingestId);
+    }
+
+    public void updateBatch(String ingestId, long tuples, long rows) {
+        jdbcTemplate.update(UPDATE_BATCH, tuples, rows, ingestId);
+    }
+
+    public Optional<IngestKeywordResponse> findBatch(String ingestId) {
+        return jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> IngestKeywordResponse.builder()
+                .tuples(rs.getLong(1))
+                .rows(rs.getLong(2))
+                .replayed(true)
+                .build(), ingestId).stream().findFirst();
+    }
+
+    // 스트림에서 이미 반영한 누적 합계 (같은 키의 동시 반영을 막기 위해 잠금)
+    public Map<String, Long> findStreamCountForUpdate(List<KeywordIngest> keywordList) {
+        Map<String, Long> countMap = new HashMap<>();
+        for (int from = 0; from < keywordList.size(); from += batchSize) {
+            List<KeywordIngest> subList = keywordList.subList(from, Math.min(from + batchSize, keywordList.size()));
+
+            String sql = "SELECT keyword, platform_code, reg_dt, count FROM keyword_stream_count " +
+                    "WHERE (keyword, platform_code, reg_dt) IN (" +
+                    String.join(", ", Collections.nCopies(subList.size(), "(?, ?, ?)")) + ") FOR UPDATE";
+            Object[] args = new Object[subList.size() * 3];
+            for (int i = 0; i < subList.size(); i++) {
+                args[i * 3] = subList.get(i).getKeyword();
+                args[i * 3 + 1] = subList.get(i).getPlatformCode();
+                args[i * 3 + 2] = subList.get(i).getRegDt();
+            }
+
+            jdbcTemplate.query(sql, rs -> {
+                countMap.put(toStreamKey(rs.getString(1), rs.getString(2), rs.getInt(3)), rs.getLong(4));
+            }, args);
+        }
+        return countMap;
+    }
+
+    public void upsertStreamCount(List<KeywordIngest> keywordList) {
+        jdbcTemplate.batchUpdate(UPSERT_STREAM_COUNT, keywordList, batchSize, (ps, keyword) -> {
+            ps.setString(1, keyword.getKeyword());
+            ps.setString(2, keyword.getPlatformCode());
+            ps.setInt(3, keyword.getRegDt());
+            ps.setLong(4, keyword.getCount());
+        });
+    }
+
+    public static String toStreamKey(String keyword, String platformCode, Integer regDt) {
+        return String.format("%s_%s_%s", regDt, platformCode, keyword);
+    }
+}
@@ -0,0 +1,127 @@
+package com.trendflow.keyword.keyword.Repository;
+
+import com.trendflow.keyword.keyword.entity.KeywordCount;
+import com.trendflow.keyword.keyword.entity.KeywordDailyCount;
+import com.trendflow.keyword.keyword.entity.KeywordPlatformDaily;
+import com.trendflow.keyword.keyword.entity.KeywordPlatformDailyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface KeywordPlatformDailyRepository extends JpaRepository<KeywordPlatformDaily, KeywordPlatformDailyId> {
+    @Query(value =
+            "SELECT d.platform_code as platformCode, d.count as count, DATE(d.reg_dt) as regDt " +
+                    "FROM keyword_platform_daily d " +
+                    "WHERE d.keyword = :keyword " +
+                    "AND d.reg_dt >= :startDate " +
+                    "AND d.reg_dt <= :endDate " +
+                    "AND d.platform_code != 'SU300' " +
+                    "ORDER BY d.reg_dt, platformCode;",
+            nativeQuery = true)
+    List<KeywordCount> findByKeywordAndRegDt(@Param("keyword") String keyword,
+                                             @Param("startDate") Integer startDate,
+                                             @Param("endDate") Integer endDate);
+
+    // 수집 시 증분 반영
+    @Modifying
+    @Query(value =
+            "INSERT INTO keyword_platform_daily (keyword, platform_code, reg_dt, count) " +
+                    "VALUES (:keyword, :platformCode, :regDt, :count) " +
+                    "ON DUPLICATE KEY UPDATE count = count + VALUES(count);",
+            nativeQuery = true)
+    int increase(@Param("keyword") String keyword,
+                 @Param("platformCode") String platformCode,
+                 @Param("regDt") Integer regDt,
+                 @Param("count") Long count);
+
+    // 원본 keyword 테이블 기준으로 하루치 재집계 (백필, 보정)
+    @Modifying
+    @Query(value =
+            "INSERT INTO keyword_platform_daily (keyword, platform_code, reg_dt, count) " +
+                    "SELECT k.keyword, k.platform_code, k.reg_dt, SUM(k.count) " +
+                    "FROM keyword k " +
+                    "WHERE k.reg_dt = :regDt " +
+                    "GROUP BY k.keyword, k.platform_code, k.reg_dt " +
+                    "ON DUPLICATE KEY UPDATE count = VALUES(count);",
+            nativeQuery = true)
+    int aggregateByRegDt(@Param("regDt") Integer regDt);
+
+    // 원본에서 사라진 집계 행 정리
+    @Modifying
+    @Query(value =
+            "DELETE d FROM keyword_platform_daily d " +
+                    "LEFT JOIN (SELECT DISTINCT k.keyword, k.platform_code FROM keyword k WHERE k.reg_dt = :regDt) k " +
+                    "ON d.keyword = k.keyword AND d.platform_code = k.platform_code " +
+                    "WHERE d.reg_dt = :regDt AND k.keyword IS NULL;",
+            nativeQuery = true)
+    int deleteOrphanByRegDt(@Param("regDt") Integer regDt);
+
+    // 재집계가 끝난 날짜 기록 (aggregateByRegDt 와 같은 트랜잭션)
+    @Modifying
+    @Query(value =
+            "INSERT INTO keyword_rollup_day (reg_dt, rolled_at) VALUES (:regDt, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE rolled_at = NOW();",
+            nativeQuery = true)
+    int markRollup(@Param("regDt") Integer regDt);
+
+    @Query(value =
+            "SELECT r.reg_dt FROM keyword_rollup_day r " +
+                    "WHERE r.reg_dt >= :startDate " +
+                    "AND r.reg_dt <= :endDate ;",
+            nativeQuery = true)
+    List<Integer> findRollupRegDt(@Param("startDate") Integer startDate,
+                                  @Param("endDate") Integer endDate);
+
+    // 급상승 감지 초기화용 키워드별 일별 합계 (날짜순)
+    @Query(value =
+            "SELECT d.keyword as keyword, d.reg_dt as regDt, SUM(d.count) as count " +
+                    "FROM keyword_platform_daily d " +
+                    "WHERE d.reg_dt >= :startDate " +
+                    "AND d.reg_dt <= :endDate " +
+                    "GROUP BY d.keyword, d.reg_dt " +
+                    "ORDER BY d.reg_dt ;",
+            nativeQuery = true)
+    List<KeywordDailyCount> findDailyCountByRegDt(@Param("startDate") Integer startDate,
+                                                  @Param("endDate") Integer endDate);
+
+    // 주간 집계 (week_dt : 주 시작 월요일)
+    @Query(value =
+            "SELECT w.platform_code as platformCode, w.count as count, DATE(w.week_dt) as regDt " +
+                    "FROM keyword_platform_weekly w " +
+                    "WHERE w.keyword = :keyword " +
+                    "AND w.week_dt >= :startDate " +
+                    "AND w.week_dt <= :endDate " +
+                    "AND w.platform_code != 'SU300' " +
+                    "ORDER BY w.week_dt, platformCode;",
+            nativeQuery = true)
+    List<KeywordCount> findWeeklyByKeywordAndRegDt(@Param("keyword") String keyword,
+                                                   @Param("startDate") Integer startDate,
+                                                   @Param("endDate") Integer endDate);
+
+    // 주간 집계로 옮겨진 마지막 주 (IDX_KeywordPlatformWeekly_WeekDt)
+    @Query(value = "SELECT MAX(w.week_dt) FROM keyword_platform_weekly w ;", nativeQuery = true)
+    Integer findMaxWeekDt();
+
+    // cutoff 이전 일별 집계를 주간 집계로 옮김 (같은 트랜잭션에서 deleteByRegDtBefore 와 함께 실행)
+    @Modifying
+    @Query(value =
+            "INSERT INTO keyword_platform_weekly (keyword, platform_code, week_dt, count) " +
+                    "SELECT d.keyword, d.platform_code, " +
+                    "CAST(DATE_FORMAT(DATE_SUB(DATE(d.reg_dt), INTERVAL WEEKDAY(DATE(d.reg_dt)) DAY), '%Y%m%d') AS UNSIGNED) as week_dt, " +
+                    "SUM(d.count) " +
+                    "FROM keyword_platform_daily d " +
+                    "WHERE d.reg_dt < :cutoff " +
+                    "GROUP BY d.keyword, d.platform_code, week_dt " +
+                    "ON DUPLICATE KEY UPDATE count = count + VALUES(count);",
+            nativeQuery = true)
+    int downsampleBefore(@Param("cutoff") Integer cutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM keyword_platform_daily WHERE reg_dt < :cutoff ;", nativeQuery = true)
+    int deleteByRegDtBefore(@Param("cutoff") Integer cutoff);
+}
@@ -6,10 +6,16 @@ import com.trendflow.keyword.keyword.entity.KeywordDistinct;
 import com.trendflow.keyword.keyword.entity.RelatedKeywordCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
@@ -23,6 +29,25 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
                                       @Param("endDate") Integer endDate,
                                       @Param("limit") Integer limit);
 
+    @Query(value = "SELECT kc.keyword as keyword, SUM(kc.count) as count " +
+            "FROM keyword_count kc " +
+            "WHERE kc.reg_dt >= :startDate " +
+            "AND kc.reg_dt <= :endDate " +
+            "GROUP BY kc.keyword ;", nativeQuery = true)
+    List<KeywordDistinct> findAllByRegDt(@Param("startDate") Integer startDate,
+                                         @Param("endDate") Integer endDate);
+
+    // 원본 데이터가 있는 첫날 / 마지막 날 (없으면 null)
+    @Query(value = "SELECT MIN(k.reg_dt) FROM keyword k ;", nativeQuery = true)
+    Integer findMinRegDt();
+
+    @Query(value = "SELECT MAX(k.reg_dt) FROM keyword k ;", nativeQuery = true)
+    Integer findMaxRegDt();
+
+    // 블룸 필터 재생성용 전체 키워드 (IDX_Keyword_Keyword_RegDt_KeywordId 로 키워드 단위 스캔)
+    @Query(value = "SELECT DISTINCT k.keyword FROM keyword k ;", nativeQuery = true)
+    List<String> findDistinctKeyword();
+
     @Query(value =
             "SELECT k.platform_code as platformCode, SUM(k.count) as count, DATE(k.reg_dt) as regDt " +
                     "FROM keyword k " +
@@ -51,12 +76,24 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
                                        @Param("startDate") Integer startDate,
                                        @Param("endDate") Integer endDate);
 
+    // 결과를 한 번에 올리지 않고 행 단위로 받아옴 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 스트리밍)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = "SELECT k.keyword_id, k.source_id, k.platform_code, k.keyword, k.count, DATE(k.reg_dt) as reg_dt " +
+            "FROM keyword k " +
+            "WHERE k.keyword = :keyword " +
+            "AND k.reg_dt >= :startDate " +
+            "AND k.reg_dt <= :endDate ;", nativeQuery = true)
+    Stream<Keyword> streamByKeywordAndDate(@Param("keyword") String keyword,
+                                           @Param("startDate") Integer startDate,
+                                           @Param("endDate") Integer endDate);
+
     @Query(value = "SELECT k.keyword_id, k.source_id, k.platform_code, k.keyword, k.count, DATE(k.reg_dt) as reg_dt " +
             "FROM keyword k " +
             "WHERE k.keyword = :keyword " +
             "AND k.platform_code IN (:codeList) " +
             "AND k.reg_dt >= :startDate " +
             "AND k.reg_dt <= :endDate " +
+            "ORDER BY k.reg_dt DESC, k.keyword_id DESC " +
             "LIMIT :limit " +
             "OFFSET :offset ;", nativeQuery = true)
     List<Keyword> findByKeywordAndDatePage(@Param("keyword") String keyword,
@@ -66,8 +103,28 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
                                            @Param("startDate") Integer startDate,
                                            @Param("endDate") Integer endDate);
 
+    @Query(value = "SELECT k.keyword_id, k.source_id, k.platform_code, k.keyword, k.count, DATE(k.reg_dt) as reg_dt " +
+            "FROM keyword k " +
+            "WHERE k.keyword = :keyword " +
+            "AND k.platform_code IN (:codeList) " +
+            "AND k.reg_dt >= :startDate " +
+            "AND k.reg_dt <= :cursorDate " +
+            "AND (k.reg_dt < :cursorDate OR k.keyword_id < :cursorId) " +
+            "ORDER BY k.reg_dt DESC, k.keyword_id DESC " +
+            "LIMIT :limit ;", nativeQuery = true)
+    List<Keyword> findByKeywordAndDateCursor(@Param("keyword") String keyword,
+                                             @Param("codeList") List<String> codeList,
+                                             @Param("cursorDate") Integer cursorDate,
+                                             @Param("cursorId") Long cursorId,
+                                             @Param("limit") Integer limit,
+                                             @Param("startDate") Integer startDate);
+
+    // 바깥 조회에도 reg_dt 범위를 걸어 파티션 프루닝 (같은 소스의 키워드는 reg_dt 가 같음)
+    // 키워드가 언급된 소스에서의 언급 횟수 합 순 (역색인 SourceIndex.related 와 같은 기준)
     @Query(value = "SELECT keyword, sum(count) as cnt FROM keyword "+
-            "WHERE source_id IN" +
+            "WHERE reg_dt >= :fromDate " +
+            "AND reg_dt <= :toDate " +
+            "AND source_id IN" +
             "(  SELECT source_id FROM keyword "+
                 "WHERE keyword = :keyword "
                 +"AND reg_dt >= :fromDate "+
@@ -0,0 +1,75 @@
+package com.trendflow.keyword.keyword.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.LongConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class KeywordSourceRepository {
+    private static final String FIND_SOURCE_ID =
+            "SELECT DISTINCT k.source_id FROM keyword k " +
+                    "WHERE k.keyword = ? " +
+                    "AND k.reg_dt >= ? " +
+                    "AND k.reg_dt <= ? " +
+                    "ORDER BY k.source_id";
+    private static final String FIND_ALL_SINCE =
+            "SELECT k.keyword, k.reg_dt, k.source_id, k.count FROM keyword k " +
+                    "WHERE k.reg_dt >= ?";
+    private static final String FIND_ALL_BETWEEN =
+            "SELECT k.keyword, k.reg_dt, k.source_id, k.count FROM keyword k " +
+                    "WHERE k.reg_dt >= ? " +
+                    "AND k.reg_dt <= ?";
+
+    public interface SourceConsumer {
+        void accept(String keyword, int regDt, long sourceId, long count);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 키워드가 언급된 소스 id 를 오름차순으로 한 행씩 넘김 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 스트리밍)
+    public void findSourceId(String keyword, Integer startDate, Integer endDate, LongConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_SOURCE_ID,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setString(1, keyword);
+            statement.setInt(2, startDate);
+            statement.setInt(3, endDate);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getLong(1));
+        });
+    }
+
+    // 역색인 재생성용 : 날짜 이후 (키워드, 날짜, 소스 id, 언급 횟수) 전체를 한 행씩 넘김
+    public void findAllSince(Integer since, SourceConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_ALL_SINCE,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setInt(1, since);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString(1), rs.getInt(2), rs.getLong(3), rs.getLong(4));
+        });
+    }
+
+    // 큰 적재 후 색인 보정용 : 기간 내 (키워드, 날짜, 소스 id, 언급 횟수) 를 한 행씩 넘김
+    public void findAllBetween(Integer startDate, Integer endDate, SourceConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_ALL_BETWEEN,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setInt(1, startDate);
+            statement.setInt(2, endDate);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString(1), rs.getInt(2), rs.getLong(3), rs.getLong(4));
+        });
+    }
+}
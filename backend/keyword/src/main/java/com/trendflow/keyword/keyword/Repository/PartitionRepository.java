@@ -0,0 +1,39 @@
+package com.trendflow.keyword.keyword.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// reg_dt 월 단위 RANGE 파티션 관리 (테이블 이름은 코드에 고정된 값만 사용)
+@Repository
+@RequiredArgsConstructor
+public class PartitionRepository {
+    public static final String MAX_PARTITION = "pmax";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 파티션 이름 -> VALUES LESS THAN 값 (파티션이 없으면 빈 맵)
+    public Map<String, String> findPartitionMap(String table) {
+        Map<String, String> partitionMap = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                rs -> {
+                    partitionMap.put(rs.getString(1), rs.getString(2));
+                }, table);
+        return partitionMap;
+    }
+
+    public void addPartition(String table, String name, Integer lessThan) {
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` REORGANIZE PARTITION %s INTO (" +
+                "PARTITION %s VALUES LESS THAN (%d), PARTITION %s VALUES LESS THAN MAXVALUE)",
+                table, MAX_PARTITION, name, lessThan, MAX_PARTITION));
+    }
+
+    public void dropPartition(String table, String name) {
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` DROP PARTITION %s", table, name));
+    }
+}
@@ -1,31 +1,70 @@
 package com.trendflow.keyword.keyword.controller;
 
 import com.trendflow.keyword.global.code.KeywordCode;
+import com.trendflow.keyword.global.exception.BusyException;
 import com.trendflow.keyword.global.exception.NotFoundException;
+import com.trendflow.keyword.global.exception.UnAuthException;
 import com.trendflow.keyword.global.response.BasicResponse;
+import com.trendflow.keyword.global.web.ConditionalGet;
+import com.trendflow.keyword.global.web.InternalToken;
+import com.trendflow.keyword.keyword.dto.response.FindCorrectKeywordResponse;
 import com.trendflow.keyword.keyword.dto.response.FindHotKeywordResponse;
+import com.trendflow.keyword.keyword.dto.response.FindKeywordFilterResponse;
+import com.trendflow.keyword.keyword.dto.response.FindKeywordPageResponse;
 import com.trendflow.keyword.keyword.dto.response.FindRecommendKeywordResponse;
 import com.trendflow.keyword.keyword.dto.response.FindRelateKeywordResponse;
+import com.trendflow.keyword.keyword.dto.response.FindSuggestKeywordResponse;
+import com.trendflow.keyword.keyword.dto.response.FindTrendKeywordResponse;
 import com.trendflow.keyword.keyword.dto.response.FindWordCloudResponse;
+import com.trendflow.keyword.keyword.dto.response.IngestKeywordResponse;
 import com.trendflow.keyword.keyword.entity.Keyword;
 import com.trendflow.keyword.keyword.entity.KeywordCount;
+import com.trendflow.keyword.keyword.service.KeywordFilterService;
+import com.trendflow.keyword.keyword.service.KeywordIngestService;
+import com.trendflow.keyword.keyword.service.KeywordRollupService;
 import com.trendflow.keyword.keyword.service.KeywordService;
+import com.trendflow.keyword.keyword.service.KeywordSuggestService;
+import com.trendflow.keyword.keyword.service.KeywordTrendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/keyword")
 public class KeywordController {
+    private static final String INGEST_ID = "X-Ingest-Id";
+
     private final KeywordService keywordService;
+    private final KeywordRollupService keywordRollupService;
+    private final KeywordSuggestService keywordSuggestService;
+    private final KeywordFilterService keywordFilterService;
+    private final KeywordTrendService keywordTrendService;
+    private final KeywordIngestService keywordIngestService;
+    private final ConditionalGet conditionalGet;
+    private final InternalToken internalToken;
+
+    // 응답 캐시 정책 (초), 캐시 갱신 주기에 맞춤
+    @Value("${keyword.cache-control.hot:60}")
+    private Long hotMaxAge;
+    @Value("${keyword.cache-control.recommend:300}")
+    private Long recommendMaxAge;
 
     @GetMapping("/hot")
     public ResponseEntity<FindHotKeywordResponse> findHotKeyword(){
@@ -33,7 +72,7 @@ public class KeywordController {
 
         try {
             FindHotKeywordResponse findHotKeywordResponse = keywordService.findHotKeyword();
-            return ResponseEntity.ok().body(findHotKeywordResponse);
+            return conditionalGet.ok(findHotKeywordResponse, CacheControl.maxAge(hotMaxAge, TimeUnit.SECONDS).cachePublic());
         } catch (NotFoundException e){
             log.error(e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -49,7 +88,7 @@ public class KeywordController {
 
         try {
             List<FindRecommendKeywordResponse> findRecommendKeywordResponseList = keywordService.findRecommendKeyword();
-            return ResponseEntity.ok().body(findRecommendKeywordResponseList);
+            return conditionalGet.ok(findRecommendKeywordResponseList, CacheControl.maxAge(recommendMaxAge, TimeUnit.SECONDS).cachePublic());
         } catch (NotFoundException e){
             log.error(e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -65,6 +104,9 @@ public class KeywordController {
         try {
             List<FindRelateKeywordResponse> findRelateKeywordResponseList = keywordService.findRelateKeyword(keyword);
             return ResponseEntity.ok().body(findRelateKeywordResponseList);
+        } catch (BusyException e){
+            log.warn("findRelateKeyword - busy : {}", keyword);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
         } catch (NotFoundException e){
             log.error(e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -82,6 +124,9 @@ public class KeywordController {
         try {
             List<FindWordCloudResponse> findWordCloudResponseList = keywordService.findWordCloudKeyword(keyword);
             return ResponseEntity.ok().body(findWordCloudResponseList);
+        } catch (BusyException e){
+            log.warn("findWordCloudKeyword - busy : {}", keyword);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
         } catch (NotFoundException e){
             log.error(e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -92,6 +137,72 @@ public class KeywordController {
     }
 
 
+    @GetMapping("/suggest")
+    public ResponseEntity<List<FindSuggestKeywordResponse>> findSuggestKeyword(@RequestParam String keyword,
+                                                                               @RequestParam(defaultValue = "10") Integer limit){
+        log.info("findSuggestKeyword - Call");
+
+        try {
+            List<FindSuggestKeywordResponse> findSuggestKeywordResponseList = keywordSuggestService.findSuggestKeyword(keyword, limit);
+            return ResponseEntity.ok().body(findSuggestKeywordResponseList);
+        } catch (NotFoundException e){
+            log.error(e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        } catch (RuntimeException e){
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
+    @GetMapping("/correct")
+    public ResponseEntity<List<FindCorrectKeywordResponse>> findCorrectKeyword(@RequestParam String keyword,
+                                                                               @RequestParam(defaultValue = "5") Integer limit){
+        log.info("findCorrectKeyword - Call");
+
+        try {
+            List<FindCorrectKeywordResponse> findCorrectKeywordResponseList = keywordSuggestService.findCorrectKeyword(keyword, limit);
+            return ResponseEntity.ok().body(findCorrectKeywordResponseList);
+        } catch (NotFoundException e){
+            log.error(e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        } catch (RuntimeException e){
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<FindTrendKeywordResponse> findTrendKeyword(@RequestParam(defaultValue = "10") Integer limit){
+        log.info("findTrendKeyword - Call");
+
+        try {
+            FindTrendKeywordResponse findTrendKeywordResponse = keywordTrendService.findTrendKeyword(limit);
+            return ResponseEntity.ok().body(findTrendKeywordResponse);
+        } catch (NotFoundException e){
+            log.error(e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        } catch (RuntimeException e){
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<FindKeywordFilterResponse> findKeywordFilter(){
+        log.info("findKeywordFilter - Call");
+
+        try {
+            FindKeywordFilterResponse findKeywordFilterResponse = keywordFilterService.findKeywordFilter();
+            return ResponseEntity.ok().body(findKeywordFilterResponse);
+        } catch (NotFoundException e){
+            log.error(e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        } catch (RuntimeException e){
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
     @GetMapping("")
     public ResponseEntity<List<Keyword>> findKeyword(@RequestParam String keyword,
                                                      @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
@@ -110,18 +221,74 @@ public class KeywordController {
         }
     }
 
+    // 줄 단위 JSON (NDJSON) 을 청크로 내려보냄
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public void streamKeyword(@RequestParam String keyword,
+                              @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                              @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+                              HttpServletResponse response){
+        log.info("streamKeyword - Call");
+
+        try {
+            response.setContentType("application/x-ndjson");
+            response.setCharacterEncoding("UTF-8");
+            keywordService.writeKeyword(keyword, startDate, endDate, response.getOutputStream());
+        } catch (IOException | RuntimeException e){
+            // 이미 일부를 보냈다면 상태를 바꿀 수 없으므로 연결만 끊음
+            log.error(e.getMessage());
+            if (!response.isCommitted()) response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 서비스 간 호출용 : 오름차순 소스 id 를 차이 varint 바이너리로 내려보냄
+    @GetMapping(value = "/source-id", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void findSourceId(@RequestParam String keyword,
+                             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+                             HttpServletResponse response){
+        log.info("findSourceId - Call");
+
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            keywordService.writeSourceId(keyword, startDate, endDate, response.getOutputStream());
+        } catch (IOException | RuntimeException e){
+            log.error(e.getMessage());
+            if (!response.isCommitted()) response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 서비스 간 호출용 : 소스 id 를 Roaring 비트맵 직렬화 형식으로 내려보냄
+    @GetMapping(value = "/source-bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void findSourceBitmap(@RequestParam String keyword,
+                                 @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                                 @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+                                 HttpServletResponse response){
+        log.info("findSourceBitmap - Call");
+
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            // 비트맵으로 나타낼 수 없는 소스 id 가 있으면 422 (호출한 쪽이 소스 id 목록으로 다시 조회)
+            if (!keywordService.writeSourceBitmap(keyword, startDate, endDate, response.getOutputStream()))
+                response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        } catch (IOException | RuntimeException e){
+            log.error(e.getMessage());
+            if (!response.isCommitted()) response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/page")
-    public ResponseEntity<List<Keyword>> findKeywordPage(@RequestParam String keyword,
+    public ResponseEntity<FindKeywordPageResponse> findKeywordPage(@RequestParam String keyword,
                                         @RequestParam String code,
-                                        @RequestParam Integer page,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer page,
                                         @RequestParam Integer perPage,
                                         @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
                                         @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate){
         log.info("findKeywordPage - Call");
 
         try {
-            List<Keyword> keywordList = keywordService.findKeywordPage(keyword, code, page, perPage, startDate, endDate);
-            return ResponseEntity.ok().body(keywordList);
+            FindKeywordPageResponse findKeywordPageResponse = keywordService.findKeywordPage(keyword, code, cursor, page, perPage, startDate, endDate);
+            return ResponseEntity.ok().body(findKeywordPageResponse);
         } catch (NotFoundException e){
             log.error(e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -148,4 +315,52 @@ public class KeywordController {
             return ResponseEntity.internalServerError().body(null);
         }
     }
+
+    // 내부 전용 : X-Internal-Token 필요, 재시도 시 같은 X-Ingest-Id 를 보내면 중복 적재되지 않음
+    @PostMapping(value = "/ingest", consumes = {"application/x-ndjson", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<IngestKeywordResponse> ingestKeyword(@RequestHeader(value = InternalToken.HEADER, required = false) String token,
+                                                               @RequestHeader(value = INGEST_ID, required = false) String ingestId,
+                                                               @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                               @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                               HttpServletRequest request){
+        log.info("ingestKeyword - Call");
+
+        try {
+            internalToken.verify(token);
+            boolean gzip = "gzip".equalsIgnoreCase(contentEncoding);
+            IngestKeywordResponse ingestKeywordResponse = contentType.startsWith(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                    ? keywordIngestService.ingestBinary(ingestId, request.getInputStream(), gzip)
+                    : keywordIngestService.ingestJson(ingestId, request.getInputStream(), gzip);
+            return ResponseEntity.ok().body(ingestKeywordResponse);
+        } catch (UnAuthException e){
+            log.error("ingestKeyword - unauthorized");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+        } catch (NotFoundException e){
+            log.error(e.getMessage());
+            return ResponseEntity.badRequest().body(null);
+        } catch (IOException | RuntimeException e){
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError().body(null);
+        }
+    }
+
+    @PostMapping("/rollup")
+    public ResponseEntity<Void> backfillRollup(@RequestHeader(value = InternalToken.HEADER, required = false) String token,
+                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate){
+        log.info("backfillRollup - Call");
+
+        try {
+            internalToken.verify(token);
+            // 다른 인스턴스가 백필 / 보정 중
+            if (!keywordRollupService.backfill(startDate, endDate)) return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            return ResponseEntity.ok().build();
+        } catch (UnAuthException e){
+            log.error("backfillRollup - unauthorized");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        } catch (RuntimeException e){
+            log.error(e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.trendflow.keyword.keyword.dto.response;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+public class FindCorrectKeywordResponse {
+    private String keyword;
+    private Long count;
+    private Integer distance;
+
+    public static FindCorrectKeywordResponse fromEntity(WeightedKeyword weightedKeyword) {
+        return FindCorrectKeywordResponse.builder()
+                .keyword(weightedKeyword.getKeyword())
+                .count(weightedKeyword.getCount())
+                .distance(weightedKeyword.getDistance())
+                .build();
+    }
+
+    public static List<FindCorrectKeywordResponse> toList(List<WeightedKeyword> weightedKeywordList) {
+        return weightedKeywordList.stream()
+                .map(FindCorrectKeywordResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,27 @@
+package com.trendflow.keyword.keyword.dto.response;
+
+import com.trendflow.keyword.keyword.index.BloomFilter;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class FindKeywordFilterResponse {
+    private Integer hashVersion;
+    private Integer hashCount;
+    private Integer size;
+    private byte[] bits;
+    private LocalDateTime createdAt;
+
+    public static FindKeywordFilterResponse of(BloomFilter bloomFilter, LocalDateTime createdAt) {
+        return FindKeywordFilterResponse.builder()
+                .hashVersion(BloomFilter.HASH_VERSION)
+                .hashCount(bloomFilter.getHashCount())
+                .size(bloomFilter.size())
+                .bits(bloomFilter.toBytes())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.trendflow.keyword.keyword.dto.response;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordCursor;
+import com.trendflow.keyword.keyword.entity.Keyword;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class FindKeywordPageResponse {
+    private List<Keyword> keywordList;
+    private String nextCursor;
+
+    public static FindKeywordPageResponse of(List<Keyword> keywordList, Integer perPage) {
+        // 페이지가 꽉 찬 경우에만 다음 커서 생성
+        String nextCursor = null;
+        if (!keywordList.isEmpty() && keywordList.size() >= perPage)
+            nextCursor = KeywordCursor.of(keywordList.get(keywordList.size() - 1)).encode();
+
+        return FindKeywordPageResponse.builder()
+                .keywordList(keywordList)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
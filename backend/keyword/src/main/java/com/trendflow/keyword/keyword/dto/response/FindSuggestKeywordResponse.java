@@ -0,0 +1,28 @@
+package com.trendflow.keyword.keyword.dto.response;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+public class FindSuggestKeywordResponse {
+    private String keyword;
+    private Long count;
+
+    public static FindSuggestKeywordResponse fromEntity(WeightedKeyword weightedKeyword) {
+        return FindSuggestKeywordResponse.builder()
+                .keyword(weightedKeyword.getKeyword())
+                .count(weightedKeyword.getCount())
+                .build();
+    }
+
+    public static List<FindSuggestKeywordResponse> toList(List<WeightedKeyword> weightedKeywordList) {
+        return weightedKeywordList.stream()
+                .map(FindSuggestKeywordResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,22 @@
+package com.trendflow.keyword.keyword.dto.response;
+
+import com.trendflow.keyword.keyword.dto.vo.TrendKeyword;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+public class FindTrendKeywordResponse {
+    private List<TrendKeyword> hour;
+    private List<TrendKeyword> day;
+
+    public static FindTrendKeywordResponse empty() {
+        return FindTrendKeywordResponse.builder()
+                .hour(new ArrayList<>())
+                .day(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.trendflow.keyword.keyword.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class IngestKeywordResponse {
+    private Long tuples;
+    private Long rows;
+    // 같은 적재 id 로 이미 적재된 요청 : 다시 적재하지 않고 기록된 결과를 돌려줌
+    private Boolean replayed;
+}
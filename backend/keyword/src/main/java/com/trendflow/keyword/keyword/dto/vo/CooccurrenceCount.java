@@ -0,0 +1,15 @@
+package com.trendflow.keyword.keyword.dto.vo;
+
+import com.trendflow.keyword.keyword.entity.RelatedKeywordCount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+// 소스 역색인에서 계산한 함께 언급된 소스에서의 언급 횟수 합
+@Data
+@Builder
+@AllArgsConstructor
+public class CooccurrenceCount implements RelatedKeywordCount {
+    private String keyword;
+    private long cnt;
+}
@@ -0,0 +1,50 @@
+package com.trendflow.keyword.keyword.dto.vo;
+
+import com.trendflow.keyword.global.exception.NotFoundException;
+import com.trendflow.keyword.keyword.entity.Keyword;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class KeywordCursor {
+    private Integer regDt;
+    private Long keywordId;
+
+    // 첫 페이지 (종료일 이후, 가장 큰 id 부터)
+    public static KeywordCursor first(Integer endDate) {
+        return KeywordCursor.builder()
+                .regDt(endDate)
+                .keywordId(Long.MAX_VALUE)
+                .build();
+    }
+
+    public static KeywordCursor of(Keyword keyword) {
+        return KeywordCursor.builder()
+                .regDt(Integer.parseInt(keyword.getRegDt().toString().replace("-", "")))
+                .keywordId(keyword.getKeywordId())
+                .build();
+    }
+
+    public static KeywordCursor decode(String cursor) throws RuntimeException {
+        try {
+            String[] value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return KeywordCursor.builder()
+                    .regDt(Integer.parseInt(value[0]))
+                    .keywordId(Long.parseLong(value[1]))
+                    .build();
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new NotFoundException();
+        }
+    }
+
+    public String encode() {
+        String value = String.format("%d:%d", regDt, keywordId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+package com.trendflow.keyword.keyword.dto.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeywordIngest {
+    private Long sourceId;
+    private String platformCode;
+    private String keyword;
+    private Long count;
+    private Integer regDt;
+}
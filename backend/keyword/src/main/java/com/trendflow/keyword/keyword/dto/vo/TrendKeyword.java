@@ -0,0 +1,17 @@
+package com.trendflow.keyword.keyword.dto.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendKeyword {
+    private String keyword;
+    private Long count;
+    private Double mean;
+    private Double score;
+}
@@ -0,0 +1,31 @@
+package com.trendflow.keyword.keyword.dto.vo;
+
+import com.trendflow.keyword.keyword.entity.KeywordCount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 압축 기준일 이전의 주간 합계 (regDt : 주 시작 월요일)
+@Data
+@Builder
+@AllArgsConstructor
+public class WeeklyKeywordCount implements KeywordCount {
+    private String platformCode;
+    private Long count;
+    private LocalDate regDt;
+
+    public static WeeklyKeywordCount of(KeywordCount keywordCount) {
+        return WeeklyKeywordCount.builder()
+                .platformCode(keywordCount.getPlatformCode())
+                .count(keywordCount.getCount())
+                .regDt(keywordCount.getRegDt())
+                .build();
+    }
+
+    @Override
+    public Boolean getWeekly() {
+        return true;
+    }
+}
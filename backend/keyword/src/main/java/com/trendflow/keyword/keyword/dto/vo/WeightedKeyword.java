@@ -0,0 +1,14 @@
+package com.trendflow.keyword.keyword.dto.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class WeightedKeyword {
+    private String keyword;
+    private Long count;
+    private Integer distance;
+}
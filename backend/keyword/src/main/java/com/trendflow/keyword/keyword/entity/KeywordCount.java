@@ -6,4 +6,9 @@ public interface KeywordCount {
     String getPlatformCode();
     Long getCount();
     LocalDate getRegDt();
+
+    // true 면 regDt 부터 7일의 합계 (압축 기준일 이전은 일별 값이 남아 있지 않음)
+    default Boolean getWeekly() {
+        return false;
+    }
 }
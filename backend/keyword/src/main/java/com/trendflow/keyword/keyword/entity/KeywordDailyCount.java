@@ -0,0 +1,7 @@
+package com.trendflow.keyword.keyword.entity;
+
+public interface KeywordDailyCount {
+    String getKeyword();
+    Integer getRegDt();
+    Long getCount();
+}
@@ -0,0 +1,21 @@
+package com.trendflow.keyword.keyword.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "keyword_dict")
+public class KeywordDict {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "keyword_dict_id")
+    private Integer keywordDictId;
+    @Column(name = "keyword")
+    private String keyword;
+}
@@ -0,0 +1,27 @@
+package com.trendflow.keyword.keyword.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@IdClass(KeywordPlatformDailyId.class)
+@Table(name = "keyword_platform_daily")
+public class KeywordPlatformDaily {
+    @Id
+    @Column(name = "keyword")
+    private String keyword;
+    @Id
+    @Column(name = "platform_code")
+    private String platformCode;
+    @Id
+    @Column(name = "reg_dt")
+    private Integer regDt;
+    @Column(name = "count")
+    private Long count;
+}
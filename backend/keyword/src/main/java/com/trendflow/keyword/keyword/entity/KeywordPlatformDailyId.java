@@ -0,0 +1,16 @@
+package com.trendflow.keyword.keyword.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordPlatformDailyId implements Serializable {
+    private String keyword;
+    private String platformCode;
+    private Integer regDt;
+}
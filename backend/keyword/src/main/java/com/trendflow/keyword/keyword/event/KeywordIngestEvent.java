@@ -0,0 +1,26 @@
+package com.trendflow.keyword.keyword.event;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+// 커밋된 (키워드, 플랫폼, 날짜) 별 증분
+// 증분이 너무 많아 목록을 모으지 않은 요청은 rebuild : 커밋 후 메모리 인덱스를 DB 에서 다시 만듦
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeywordIngestEvent {
+    private final List<KeywordIngest> keywordList;
+    private final boolean rebuild;
+
+    public KeywordIngestEvent(List<KeywordIngest> keywordList) {
+        this(keywordList, false);
+    }
+
+    public static KeywordIngestEvent rebuild() {
+        return new KeywordIngestEvent(Collections.emptyList(), true);
+    }
+}
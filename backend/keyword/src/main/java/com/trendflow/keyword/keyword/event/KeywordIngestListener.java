@@ -0,0 +1,47 @@
+package com.trendflow.keyword.keyword.event;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.service.KeywordFilterService;
+import com.trendflow.keyword.keyword.service.KeywordSourceService;
+import com.trendflow.keyword.keyword.service.KeywordSuggestService;
+import com.trendflow.keyword.keyword.service.KeywordTrendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋 이후에만 메모리 인덱스에 반영 (롤백된 데이터가 보이지 않도록)
+@Component
+@RequiredArgsConstructor
+public class KeywordIngestListener {
+    private final KeywordFilterService keywordFilterService;
+    private final KeywordTrendService keywordTrendService;
+    private final KeywordSuggestService keywordSuggestService;
+    private final KeywordSourceService keywordSourceService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngest(KeywordIngestEvent event) {
+        // 목록 없이 커밋된 큰 적재 : DB 에서 다시 만듦 (시간 단위 추세는 수집 증분으로만 쌓이므로 이 적재분은 빠짐)
+        if (event.isRebuild()) {
+            keywordFilterService.rebuild();
+            keywordTrendService.rebuild();
+            keywordSuggestService.rebuild();
+            return;
+        }
+        for (KeywordIngest keyword : event.getKeywordList()) {
+            keywordFilterService.add(keyword.getKeyword());
+            keywordTrendService.add(keyword.getKeyword(), keyword.getRegDt(), keyword.getCount());
+            keywordSuggestService.add(keyword.getKeyword(), keyword.getCount());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSource(KeywordSourceEvent event) {
+        if (event.isReload()) {
+            keywordSourceService.reload(event.getReloadStart(), event.getReloadEnd());
+            return;
+        }
+        for (KeywordIngest keyword : event.getKeywordList()) {
+            keywordSourceService.add(keyword.getKeyword(), keyword.getRegDt(), keyword.getSourceId(), keyword.getCount());
+        }
+    }
+}
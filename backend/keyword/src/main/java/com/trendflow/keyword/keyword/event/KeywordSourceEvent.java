@@ -0,0 +1,31 @@
+package com.trendflow.keyword.keyword.event;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+// 커밋된 (소스, 키워드, 날짜) 행
+// 행이 너무 많아 목록을 모으지 않은 요청은 적재한 날짜 범위만 넘기고 커밋 후 DB 에서 다시 읽음
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeywordSourceEvent {
+    private final List<KeywordIngest> keywordList;
+    private final Integer reloadStart;
+    private final Integer reloadEnd;
+
+    public KeywordSourceEvent(List<KeywordIngest> keywordList) {
+        this(keywordList, null, null);
+    }
+
+    public static KeywordSourceEvent reload(Integer start, Integer end) {
+        return new KeywordSourceEvent(Collections.emptyList(), start, end);
+    }
+
+    public boolean isReload() {
+        return reloadStart != null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.trendflow.keyword.keyword.index;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 알려진 키워드 집합의 블룸 필터 : false 이면 확실히 없는 키워드
+// analyze 서비스에도 같은 해시로 구현되어 있으므로 해시 변경 시 함께 수정 (HASH_VERSION 도 올림)
+public class BloomFilter {
+    public static final int HASH_VERSION = 2;
+    private static final Pattern MARK = Pattern.compile("\\p{M}+");
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+    private int size;
+
+    private BloomFilter(long[] bits, int hashCount, int size) {
+        this.bits = bits;
+        this.bitSize = (long) bits.length * Long.SIZE;
+        this.hashCount = hashCount;
+        this.size = size;
+    }
+
+    // 예상 원소 수와 목표 오탐률로 비트 수, 해시 수 결정
+    public static BloomFilter create(int expected, double fpp) {
+        int n = Math.max(expected, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(new long[(int) ((m + Long.SIZE - 1) / Long.SIZE)], k, 0);
+    }
+
+    public static BloomFilter fromBytes(byte[] bytes, int hashCount, int size) {
+        long[] bits = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(bits);
+        return new BloomFilter(bits, hashCount, size);
+    }
+
+    // 동시 추가 시 비트 유실 방지
+    public synchronized void put(String value) {
+        long hash = hash(fold(value));
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+        size++;
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(fold(value));
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    // 채워진 비트 비율로 추정한 현재 오탐률
+    public double expectedFpp() {
+        long count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        return Math.pow((double) count / bitSize, hashCount);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(bits.length * Long.BYTES);
+        buffer.asLongBuffer().put(bits);
+        return buffer.array();
+    }
+
+    public long memory() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // MySQL utf8mb4_0900_ai_ci 비교보다 좁지 않도록 접음 : DB 가 같다고 보는 키워드는 같은 해시
+    // 호환 문자 (전각, 합자) 분해, 악센트 제거, 대소문자 통일 (ß -> ss 등은 대문자를 거쳐서 처리)
+    // 공백 정리는 KeywordDictService.normalize 와 같음
+    public static String fold(String value) {
+        if (value == null) return "";
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        return Normalizer.normalize(MARK.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toUpperCase(Locale.ROOT)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 접은 키워드의 UTF-8 바이트 기준 FNV-1a 64
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
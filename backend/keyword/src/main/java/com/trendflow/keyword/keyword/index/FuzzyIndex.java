@@ -0,0 +1,191 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import com.trendflow.keyword.keyword.service.KeywordDictService;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 자모 단위 편집 거리 BK-트리 : 오타, 띄어쓰기가 다른 검색어를 가까운 키워드로 보정
+// 띄어쓰기를 제거한 자모열을 키로 쓰므로 "삼성 전자" 와 "삼성전자" 는 같은 노드에 모임
+public class FuzzyIndex {
+    private static final int NONE = -1;
+
+    private Node root;
+
+    private final List<String> keywordList = new ArrayList<>();
+    private final LongArrayList weightList = new LongArrayList();
+    private final Object2IntOpenHashMap<String> idMap = new Object2IntOpenHashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FuzzyIndex() {
+        this.idMap.defaultReturnValue(NONE);
+    }
+
+    public static String toKey(String keyword) {
+        return Jamo.decompose(KeywordDictService.normalize(keyword).replace(" ", ""));
+    }
+
+    public void add(String keyword, long count) {
+        String normalized = KeywordDictService.normalize(keyword);
+        if (normalized.isEmpty() || count <= 0) return;
+
+        lock.writeLock().lock();
+        try {
+            int id = idMap.getInt(normalized);
+            if (id != NONE) {
+                weightList.set(id, weightList.getLong(id) + count);
+                return;
+            }
+
+            id = keywordList.size();
+            keywordList.add(normalized);
+            weightList.add(count);
+            idMap.put(normalized, id);
+            insert(toKey(normalized), id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 편집 거리 maxDistance 이내 키워드를 거리 오름차순, 가중치 내림차순으로 반환
+    public List<WeightedKeyword> search(String query, int maxDistance, int limit) {
+        String key = toKey(query);
+        List<WeightedKeyword> result = new ArrayList<>();
+        if (key.isEmpty()) return result;
+
+        lock.readLock().lock();
+        try {
+            if (root == null) return result;
+
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                // 자식 선택에는 정확한 거리가 필요 (상한에서 자르면 삼각 부등식 범위가 틀어짐)
+                int distance = distance(key, node.key);
+                if (distance <= maxDistance) {
+                    for (int id : node.ids) {
+                        result.add(WeightedKeyword.builder()
+                                .keyword(keywordList.get(id))
+                                .count(weightList.getLong(id))
+                                .distance(distance)
+                                .build());
+                    }
+                }
+                // 삼각 부등식으로 탐색 범위 제한
+                for (int i = 0; i < node.size; i++) {
+                    if (Math.abs(node.distances[i] - distance) <= maxDistance) stack.push(node.children[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparing(WeightedKeyword::getDistance)
+                .thenComparing(WeightedKeyword::getCount, Comparator.reverseOrder()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keywordList.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, int id) {
+        if (root == null) {
+            root = new Node(key, id);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.ids = Arrays.copyOf(node.ids, node.ids.length + 1);
+                node.ids[node.ids.length - 1] = id;
+                return;
+            }
+
+            Node child = node.child(distance);
+            if (child == null) {
+                node.add(distance, new Node(key, id));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    static int distance(String a, String b) {
+        return distance(a, b, Integer.MAX_VALUE - 1);
+    }
+
+    // 레벤슈타인 거리, bound 를 넘으면 bound + 1 반환
+    static int distance(String a, String b, int bound) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > bound) return bound + 1;
+
+        int[] prev = new int[m + 1];
+        int[] curr = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+
+        for (int i = 1; i <= n; i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (rowMin > bound) return bound + 1;
+
+            int[] temp = prev;
+            prev = curr;
+            curr = temp;
+        }
+        return prev[m] > bound ? bound + 1 : prev[m];
+    }
+
+    private static class Node {
+        private final String key;
+        private int[] ids;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+        private int size;
+
+        private Node(String key, int id) {
+            this.key = key;
+            this.ids = new int[]{id};
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < size; i++) {
+                if (distances[i] == distance) return children[i];
+            }
+            return null;
+        }
+
+        private void add(int distance, Node child) {
+            if (size == distances.length) {
+                distances = Arrays.copyOf(distances, Math.max(2, size * 2));
+                children = Arrays.copyOf(children, Math.max(2, size * 2));
+            }
+            distances[size] = distance;
+            children[size++] = child;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.trendflow.keyword.keyword.index;
+
+public final class Jamo {
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    // 초성 19, 중성 21, 종성 27 (+ 없음)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    // 겹받침은 두 자모로 분리 ("닭" 입력 중 "달" 까지만 쳐도 매칭되도록)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private Jamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+
+    // 완성형 한글을 자모 단위로 분해, 그 외 문자는 그대로 유지
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                sb.append(c);
+                continue;
+            }
+            int offset = c - HANGUL_BEGIN;
+            sb.append(CHOSEONG[offset / (21 * 28)]);
+            sb.append(JUNGSEONG[(offset % (21 * 28)) / 28]);
+            sb.append(JONGSEONG[offset % 28]);
+        }
+        return sb.toString();
+    }
+}
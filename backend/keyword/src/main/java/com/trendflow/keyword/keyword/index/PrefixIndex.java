@@ -0,0 +1,152 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import com.trendflow.keyword.keyword.service.KeywordDictService;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 자모 단위 트라이 : 노드마다 가중치 상위 키워드를 들고 있어 조회는 접두어 길이에만 비례
+// 가중치는 증가만 하므로 노드별 상위 목록은 추가 시점에 갱신하는 것으로 정확히 유지됨
+public class PrefixIndex {
+    private static final int NONE = -1;
+
+    private final int top;
+    private final Node root = new Node();
+
+    private final List<String> keywordList = new ArrayList<>();
+    private final LongArrayList weightList = new LongArrayList();
+    private final Object2IntOpenHashMap<String> idMap = new Object2IntOpenHashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PrefixIndex(int top) {
+        this.top = top;
+        this.idMap.defaultReturnValue(NONE);
+    }
+
+    public void add(String keyword, long count) {
+        String normalized = KeywordDictService.normalize(keyword);
+        if (normalized.isEmpty() || count <= 0) return;
+
+        lock.writeLock().lock();
+        try {
+            int id = idMap.getInt(normalized);
+            if (id == NONE) {
+                id = keywordList.size();
+                keywordList.add(normalized);
+                weightList.add(0L);
+                idMap.put(normalized, id);
+            }
+            weightList.set(id, weightList.getLong(id) + count);
+
+            Node node = root;
+            String jamo = Jamo.decompose(normalized);
+            for (int i = 0; i < jamo.length(); i++) {
+                node = node.child(jamo.charAt(i));
+                node.offer(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<WeightedKeyword> search(String prefix, int limit) {
+        String normalized = KeywordDictService.normalize(prefix);
+        List<WeightedKeyword> result = new ArrayList<>();
+        if (normalized.isEmpty()) return result;
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            String jamo = Jamo.decompose(normalized);
+            for (int i = 0; i < jamo.length() && node != null; i++) {
+                node = node.find(jamo.charAt(i));
+            }
+            if (node == null) return result;
+
+            for (int i = 0; i < Math.min(limit, node.topSize); i++) {
+                int id = node.top[i];
+                result.add(WeightedKeyword.builder()
+                        .keyword(keywordList.get(id))
+                        .count(weightList.getLong(id))
+                        .build());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keywordList.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int[] top = new int[0];
+        private int topSize;
+
+        private Node find(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos < 0 ? null : children[pos];
+        }
+
+        private Node child(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos >= 0) return children[pos];
+
+            // 정렬 순서를 유지하며 삽입
+            int insert = -(pos + 1);
+            char[] nextKeys = new char[keys.length + 1];
+            Node[] nextChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, nextKeys, 0, insert);
+            System.arraycopy(children, 0, nextChildren, 0, insert);
+            System.arraycopy(keys, insert, nextKeys, insert + 1, keys.length - insert);
+            System.arraycopy(children, insert, nextChildren, insert + 1, children.length - insert);
+            nextKeys[insert] = c;
+            nextChildren[insert] = new Node();
+            keys = nextKeys;
+            children = nextChildren;
+            return nextChildren[insert];
+        }
+
+        private void offer(int id) {
+            int pos = NONE;
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == id) {
+                    pos = i;
+                    break;
+                }
+            }
+
+            if (pos == NONE) {
+                if (topSize < PrefixIndex.this.top) {
+                    if (topSize == top.length) top = Arrays.copyOf(top, Math.min(PrefixIndex.this.top, Math.max(2, topSize * 2)));
+                    pos = topSize++;
+                } else if (weightList.getLong(top[topSize - 1]) < weightList.getLong(id)) {
+                    pos = topSize - 1;
+                } else return;
+                top[pos] = id;
+            }
+
+            // 가중치 내림차순 유지
+            while (pos > 0 && weightList.getLong(top[pos - 1]) < weightList.getLong(top[pos])) {
+                int temp = top[pos - 1];
+                top[pos - 1] = top[pos];
+                top[pos] = temp;
+                pos--;
+            }
+        }
+    }
+}
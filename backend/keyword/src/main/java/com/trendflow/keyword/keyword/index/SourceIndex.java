@@ -0,0 +1,413 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import org.roaringbitmap.buffer.BufferFastAggregation;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// (키워드, 날짜) 별 소스 id Roaring 비트맵 역색인
+// 키워드는 BloomFilter.fold 로 접어서 색인 (DB 의 utf8mb4_0900_ai_ci 비교와 같이 표기가 달라도 같은 키워드)
+// 소스별 언급 횟수는 (횟수 - 1) 을 비트 단위로 나눈 비트맵 (비트 슬라이스) 으로 저장, 한 번 언급은 슬라이스가 비어 있음
+// 스냅샷에서 읽은 비트맵은 파일을 메모리 맵한 ImmutableRoaringBitmap 이고, 변경이 들어오면 그 항목만 MutableRoaringBitmap 으로 복사
+// 소스 id 는 부호 없는 32bit 범위만 저장 가능 (넘는 id 가 들어오면 covers() 가 false)
+public class SourceIndex {
+    private static final int MAGIC = 0x53524958;
+    private static final int VERSION = 2;
+    // 스냅샷 항목 종류 : 언급된 소스 비트맵 (그 외 0 이상은 슬라이스 번호)
+    private static final int POSTING = -1;
+
+    private final Map<String, TreeMap<Integer, ImmutableRoaringBitmap>> postingMap = new HashMap<>();
+    private final Map<String, TreeMap<Integer, List<ImmutableRoaringBitmap>>> sliceMap = new HashMap<>();
+    // 접은 키워드 -> 처음 들어온 표기 (결과에 표시)
+    private final Map<String, String> nameMap = new HashMap<>();
+    // 날짜 -> 그 날짜에 비트맵이 있는 키워드 (연관 키워드 후보를 날짜 범위로 좁힘)
+    private final TreeMap<Integer, Set<String>> dayKeywordMap = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 이 날짜 (yyyyMMdd) 부터의 소스를 모두 가지고 있음
+    private volatile int since;
+    // 색인된 가장 최근 날짜
+    private volatile int latest = 0;
+    private volatile boolean overflow = false;
+
+    public SourceIndex(int since) {
+        this.since = since;
+    }
+
+    public int getSince() {
+        return since;
+    }
+
+    public int getLatest() {
+        return latest;
+    }
+
+    // 범위 전체를 색인에서 답할 수 있는지 (색인된 가장 최근 날짜 이후는 아직 모름)
+    public boolean covers(int start, int end) {
+        return !overflow && start >= since && end <= latest;
+    }
+
+    // 수집 이벤트 : 소스의 언급 횟수에 count 를 더함
+    public void add(String keyword, int regDt, long sourceId, long count) {
+        update(keyword, regDt, sourceId, count, true);
+    }
+
+    // DB 에서 읽은 합계 : 소스의 언급 횟수를 count 로 맞춤 (같은 행을 다시 읽어도 결과가 같음)
+    public void put(String keyword, int regDt, long sourceId, long count) {
+        update(keyword, regDt, sourceId, count, false);
+    }
+
+    private void update(String keyword, int regDt, long sourceId, long count, boolean accumulate) {
+        if (sourceId < 0 || sourceId > 0xFFFFFFFFL) {
+            overflow = true;
+            return;
+        }
+        if (count <= 0) return;
+
+        String key = BloomFilter.fold(keyword);
+        int id = (int) sourceId;
+        lock.writeLock().lock();
+        try {
+            TreeMap<Integer, ImmutableRoaringBitmap> dayMap = postingMap.computeIfAbsent(key, k -> new TreeMap<>());
+            ImmutableRoaringBitmap bitmap = dayMap.get(regDt);
+            TreeMap<Integer, List<ImmutableRoaringBitmap>> sliceDayMap = sliceMap.get(key);
+            List<ImmutableRoaringBitmap> sliceList = sliceDayMap == null ? null : sliceDayMap.get(regDt);
+
+            long before = bitmap != null && bitmap.contains(id) ? 1 + sliceValue(sliceList, id) : 0;
+            long after = accumulate ? before + count : count;
+            if (after == before) return;
+
+            if (before == 0) toMutable(dayMap, regDt, bitmap).add(id);
+            long oldValue = Math.max(before - 1, 0);
+            long newValue = after - 1;
+            int bits = Long.SIZE - Long.numberOfLeadingZeros(oldValue | newValue);
+            if (bits > 0 && sliceList == null) {
+                sliceList = new ArrayList<>();
+                sliceMap.computeIfAbsent(key, k -> new TreeMap<>()).put(regDt, sliceList);
+            }
+            for (int slice = 0; slice < bits; slice++) {
+                boolean set = (newValue >>> slice & 1) == 1;
+                if (set == ((oldValue >>> slice & 1) == 1)) continue;
+                while (sliceList.size() <= slice) sliceList.add(new MutableRoaringBitmap());
+                ImmutableRoaringBitmap now = sliceList.get(slice);
+                MutableRoaringBitmap mutable = now instanceof MutableRoaringBitmap ? (MutableRoaringBitmap) now : now.toMutableRoaringBitmap();
+                sliceList.set(slice, mutable);
+                if (set) mutable.add(id);
+                else mutable.remove(id);
+            }
+
+            if (bitmap == null) dayKeywordMap.computeIfAbsent(regDt, k -> new HashSet<>()).add(key);
+            nameMap.putIfAbsent(key, keyword);
+            if (regDt > latest) latest = regDt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기간 내 키워드가 언급된 소스 (복사본)
+    public MutableRoaringBitmap find(String keyword, int start, int end) {
+        lock.readLock().lock();
+        try {
+            TreeMap<Integer, ImmutableRoaringBitmap> dayMap = postingMap.get(BloomFilter.fold(keyword));
+            if (dayMap == null) return new MutableRoaringBitmap();
+
+            Iterator<ImmutableRoaringBitmap> iterator = dayMap.subMap(start, true, end, true).values().iterator();
+            return iterator.hasNext() ? BufferFastAggregation.or(iterator) : new MutableRoaringBitmap();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기간 내 키워드와 같은 소스에 함께 언급된 키워드
+    // SQL (KeywordRepository.findByKeywordAndFromToDate) 과 같이 키워드가 언급된 소스에서의 언급 횟수 합 순, 자기 자신 포함
+    // 합 = 교집합 소스 수 + 슬라이스별 (교집합 소스 수 << 슬라이스 번호)
+    // 소스는 하나의 날짜에만 속하므로 키워드가 언급된 날짜의 비트맵끼리만 교집합을 셈
+    // 후보는 그 날짜들에 색인된 키워드만 보고, 합의 상한이 현재 limit 번째 값 이하인 후보는 교집합 없이 건너뜀
+    public List<WeightedKeyword> related(String keyword, int start, int end, int limit) {
+        if (limit <= 0) return new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            TreeMap<Integer, ImmutableRoaringBitmap> target = postingMap.get(BloomFilter.fold(keyword));
+            if (target == null) return new ArrayList<>();
+            NavigableMap<Integer, ImmutableRoaringBitmap> targetRange = target.subMap(start, true, end, true);
+            if (targetRange.isEmpty()) return new ArrayList<>();
+
+            Map<Integer, Long> targetCardinality = new HashMap<>();
+            Set<String> candidateSet = new HashSet<>();
+            for (Map.Entry<Integer, ImmutableRoaringBitmap> day : targetRange.entrySet()) {
+                targetCardinality.put(day.getKey(), day.getValue().getLongCardinality());
+                candidateSet.addAll(dayKeywordMap.getOrDefault(day.getKey(), Collections.emptySet()));
+            }
+
+            PriorityQueue<WeightedKeyword> heap = new PriorityQueue<>(Comparator.comparingLong(WeightedKeyword::getCount));
+            for (String candidate : candidateSet) {
+                TreeMap<Integer, ImmutableRoaringBitmap> dayMap = postingMap.get(candidate);
+                TreeMap<Integer, List<ImmutableRoaringBitmap>> sliceDayMap = sliceMap.getOrDefault(candidate, new TreeMap<>());
+                if (heap.size() == limit) {
+                    long bound = 0;
+                    for (Map.Entry<Integer, ImmutableRoaringBitmap> day : targetRange.entrySet()) {
+                        ImmutableRoaringBitmap other = dayMap.get(day.getKey());
+                        if (other == null) continue;
+                        long cardinality = targetCardinality.get(day.getKey());
+                        bound += Math.min(cardinality, other.getLongCardinality());
+                        List<ImmutableRoaringBitmap> sliceList = sliceDayMap.getOrDefault(day.getKey(), Collections.emptyList());
+                        for (int slice = 0; slice < sliceList.size(); slice++) {
+                            bound += Math.min(cardinality, sliceList.get(slice).getLongCardinality()) << slice;
+                        }
+                    }
+                    if (heap.peek().getCount() >= bound) continue;
+                }
+
+                long count = 0;
+                for (Map.Entry<Integer, ImmutableRoaringBitmap> day : targetRange.entrySet()) {
+                    ImmutableRoaringBitmap other = dayMap.get(day.getKey());
+                    if (other == null) continue;
+                    count += ImmutableRoaringBitmap.andCardinality(day.getValue(), other);
+                    List<ImmutableRoaringBitmap> sliceList = sliceDayMap.getOrDefault(day.getKey(), Collections.emptyList());
+                    for (int slice = 0; slice < sliceList.size(); slice++) {
+                        count += (long) ImmutableRoaringBitmap.andCardinality(day.getValue(), sliceList.get(slice)) << slice;
+                    }
+                }
+                if (count == 0) continue;
+                if (heap.size() == limit && heap.peek().getCount() >= count) continue;
+
+                heap.add(WeightedKeyword.builder().keyword(nameMap.get(candidate)).count(count).build());
+                if (heap.size() > limit) heap.poll();
+            }
+
+            List<WeightedKeyword> relatedList = new ArrayList<>(heap);
+            relatedList.sort(Comparator.comparingLong(WeightedKeyword::getCount).reversed());
+            return relatedList;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postingMap.values().stream().mapToInt(Map::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // before 이전 날짜를 버리고 파일에 쓴 뒤, 쓴 파일을 메모리 맵해서 힙의 비트맵을 교체
+    // 쓰기 잠금은 정리 / 목록 확정과 교체 때만 잡고 파일 쓰기, 읽기 중에는 조회와 변경을 막지 않음
+    // 헤더 : magic, version, since, 헤더 길이, 항목 수, (키워드, 날짜, 종류, 위치, 길이)...
+    public synchronized void snapshot(Path path, int before) throws IOException {
+        List<SnapshotEntry> entryList = new ArrayList<>();
+        int nextSince;
+        lock.writeLock().lock();
+        try {
+            for (Iterator<Map.Entry<String, TreeMap<Integer, ImmutableRoaringBitmap>>> iterator = postingMap.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<String, TreeMap<Integer, ImmutableRoaringBitmap>> posting = iterator.next();
+                posting.getValue().headMap(before).clear();
+                if (!posting.getValue().isEmpty()) continue;
+                iterator.remove();
+                nameMap.remove(posting.getKey());
+            }
+            for (Iterator<TreeMap<Integer, List<ImmutableRoaringBitmap>>> iterator = sliceMap.values().iterator(); iterator.hasNext(); ) {
+                TreeMap<Integer, List<ImmutableRoaringBitmap>> sliceDayMap = iterator.next();
+                sliceDayMap.headMap(before).clear();
+                if (sliceDayMap.isEmpty()) iterator.remove();
+            }
+            dayKeywordMap.headMap(before).clear();
+            nextSince = Math.max(since, before);
+            since = nextSince;
+
+            // 변경 중인 비트맵은 복사본을 씀 (잠금을 푼 뒤에도 변경이 들어올 수 있음)
+            for (Map.Entry<String, TreeMap<Integer, ImmutableRoaringBitmap>> posting : postingMap.entrySet()) {
+                String name = nameMap.get(posting.getKey());
+                for (Map.Entry<Integer, ImmutableRoaringBitmap> day : posting.getValue().entrySet()) {
+                    entryList.add(new SnapshotEntry(name, posting.getKey(), day.getKey(), POSTING, copy(day.getValue())));
+                }
+                TreeMap<Integer, List<ImmutableRoaringBitmap>> sliceDayMap = sliceMap.getOrDefault(posting.getKey(), new TreeMap<>());
+                for (Map.Entry<Integer, List<ImmutableRoaringBitmap>> day : sliceDayMap.entrySet()) {
+                    for (int slice = 0; slice < day.getValue().size(); slice++) {
+                        entryList.add(new SnapshotEntry(name, posting.getKey(), day.getKey(), slice, copy(day.getValue().get(slice))));
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        write(path, nextSince, entryList);
+        SourceIndex mapped = read(path, nextSince);
+
+        // 그 사이 바뀌지 않은 항목만 교체 (슬라이스는 비트가 지워질 수도 있으므로 개수가 아니라 내용을 비교)
+        lock.writeLock().lock();
+        try {
+            for (SnapshotEntry entry : entryList) {
+                if (entry.slice == POSTING) {
+                    TreeMap<Integer, ImmutableRoaringBitmap> dayMap = postingMap.get(entry.key);
+                    ImmutableRoaringBitmap now = dayMap == null ? null : dayMap.get(entry.regDt);
+                    if (now == null || !now.equals(entry.bitmap)) continue;
+
+                    dayMap.put(entry.regDt, mapped.postingMap.get(entry.key).get(entry.regDt));
+                } else {
+                    TreeMap<Integer, List<ImmutableRoaringBitmap>> sliceDayMap = sliceMap.get(entry.key);
+                    List<ImmutableRoaringBitmap> sliceList = sliceDayMap == null ? null : sliceDayMap.get(entry.regDt);
+                    if (sliceList == null || sliceList.size() <= entry.slice || !sliceList.get(entry.slice).equals(entry.bitmap)) continue;
+
+                    sliceList.set(entry.slice, mapped.sliceMap.get(entry.key).get(entry.regDt).get(entry.slice));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void write(Path path, int since, List<SnapshotEntry> entryList) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(entryList.size());
+        long offset = 0;
+        for (SnapshotEntry entry : entryList) {
+            int length = entry.bitmap.serializedSizeInBytes();
+            headerOut.writeUTF(entry.name);
+            headerOut.writeInt(entry.regDt);
+            headerOut.writeByte(entry.slice);
+            headerOut.writeLong(offset);
+            headerOut.writeInt(length);
+            offset += length;
+        }
+        headerOut.flush();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(since);
+            out.writeInt(header.size());
+            header.writeTo(out);
+            for (SnapshotEntry entry : entryList) entry.bitmap.serialize(out);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 이전 버전 스냅샷은 IOException (호출하는 쪽이 DB 에서 다시 만듦)
+    public static SourceIndex load(Path path) throws IOException {
+        int since;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) throw new IOException("invalid source index snapshot");
+            since = in.readInt();
+        }
+        SourceIndex sourceIndex = read(path, since);
+        for (Map.Entry<String, TreeMap<Integer, ImmutableRoaringBitmap>> posting : sourceIndex.postingMap.entrySet()) {
+            for (Integer regDt : posting.getValue().keySet()) {
+                sourceIndex.dayKeywordMap.computeIfAbsent(regDt, k -> new HashSet<>()).add(posting.getKey());
+            }
+        }
+        if (!sourceIndex.dayKeywordMap.isEmpty()) sourceIndex.latest = sourceIndex.dayKeywordMap.lastKey();
+        return sourceIndex;
+    }
+
+    private static SourceIndex read(Path path, int since) throws IOException {
+        SourceIndex sourceIndex = new SourceIndex(since);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) throw new IOException("invalid source index snapshot");
+            in.readInt();
+            int headerLength = in.readInt();
+            long dataStart = 16L + headerLength;
+
+            // 매핑은 채널을 닫아도 유지됨 (2GB 이하 스냅샷 기준)
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, dataStart, channel.size() - dataStart);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                int regDt = in.readInt();
+                int slice = in.readByte();
+                int offset = (int) in.readLong();
+                int length = in.readInt();
+
+                ByteBuffer buffer = data.duplicate();
+                buffer.position(offset);
+                buffer.limit(offset + length);
+                ImmutableRoaringBitmap bitmap = new ImmutableRoaringBitmap(buffer.slice());
+
+                String key = BloomFilter.fold(name);
+                sourceIndex.nameMap.putIfAbsent(key, name);
+                if (slice == POSTING) {
+                    sourceIndex.postingMap.computeIfAbsent(key, k -> new TreeMap<>()).put(regDt, bitmap);
+                    continue;
+                }
+                List<ImmutableRoaringBitmap> sliceList = sourceIndex.sliceMap.computeIfAbsent(key, k -> new TreeMap<>())
+                        .computeIfAbsent(regDt, k -> new ArrayList<>());
+                while (sliceList.size() <= slice) sliceList.add(new MutableRoaringBitmap());
+                sliceList.set(slice, bitmap);
+            }
+        }
+        return sourceIndex;
+    }
+
+    private static MutableRoaringBitmap toMutable(TreeMap<Integer, ImmutableRoaringBitmap> dayMap, int regDt, ImmutableRoaringBitmap bitmap) {
+        if (bitmap instanceof MutableRoaringBitmap) return (MutableRoaringBitmap) bitmap;
+        MutableRoaringBitmap mutable = bitmap == null ? new MutableRoaringBitmap() : bitmap.toMutableRoaringBitmap();
+        dayMap.put(regDt, mutable);
+        return mutable;
+    }
+
+    // 슬라이스에서 소스의 (언급 횟수 - 1) 을 복원
+    private static long sliceValue(List<ImmutableRoaringBitmap> sliceList, int id) {
+        if (sliceList == null) return 0;
+        long value = 0;
+        for (int slice = 0; slice < sliceList.size(); slice++) {
+            if (sliceList.get(slice).contains(id)) value |= 1L << slice;
+        }
+        return value;
+    }
+
+    private static ImmutableRoaringBitmap copy(ImmutableRoaringBitmap bitmap) {
+        if (!(bitmap instanceof MutableRoaringBitmap)) return bitmap;
+        ((MutableRoaringBitmap) bitmap).runOptimize();
+        return ((MutableRoaringBitmap) bitmap).clone();
+    }
+
+    private static final class SnapshotEntry {
+        private final String name;
+        private final String key;
+        private final int regDt;
+        private final int slice;
+        private final ImmutableRoaringBitmap bitmap;
+
+        private SnapshotEntry(String name, String key, int regDt, int slice, ImmutableRoaringBitmap bitmap) {
+            this.name = name;
+            this.key = key;
+            this.regDt = regDt;
+            this.slice = slice;
+            this.bitmap = bitmap;
+        }
+    }
+}
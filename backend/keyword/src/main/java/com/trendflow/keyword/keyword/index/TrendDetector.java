@@ -0,0 +1,190 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.TrendKeyword;
+import com.trendflow.keyword.keyword.service.KeywordDictService;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 키워드별 버킷(시간, 일) 언급량의 EWMA 평균, 분산으로 급상승 점수(z-score) 계산
+// 증분은 O(1), 키워드 상태는 슬롯 번호로 접근하는 기본형 배열에 보관
+public class TrendDetector {
+    private static final int NONE = -1;
+    // 빈 버킷이 길게 이어지면 그 이상은 반영하지 않음 (이미 평균이 거의 0)
+    private static final int MAX_GAP = 64;
+
+    private final double alpha;
+    private final int warmup;
+    private final long minCount;
+
+    private final Object2IntOpenHashMap<String> slotMap = new Object2IntOpenHashMap<>();
+    private final List<String> keywordList = new ArrayList<>();
+
+    private long[] bucket = new long[1024];
+    private long[] current = new long[1024];
+    private double[] mean = new double[1024];
+    private double[] variance = new double[1024];
+    private int[] seen = new int[1024];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TrendDetector(double alpha, int warmup, long minCount) {
+        this.alpha = alpha;
+        this.warmup = warmup;
+        this.minCount = minCount;
+        this.slotMap.defaultReturnValue(NONE);
+    }
+
+    // 지난 버킷에 늦게 들어온 값은 무시
+    public void add(String keyword, long now, long count) {
+        String normalized = KeywordDictService.normalize(keyword);
+        if (normalized.isEmpty() || count <= 0) return;
+
+        lock.writeLock().lock();
+        try {
+            int slot = slotMap.getInt(normalized);
+            if (slot == NONE) {
+                slot = newSlot(normalized, now);
+            } else if (now > bucket[slot]) {
+                close(slot, now);
+            } else if (now < bucket[slot]) {
+                return;
+            }
+            current[slot] += count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // now 버킷 기준 점수 상위 limit 개
+    public List<TrendKeyword> top(long now, int limit) {
+        if (limit <= 0) return new ArrayList<>();
+
+        int[] heapSlot = new int[limit];
+        double[] heapScore = new double[limit];
+        int size = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < keywordList.size(); slot++) {
+                if (bucket[slot] != now || current[slot] < minCount || seen[slot] < warmup) continue;
+
+                double score = score(slot);
+                if (score <= 0) continue;
+
+                if (size < limit) {
+                    heapSlot[size] = slot;
+                    heapScore[size] = score;
+                    siftUp(heapSlot, heapScore, size++);
+                } else if (score > heapScore[0]) {
+                    heapSlot[0] = slot;
+                    heapScore[0] = score;
+                    siftDown(heapSlot, heapScore, size);
+                }
+            }
+
+            // 최소 힙을 꺼내면서 뒤에서부터 채워 점수 내림차순으로 만듦
+            TrendKeyword[] result = new TrendKeyword[size];
+            for (int i = size - 1; i >= 0; i--) {
+                int slot = heapSlot[0];
+                result[i] = TrendKeyword.builder()
+                        .keyword(keywordList.get(slot))
+                        .count(current[slot])
+                        .mean(mean[slot])
+                        .score(heapScore[0])
+                        .build();
+                heapSlot[0] = heapSlot[i];
+                heapScore[0] = heapScore[i];
+                siftDown(heapSlot, heapScore, i);
+            }
+            return new ArrayList<>(Arrays.asList(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keywordList.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 표본이 적은 키워드가 튀지 않도록 분모에 평균(포아송 분산)과 1을 더함
+    private double score(int slot) {
+        return (current[slot] - mean[slot]) / (Math.sqrt(variance[slot] + mean[slot]) + 1);
+    }
+
+    private int newSlot(String keyword, long now) {
+        int slot = keywordList.size();
+        if (slot == bucket.length) {
+            int capacity = slot * 2;
+            bucket = Arrays.copyOf(bucket, capacity);
+            current = Arrays.copyOf(current, capacity);
+            mean = Arrays.copyOf(mean, capacity);
+            variance = Arrays.copyOf(variance, capacity);
+            seen = Arrays.copyOf(seen, capacity);
+        }
+        keywordList.add(keyword);
+        slotMap.put(keyword, slot);
+        bucket[slot] = now;
+        return slot;
+    }
+
+    // 지난 버킷 값과 그 사이 빈 버킷(0)을 평균, 분산에 반영
+    private void close(int slot, long now) {
+        // 첫 버킷은 평균의 초기값으로 사용
+        if (seen[slot] == 0) mean[slot] = current[slot];
+        else update(slot, current[slot]);
+        long gap = Math.min(now - bucket[slot] - 1, MAX_GAP);
+        for (int i = 0; i < gap; i++) update(slot, 0);
+
+        seen[slot] += (int) gap + 1;
+        bucket[slot] = now;
+        current[slot] = 0;
+    }
+
+    private void update(int slot, double value) {
+        double diff = value - mean[slot];
+        double increment = alpha * diff;
+        mean[slot] += increment;
+        variance[slot] = (1 - alpha) * (variance[slot] + diff * increment);
+    }
+
+    private static void siftUp(int[] heapSlot, double[] heapScore, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heapScore[parent] <= heapScore[index]) break;
+            swap(heapSlot, heapScore, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heapSlot, double[] heapScore, int size) {
+        int index = 0;
+        while (true) {
+            int left = index * 2 + 1;
+            int right = left + 1;
+            int smallest = index;
+            if (left < size && heapScore[left] < heapScore[smallest]) smallest = left;
+            if (right < size && heapScore[right] < heapScore[smallest]) smallest = right;
+            if (smallest == index) break;
+            swap(heapSlot, heapScore, smallest, index);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] heapSlot, double[] heapScore, int i, int j) {
+        int slot = heapSlot[i];
+        heapSlot[i] = heapSlot[j];
+        heapSlot[j] = slot;
+        double score = heapScore[i];
+        heapScore[i] = heapScore[j];
+        heapScore[j] = score;
+    }
+}
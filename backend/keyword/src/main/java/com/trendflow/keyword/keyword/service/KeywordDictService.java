@@ -0,0 +1,200 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordDictRepository;
+import com.trendflow.keyword.keyword.entity.KeywordDict;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 정규화한 키워드 <-> 정수 id 사전
+// 기동 시 전체를 메모리에 올리고, 요청 경로에서는 DB 를 읽거나 쓰지 않음
+// 사전에 없는 키워드는 임시 음수 id 를 주고 등록 작업이 별도 쓰기 트랜잭션 (프라이머리) 에서 DB id 로 교체
+@Slf4j
+@Service
+public class KeywordDictService {
+    public static final int NONE = -1;
+
+    private final KeywordDictRepository keywordDictRepository;
+    private final TransactionTemplate registerTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 키워드 -> id
+    private final Object2IntOpenHashMap<String> idMap = newIdMap();
+    // id -> 키워드
+    private final Int2ObjectOpenHashMap<String> keywordMap = new Int2ObjectOpenHashMap<>();
+    // 등록 대기 중인 키워드 (임시 id 부여됨)
+    private final Set<String> pendingSet = new LinkedHashSet<>();
+    private int nextPendingId = NONE - 1;
+
+    public KeywordDictService(KeywordDictRepository keywordDictRepository, PlatformTransactionManager transactionManager) {
+        this.keywordDictRepository = keywordDictRepository;
+        this.registerTemplate = new TransactionTemplate(transactionManager);
+        // 호출한 쪽의 (읽기 전용) 트랜잭션과 분리
+        this.registerTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 사전 키 (keyword_dict.keyword 는 utf8mb4_bin 이므로 DB 의 UNIQUE 비교도 이 결과 그대로)
+    // 대소문자, 공백만 접고 악센트, 전각은 구분
+    public static String normalize(String keyword) {
+        if (keyword == null) return "";
+        return Normalizer.normalize(keyword, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        List<KeywordDict> keywordDictList = keywordDictRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            for (KeywordDict keywordDict : keywordDictList) put(keywordDict.getKeyword(), keywordDict.getKeywordDictId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("preload - keyword dict : {}", keywordDictList.size());
+    }
+
+    public int getId(String keyword) {
+        return getIdList(Collections.singletonList(keyword))[0];
+    }
+
+    // 한 번의 잠금 안에서 모두 바꾸므로 같은 호출 결과끼리는 id 교체 중에도 일관됨
+    public int[] getIdList(List<String> keywordList) {
+        String[] normalizedList = new String[keywordList.size()];
+        for (int i = 0; i < normalizedList.length; i++) normalizedList[i] = normalize(keywordList.get(i));
+
+        int[] idList = new int[normalizedList.length];
+        boolean miss = false;
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < idList.length; i++) {
+                idList[i] = idMap.getInt(normalizedList[i]);
+                if (idList[i] == NONE) miss = true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!miss) return idList;
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < idList.length; i++) {
+                idList[i] = idMap.getInt(normalizedList[i]);
+                if (idList[i] != NONE) continue;
+
+                idList[i] = nextPendingId--;
+                put(normalizedList[i], idList[i]);
+                pendingSet.add(normalizedList[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return idList;
+    }
+
+    public String getKeyword(int id) {
+        lock.readLock().lock();
+        try {
+            return keywordMap.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // id 배열 -> (id, 순위) 맵
+    public static Int2IntOpenHashMap toRankMap(int[] idList) {
+        Int2IntOpenHashMap rankMap = new Int2IntOpenHashMap(idList.length);
+        rankMap.defaultReturnValue(NONE);
+        for (int rank = 0; rank < idList.length; rank++) {
+            rankMap.putIfAbsent(idList[rank], rank);
+        }
+        return rankMap;
+    }
+
+    @Scheduled(fixedDelayString = "${keyword.dict.register:10000}")
+    public void registerPending() {
+        List<String> pendingList;
+        lock.writeLock().lock();
+        try {
+            if (pendingSet.isEmpty()) return;
+            pendingList = new ArrayList<>(pendingSet);
+            pendingSet.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<String> failList = new ArrayList<>();
+        for (String normalized : pendingList) {
+            try {
+                int id = register(normalized);
+                lock.writeLock().lock();
+                try {
+                    int pendingId = idMap.getInt(normalized);
+                    if (pendingId < NONE) keywordMap.remove(pendingId);
+                    put(normalized, id);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (DataAccessException e) {
+                log.error("registerPending - {} : {}", normalized, e.getMessage());
+                failList.add(normalized);
+            }
+        }
+
+        // 실패한 키워드는 임시 id 를 유지한 채 다음 주기에 다시 등록
+        if (failList.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            pendingSet.addAll(failList);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int register(String normalized) {
+        try {
+            return registerTemplate.execute(status -> keywordDictRepository.findByKeyword(normalized)
+                    .orElseGet(() -> keywordDictRepository.saveAndFlush(KeywordDict.builder()
+                            .keyword(normalized)
+                            .build()))
+                    .getKeywordDictId());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 등록한 경우 (실패한 트랜잭션은 롤백됐으므로 새 트랜잭션에서 다시 조회)
+            return registerTemplate.execute(status -> keywordDictRepository.findByKeyword(normalized)
+                    .orElseThrow(() -> e)
+                    .getKeywordDictId());
+        }
+    }
+
+    private void put(String keyword, int id) {
+        idMap.put(keyword, id);
+        keywordMap.putIfAbsent(id, keyword);
+    }
+
+    private static Object2IntOpenHashMap<String> newIdMap() {
+        Object2IntOpenHashMap<String> idMap = new Object2IntOpenHashMap<>();
+        idMap.defaultReturnValue(NONE);
+        return idMap;
+    }
+}
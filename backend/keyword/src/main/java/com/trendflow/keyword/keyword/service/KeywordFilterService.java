@@ -0,0 +1,128 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.global.exception.NotFoundException;
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.dto.response.FindKeywordFilterResponse;
+import com.trendflow.keyword.keyword.index.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class KeywordFilterService {
+    private final KeywordRepository keywordRepository;
+    private final Counter missCounter;
+
+    @Value("${keyword.filter.fpp:0.01}")
+    private Double fpp;
+    // 재생성 사이 신규 키워드가 들어올 여유분
+    @Value("${keyword.filter.headroom:1.2}")
+    private Double headroom;
+
+    // 최초 생성 전에는 null : 모든 키워드를 통과시킴
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime createdAt;
+    // 재생성 중 들어온 키워드 : 조회 시작 전에 만들고, 새 필터를 만든 뒤 옮김 (조회 중 수집된 키워드를 잃지 않도록)
+    // BloomFilter.put 은 스레드 안전하지 않으므로 필터 변경과 함께 lock 으로 보호
+    private final Object lock = new Object();
+    private BloomFilter building;
+    private Set<String> pending;
+
+    public KeywordFilterService(KeywordRepository keywordRepository, MeterRegistry meterRegistry) {
+        this.keywordRepository = keywordRepository;
+        this.missCounter = meterRegistry.counter("keyword.filter.miss");
+
+        Gauge.builder("keyword.filter.fpp", this, service -> service.bloomFilter == null ? 0 : service.bloomFilter.expectedFpp())
+                .register(meterRegistry);
+        Gauge.builder("keyword.filter.memory", this, service -> service.bloomFilter == null ? 0 : service.bloomFilter.memory())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("keyword.filter.size", this, service -> service.bloomFilter == null ? 0 : service.bloomFilter.size())
+                .register(meterRegistry);
+    }
+
+    // false 이면 수집된 적 없는 키워드
+    public boolean mightContain(String keyword) {
+        BloomFilter now = bloomFilter;
+        if (now == null || now.mightContain(keyword)) return true;
+
+        missCounter.increment();
+        return false;
+    }
+
+    // 새로 수집된 키워드 반영 (재생성 중이면 새 필터에도 반영)
+    // 이 인스턴스가 수집한 키워드만 즉시 반영되고, 다른 인스턴스가 수집한 키워드는 다음 재생성 (keyword.filter.rebuild) 때 DB 에서 반영됨
+    // 그 사이 이 인스턴스와 이 필터를 받아간 analyze 는 그 키워드를 없다고 판단할 수 있음
+    public void add(String keyword) {
+        synchronized (lock) {
+            BloomFilter now = bloomFilter;
+            if (now != null) now.put(keyword);
+            if (building != null) building.put(keyword);
+            else if (pending != null) pending.add(keyword);
+        }
+    }
+
+    public FindKeywordFilterResponse findKeywordFilter() {
+        BloomFilter now = bloomFilter;
+        if (now == null) throw new NotFoundException();
+        return FindKeywordFilterResponse.of(now, createdAt);
+    }
+
+    // 원본 (keyword) 전체로 생성, 조회 실패 시 기존 필터 유지
+    // 원본이 비어 있으면 만들지 않음 : 적재 전 필터가 모든 키워드를 확실히 없다고 판단하지 않도록
+    @Scheduled(initialDelay = 0, fixedDelayString = "${keyword.filter.rebuild:600000}")
+    public void rebuild() {
+        synchronized (lock) {
+            pending = new HashSet<>();
+        }
+        try {
+            List<String> keywordList;
+            try {
+                keywordList = keywordRepository.findDistinctKeyword();
+            } catch (DataAccessException e) {
+                log.error("rebuild - {}", e.getMessage());
+                return;
+            }
+            if (keywordList.isEmpty()) {
+                log.warn("rebuild - keyword is empty, filter disabled");
+                bloomFilter = null;
+                return;
+            }
+
+            BloomFilter next = BloomFilter.create((int) (keywordList.size() * headroom), fpp);
+            synchronized (lock) {
+                for (String keyword : pending) next.put(keyword);
+                pending = null;
+                building = next;
+            }
+            for (String keyword : keywordList) {
+                synchronized (lock) {
+                    next.put(keyword);
+                }
+            }
+
+            synchronized (lock) {
+                bloomFilter = next;
+                building = null;
+            }
+            createdAt = LocalDateTime.now();
+            log.info("rebuild - keyword filter : {}, memory : {}, fpp : {}", next.size(), next.memory(), next.expectedFpp());
+        } finally {
+            synchronized (lock) {
+                pending = null;
+                building = null;
+            }
+        }
+    }
+}
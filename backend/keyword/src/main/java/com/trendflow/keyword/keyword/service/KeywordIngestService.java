@@ -0,0 +1,290 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendflow.keyword.global.exception.NotFoundException;
+import com.trendflow.keyword.keyword.Repository.KeywordIngestRepository;
+import com.trendflow.keyword.keyword.dto.response.IngestKeywordResponse;
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.event.KeywordIngestEvent;
+import com.trendflow.keyword.keyword.event.KeywordSourceEvent;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordIngestService {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int INGEST_ID_LENGTH = 64;
+    // 적재 순서를 고정해 동시 적재 간 데드락 방지
+    private static final Comparator<KeywordIngest> ORDER = Comparator.comparing(KeywordIngest::getKeyword)
+            .thenComparing(KeywordIngest::getRegDt)
+            .thenComparing(KeywordIngest::getPlatformCode)
+            .thenComparing(KeywordIngest::getSourceId);
+
+    private final KeywordIngestRepository keywordIngestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    // 메모리에 모을 최대 (소스, 키워드, 날짜) 수, 넘으면 요청 트랜잭션 안에서 먼저 DB 에 반영
+    @Value("${keyword.ingest.flush-size:200000}")
+    private Integer flushSize;
+    // 커밋 후 메모리 인덱스에 넘기려고 요청 하나에 모아두는 최대 행 수, 넘으면 목록 대신 커밋 후 DB 에서 다시 읽음
+    @Value("${keyword.ingest.event-size:200000}")
+    private Integer eventSize;
+
+    // NDJSON : {"sourceId":1,"platformCode":"SU200","keyword":"...","count":1,"regDt":20230228}
+    public IngestKeywordResponse ingestJson(String ingestId, InputStream inputStream, boolean gzip) {
+        return ingest(ingestId, aggregator -> {
+            try (MappingIterator<KeywordIngest> iterator = objectMapper.readerFor(KeywordIngest.class)
+                    .readValues(open(inputStream, gzip))) {
+                while (iterator.hasNextValue()) aggregator.add(iterator.nextValue());
+            }
+        });
+    }
+
+    // 바이너리 : (long sourceId, UTF platformCode, UTF keyword, int count, int regDt) 반복
+    public IngestKeywordResponse ingestBinary(String ingestId, InputStream inputStream, boolean gzip) {
+        return ingest(ingestId, aggregator -> {
+            try (DataInputStream dataInputStream = new DataInputStream(open(inputStream, gzip))) {
+                while (true) {
+                    long sourceId;
+                    try {
+                        sourceId = dataInputStream.readLong();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    String platformCode = dataInputStream.readUTF();
+                    String keyword = dataInputStream.readUTF();
+                    long count = dataInputStream.readInt();
+                    int regDt = dataInputStream.readInt();
+                    aggregator.add(sourceId, platformCode, keyword, regDt, count);
+                }
+            }
+        });
+    }
+
+    // 요청 하나를 한 트랜잭션으로 적재 : 중간에 실패하면 전부 롤백되므로 같은 요청을 다시 보내도 중복 합산되지 않음
+    // 적재 id 가 있으면 함께 기록해서, 커밋 후 응답만 유실되어 다시 보낸 요청은 적재하지 않고 기록된 결과를 돌려줌
+    private IngestKeywordResponse ingest(String ingestId, Reader reader) {
+        if (ingestId != null && (ingestId.isEmpty() || ingestId.length() > INGEST_ID_LENGTH)) throw new NotFoundException();
+
+        Aggregator aggregator = new Aggregator();
+        try {
+            return transactionTemplate.execute(status -> {
+                if (ingestId != null) keywordIngestRepository.insertBatch(ingestId);
+                try {
+                    reader.read(aggregator);
+                } catch (IOException | IllegalArgumentException e) {
+                    throw invalid(aggregator, e);
+                }
+                IngestKeywordResponse ingestKeywordResponse = aggregator.finish();
+                if (ingestId != null) keywordIngestRepository.updateBatch(ingestId, aggregator.tuples, aggregator.rows);
+                return ingestKeywordResponse;
+            });
+        } catch (DuplicateKeyException e) {
+            log.info("ingest - {} already ingested", ingestId);
+            return keywordIngestRepository.findBatch(ingestId).orElseThrow(() -> e);
+        }
+    }
+
+    private InputStream open(InputStream inputStream, boolean gzip) throws IOException {
+        return gzip ? new GZIPInputStream(inputStream, BUFFER_SIZE) : new BufferedInputStream(inputStream, BUFFER_SIZE);
+    }
+
+    // 잘못된 입력 : 요청 전체를 롤백
+    private NotFoundException invalid(Aggregator aggregator, Exception e) {
+        log.error("ingest - invalid input after {} tuples, {} rows rolled back : {}", aggregator.tuples, aggregator.rows, e.getMessage());
+        return new NotFoundException();
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        void read(Aggregator aggregator) throws IOException;
+    }
+
+    private class Aggregator {
+        private final Object2LongOpenHashMap<Key> countMap = new Object2LongOpenHashMap<>();
+        private long tuples;
+        private long rows;
+
+        // 커밋 후 이벤트로 넘길 증분 : 중간 반영마다 발행하지 않고 요청 단위로 합쳐서 마지막에 한 번만 발행
+        // (키워드, 플랫폼, 날짜) 별 합계 (소스 id 는 0), eventSize 를 넘으면 버리고 dailyOverflow
+        private final Object2LongOpenHashMap<Key> dailyMap = new Object2LongOpenHashMap<>();
+        private boolean dailyOverflow;
+        // (소스, 키워드, 날짜) 행, eventSize 를 넘으면 버리고 (null) 적재한 날짜 범위만 기억
+        private List<KeywordIngest> sourceList = new ArrayList<>();
+        private int minRegDt = Integer.MAX_VALUE;
+        private int maxRegDt = Integer.MIN_VALUE;
+
+        private void add(KeywordIngest keyword) {
+            if (keyword.getSourceId() == null || keyword.getPlatformCode() == null || keyword.getKeyword() == null
+                    || keyword.getRegDt() == null) throw new IllegalArgumentException("missing field");
+            add(keyword.getSourceId(), keyword.getPlatformCode(), keyword.getKeyword(), keyword.getRegDt(),
+                    keyword.getCount() == null ? 1L : keyword.getCount());
+        }
+
+        private void add(long sourceId, String platformCode, String keyword, int regDt, long count) {
+            countMap.addTo(new Key(sourceId, platformCode, keyword, regDt), count);
+            tuples++;
+            if (countMap.size() >= flushSize) flush();
+        }
+
+        private IngestKeywordResponse finish() {
+            if (!countMap.isEmpty()) flush();
+            publish();
+            return IngestKeywordResponse.builder()
+                    .tuples(tuples)
+                    .rows(rows)
+                    .replayed(false)
+                    .build();
+        }
+
+        private void flush() {
+            List<KeywordIngest> keywordList = new ArrayList<>(countMap.size());
+            for (Object2LongMap.Entry<Key> entry : countMap.object2LongEntrySet()) {
+                Key key = entry.getKey();
+                keywordList.add(KeywordIngest.builder()
+                        .sourceId(key.sourceId)
+                        .platformCode(key.platformCode)
+                        .keyword(key.keyword)
+                        .regDt(key.regDt)
+                        .count(entry.getLongValue())
+                        .build());
+            }
+            keywordList.sort(ORDER);
+
+            // 정렬되어 있으므로 인접한 행끼리 합산
+            List<KeywordIngest> dailyList = merge(keywordList, true);
+            List<KeywordIngest> countList = merge(dailyList, false);
+
+            keywordIngestRepository.upsertKeyword(keywordList);
+            keywordIngestRepository.upsertPlatformDaily(dailyList);
+            keywordIngestRepository.upsertKeywordCount(countList);
+            collect(keywordList, dailyList);
+
+            rows += keywordList.size();
+            countMap.clear();
+            log.info("ingest - flush {} rows, {} keywords", keywordList.size(), countList.size());
+        }
+
+        private void collect(List<KeywordIngest> keywordList, List<KeywordIngest> dailyList) {
+            if (!dailyOverflow) {
+                for (KeywordIngest daily : dailyList) {
+                    dailyMap.addTo(new Key(0L, daily.getPlatformCode(), daily.getKeyword(), daily.getRegDt()), daily.getCount());
+                }
+                if (dailyMap.size() > eventSize) {
+                    dailyOverflow = true;
+                    dailyMap.clear();
+                    dailyMap.trim();
+                }
+            }
+
+            for (KeywordIngest keyword : keywordList) {
+                minRegDt = Math.min(minRegDt, keyword.getRegDt());
+                maxRegDt = Math.max(maxRegDt, keyword.getRegDt());
+            }
+            if (sourceList == null) return;
+            if (sourceList.size() + keywordList.size() > eventSize) sourceList = null;
+            else sourceList.addAll(keywordList);
+        }
+
+        // 요청 트랜잭션 안에서 발행하고 메모리 인덱스 반영은 커밋 후 (KeywordIngestListener)
+        private void publish() {
+            if (dailyOverflow) {
+                log.info("ingest - {} daily rows exceed event size, rebuild after commit", rows);
+                applicationEventPublisher.publishEvent(KeywordIngestEvent.rebuild());
+            } else if (!dailyMap.isEmpty()) {
+                List<KeywordIngest> dailyList = new ArrayList<>(dailyMap.size());
+                for (Object2LongMap.Entry<Key> entry : dailyMap.object2LongEntrySet()) {
+                    Key key = entry.getKey();
+                    dailyList.add(KeywordIngest.builder()
+                            .platformCode(key.platformCode)
+                            .keyword(key.keyword)
+                            .regDt(key.regDt)
+                            .count(entry.getLongValue())
+                            .build());
+                }
+                applicationEventPublisher.publishEvent(new KeywordIngestEvent(dailyList));
+            }
+
+            if (sourceList == null) {
+                log.info("ingest - {} source rows exceed event size, reload {} ~ {} after commit", rows, minRegDt, maxRegDt);
+                applicationEventPublisher.publishEvent(KeywordSourceEvent.reload(minRegDt, maxRegDt));
+            } else if (!sourceList.isEmpty()) {
+                applicationEventPublisher.publishEvent(new KeywordSourceEvent(sourceList));
+            }
+        }
+    }
+
+    // (키워드, 날짜[, 플랫폼]) 단위 합계, 키워드, 날짜, 플랫폼 순으로 정렬된 목록이어야 함
+    static List<KeywordIngest> merge(List<KeywordIngest> keywordList, boolean byPlatform) {
+        List<KeywordIngest> mergedList = new ArrayList<>();
+        KeywordIngest last = null;
+        for (KeywordIngest keyword : keywordList) {
+            if (last != null && last.getKeyword().equals(keyword.getKeyword()) && last.getRegDt().equals(keyword.getRegDt())
+                    && (!byPlatform || last.getPlatformCode().equals(keyword.getPlatformCode()))) {
+                last.setCount(last.getCount() + keyword.getCount());
+                continue;
+            }
+            last = KeywordIngest.builder()
+                    .platformCode(byPlatform ? keyword.getPlatformCode() : null)
+                    .keyword(keyword.getKeyword())
+                    .regDt(keyword.getRegDt())
+                    .count(keyword.getCount())
+                    .build();
+            mergedList.add(last);
+        }
+        return mergedList;
+    }
+
+    private static final class Key {
+        private final long sourceId;
+        private final String platformCode;
+        private final String keyword;
+        private final int regDt;
+        private final int hash;
+
+        private Key(long sourceId, String platformCode, String keyword, int regDt) {
+            this.sourceId = sourceId;
+            this.platformCode = platformCode;
+            this.keyword = keyword;
+            this.regDt = regDt;
+            this.hash = Objects.hash(sourceId, platformCode, keyword, regDt);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return sourceId == key.sourceId && regDt == key.regDt
+                    && keyword.equals(key.keyword) && platformCode.equals(key.platformCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.global.code.KeywordCacheCode;
+import com.trendflow.keyword.global.redis.CacheLockRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordPlatformDailyRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.Repository.PartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordPartitionService {
+    // db/migration/V7__keyword_partition.sql 로 파티션을 적용한 테이블
+    private static final List<String> TABLE_LIST = Arrays.asList("keyword", "keyword_count");
+    private static final DateTimeFormatter REG_DT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final PartitionRepository partitionRepository;
+    private final KeywordPlatformDailyRepository keywordPlatformDailyRepository;
+    private final KeywordRepository keywordRepository;
+    private final CacheLockRepository cacheLockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${keyword.partition.ahead-months:3}")
+    private Integer aheadMonths;
+    // 0 이면 파티션을 삭제하지 않음 (명시적으로 설정한 경우만 삭제)
+    @Value("${keyword.partition.retention-months:0}")
+    private Integer retentionMonths;
+    @Value("${keyword.partition.downsample-days:90}")
+    private Integer downsampleDays;
+
+    // 이 날짜 이전의 플랫폼 언급량은 주간 집계에만 있음 (압축이 없었으면 null)
+    // 실제로 옮겨진 마지막 주 다음 월요일 : 압축과 같은 트랜잭션 결과를 보므로 인스턴스, 시계와 무관하게 일치
+    public LocalDate findDownsampleCutoff() {
+        Integer weekDt = keywordPlatformDailyRepository.findMaxWeekDt();
+        if (weekDt == null) return null;
+        return toDate(weekDt).plusWeeks(1);
+    }
+
+    @Scheduled(cron = "${keyword.partition.cron:0 0 4 * * *}")
+    public void maintain() {
+        String lockKey = KeywordCacheCode.PARTITION_LOCK.getCode();
+        Optional<String> token = cacheLockRepository.tryLock(lockKey, 600);
+        if (!token.isPresent()) return;
+
+        try {
+            // 보관 / 압축 기준은 현재 시각이 아니라 가장 최근 데이터 날짜 (과거 데이터만 적재된 경우 전부 지우지 않도록)
+            // 압축은 원본 파티션을 지우기 전에 (재집계되지 않은 날짜를 원본에서 먼저 집계해야 하므로)
+            Integer maxRegDt = keywordRepository.findMaxRegDt();
+            if (maxRegDt != null) downsample(toDate(maxRegDt));
+            for (String table : TABLE_LIST) {
+                Map<String, String> partitionMap = partitionRepository.findPartitionMap(table);
+                if (partitionMap.isEmpty()) {
+                    log.warn("maintain - {} is not partitioned", table);
+                    continue;
+                }
+                addPartition(table, partitionMap);
+                if (maxRegDt != null) dropPartition(table, partitionMap, toDate(maxRegDt));
+            }
+        } finally {
+            cacheLockRepository.unlock(lockKey, token.get());
+        }
+    }
+
+    // 마지막으로 나눈 월 파티션 다음 달부터 다음 몇 달 치까지 빠짐없이 순서대로 생성
+    // 마이그레이션은 p202312 까지만 만들므로 그 뒤 달을 건너뛰면 그 사이 데이터가 pmax 다음 파티션 하나에 몰림
+    private void addPartition(String table, Map<String, String> partitionMap) {
+        for (YearMonth month : findMissingMonth(partitionMap, YearMonth.now().plusMonths(aheadMonths))) {
+            String name = toPartitionName(month);
+            partitionRepository.addPartition(table, name, toLessThan(month));
+            log.info("maintain - add partition {}.{}", table, name);
+        }
+    }
+
+    // 마지막 월 파티션 (pmax 제외) 다음 달부터 until 까지, 월 파티션이 없으면 until 한 달만
+    static List<YearMonth> findMissingMonth(Map<String, String> partitionMap, YearMonth until) {
+        int last = 0;
+        for (Map.Entry<String, String> partition : partitionMap.entrySet()) {
+            if (PartitionRepository.MAX_PARTITION.equals(partition.getKey())) continue;
+            last = Math.max(last, Integer.parseInt(partition.getValue()));
+        }
+
+        List<YearMonth> monthList = new ArrayList<>();
+        YearMonth month = last == 0 ? until : YearMonth.of(last / 10000, last / 100 % 100);
+        for (; !month.isAfter(until); month = month.plusMonths(1)) monthList.add(month);
+        return monthList;
+    }
+
+    // 최근 데이터 기준 보관 기간이 지난 월 파티션 삭제
+    private void dropPartition(String table, Map<String, String> partitionMap, LocalDate latest) {
+        if (retentionMonths <= 0) return;
+
+        int cutoff = toLessThan(YearMonth.from(latest).minusMonths(retentionMonths));
+        for (Map.Entry<String, String> partition : partitionMap.entrySet()) {
+            if (PartitionRepository.MAX_PARTITION.equals(partition.getKey())) continue;
+            if (Integer.parseInt(partition.getValue()) > cutoff) continue;
+
+            partitionRepository.dropPartition(table, partition.getKey());
+            log.info("maintain - drop partition {}.{}", table, partition.getKey());
+        }
+    }
+
+    // 최근 데이터 기준 downsample-days 보다 오래된 일별 플랫폼 언급량을 주간 집계로 압축
+    // 주 단위로 나뉘지 않도록 월요일로 맞춤
+    void downsample(LocalDate latest) {
+        LocalDate cutoffDate = latest.minusDays(downsampleDays).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        Integer cutoff = Integer.parseInt(cutoffDate.format(REG_DT));
+        rollupBefore(cutoffDate);
+        Integer count = transactionTemplate.execute(status -> {
+            keywordPlatformDailyRepository.downsampleBefore(cutoff);
+            return keywordPlatformDailyRepository.deleteByRegDtBefore(cutoff);
+        });
+        log.info("maintain - downsample before {} : {}", cutoff, count);
+    }
+
+    // 압축할 기간 중 아직 재집계되지 않은 날짜를 원본에서 먼저 집계 (KeywordRollupService.backfillDays 는 기준일 이후만 채움)
+    // 이미 압축된 주와 원본이 없는 날짜는 건너뜀 (원본 없이 재집계하면 일별 집계가 지워지므로)
+    private void rollupBefore(LocalDate cutoffDate) {
+        Integer minRegDt = keywordRepository.findMinRegDt();
+        if (minRegDt == null) return;
+
+        LocalDate now = toDate(minRegDt);
+        LocalDate downsampled = findDownsampleCutoff();
+        if (downsampled != null && now.isBefore(downsampled)) now = downsampled;
+        if (!now.isBefore(cutoffDate)) return;
+
+        LocalDate endDate = cutoffDate.minusDays(1);
+        Set<Integer> doneSet = new HashSet<>(keywordPlatformDailyRepository.findRollupRegDt(
+                Integer.parseInt(now.format(REG_DT)), Integer.parseInt(endDate.format(REG_DT))));
+        for (; !now.isAfter(endDate); now = now.plusDays(1)) {
+            Integer regDt = Integer.parseInt(now.format(REG_DT));
+            if (doneSet.contains(regDt)) continue;
+
+            Integer count = transactionTemplate.execute(status -> {
+                keywordPlatformDailyRepository.deleteOrphanByRegDt(regDt);
+                int aggregated = keywordPlatformDailyRepository.aggregateByRegDt(regDt);
+                keywordPlatformDailyRepository.markRollup(regDt);
+                return aggregated;
+            });
+            log.info("maintain - rollup before downsample {} : {}", regDt, count);
+        }
+    }
+
+    private static LocalDate toDate(Integer regDt) {
+        return LocalDate.parse(String.valueOf(regDt), REG_DT);
+    }
+
+    private static String toPartitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static int toLessThan(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        return next.getYear() * 10000 + next.getMonthValue() * 100 + 1;
+    }
+}
@@ -0,0 +1,133 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.global.code.KeywordCacheCode;
+import com.trendflow.keyword.global.redis.CacheLockRepository;
+import com.trendflow.keyword.global.redis.HotKeyword;
+import com.trendflow.keyword.global.redis.HotKeywordRepository;
+import com.trendflow.keyword.global.redis.RecommendKeyword;
+import com.trendflow.keyword.global.redis.RecommendKeywordRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.entity.KeywordDistinct;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// HOT, 추천 키워드 순위는 리스를 가진 인스턴스 하나만 주기적으로 계산해서 게시
+// 요청 스레드는 게시된 결과만 읽음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordRankService {
+    private final KeywordRepository keywordRepository;
+    private final HotKeywordRepository hotKeywordRepository;
+    private final RecommendKeywordRepository recommendKeywordRepository;
+    private final CacheLockRepository cacheLockRepository;
+    private final KeywordDictService keywordDictService;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    // 갱신 주기보다 길게 잡아 살아있는 소유자가 다음 주기에도 연장하도록 함
+    @Value("${keyword.rank.lease-expire:3660}")
+    private Integer leaseExpire;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${keyword.rank.refresh:3600000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Optional<Long> token = cacheLockRepository.tryLease(KeywordCacheCode.RANK_LEASE.getCode(),
+                KeywordCacheCode.RANK_LEASE_TOKEN.getCode(), owner, leaseExpire);
+        if (!token.isPresent()) return;
+
+//        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.of(2023, 2, 28);
+        Integer end = Integer.parseInt(today.toString().replace("-", ""));
+        Integer weekStart = Integer.parseInt(today.minusDays(7).toString().replace("-", ""));
+
+        publishHotKeyword(KeywordCacheCode.DAY_HOT_KEYWORD_RESULT, KeywordCacheCode.DAY_HOT_KEYWORD,
+                keywordRepository.findByRegDt(end, end, 8), token.get());
+        publishHotKeyword(KeywordCacheCode.WEEK_HOT_KEYWORD_RESULT, KeywordCacheCode.WEEK_HOT_KEYWORD,
+                keywordRepository.findByRegDt(weekStart, end, 8), token.get());
+        publishRecommendKeyword(keywordRepository.findByRegDt(end, end, 10), token.get());
+    }
+
+    private void publishHotKeyword(KeywordCacheCode result, KeywordCacheCode past, List<KeywordDistinct> keywordList, Long token) {
+        AtomicInteger rank = new AtomicInteger();
+        List<HotKeyword> now = keywordList.stream()
+                .map(keyword ->
+                        HotKeyword.builder()
+                                .rank(rank.getAndIncrement() + 1)
+                                .keyword(keyword.getKeyword())
+                                .type(KeywordCacheCode.TYPE_NEW.getCode())
+                                .step(0)
+                                .mentionCount(keyword.getCount())
+                                .build())
+                .collect(Collectors.toList());
+
+        // 현재 게시된 결과와 비교 (게시 시 past 로 옮겨짐)
+        Optional<List<HotKeyword>> published = hotKeywordRepository.findById(result.getCode());
+        if (published.isPresent()) now = rankHotKeyword(now, published.get());
+
+        String fenceKey = String.format("%s_%s", KeywordCacheCode.RANK_FENCE.getCode(), result.getCode());
+        if (!hotKeywordRepository.publish(result.getCode(), past.getCode(), fenceKey, now, token))
+            log.warn("publishHotKeyword - stale token {}", token);
+    }
+
+    private void publishRecommendKeyword(List<KeywordDistinct> keywordList, Long token) {
+        AtomicLong id = new AtomicLong();
+        List<RecommendKeyword> now = keywordList.stream()
+                .map(keyword ->
+                        RecommendKeyword.builder()
+                                .id(id.getAndIncrement())
+                                .keyword(keyword.getKeyword())
+                                .build())
+                .collect(Collectors.toList());
+
+        String fenceKey = String.format("%s_%s", KeywordCacheCode.RANK_FENCE.getCode(), KeywordCacheCode.RECOMMEND_KEYWORD.getCode());
+        if (!recommendKeywordRepository.publish(KeywordCacheCode.RECOMMEND_KEYWORD.getCode(),
+                KeywordCacheCode.RECOMMEND_KEYWORD_PAST.getCode(), fenceKey, now, token))
+            log.warn("publishRecommendKeyword - stale token {}", token);
+    }
+
+    private List<HotKeyword> rankHotKeyword(List<HotKeyword> now, List<HotKeyword> past) {
+        // 현재와 과거를 한 번에 바꿔야 임시 id 가 중간에 교체돼도 같은 키워드가 같은 id 가 됨
+        int[] idList = keywordDictService.getIdList(Stream.concat(now.stream(), past.stream())
+                .map(HotKeyword::getKeyword)
+                .collect(Collectors.toList()));
+        int[] nowIdList = Arrays.copyOfRange(idList, 0, now.size());
+        Int2IntOpenHashMap pastRankMap = KeywordDictService.toRankMap(Arrays.copyOfRange(idList, now.size(), idList.length));
+
+        List<HotKeyword> hotKeywordList = new ArrayList<>(now.size());
+
+        for (int src = 0; src < now.size(); src++){
+            HotKeyword hotKeyword = now.get(src);
+            int search = pastRankMap.get(nowIdList[src]);
+
+            // 새로운 키워드가 온 경우
+            if (search == KeywordDictService.NONE) {
+                hotKeyword.setType(KeywordCacheCode.TYPE_NEW.getCode());
+                hotKeyword.setStep(0);
+            } else {
+                hotKeyword.setType(KeywordService.getRankType(src - search));
+                hotKeyword.setStep(Math.abs(src - search));
+            }
+            hotKeyword.setRank(src + 1);
+            hotKeywordList.add(hotKeyword);
+        }
+
+        return hotKeywordList;
+    }
+}
@@ -0,0 +1,135 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.global.code.KeywordCacheCode;
+import com.trendflow.keyword.global.redis.CacheLockRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordPlatformDailyRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.event.KeywordIngestEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// 일별 플랫폼 집계 (keyword_platform_daily) 유지
+// 재집계한 날짜는 keyword_rollup_day 에 기록하고, 기록이 없는 날짜는 조회 시 원본에서 직접 집계
+// 백필 / 보정은 리스를 가진 인스턴스 하나만 실행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordRollupService {
+    private static final DateTimeFormatter REG_DT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final KeywordPlatformDailyRepository keywordPlatformDailyRepository;
+    private final KeywordRepository keywordRepository;
+    private final CacheLockRepository cacheLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final KeywordPartitionService keywordPartitionService;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${keyword.rollup.reconcile-days:3}")
+    private Integer reconcileDays;
+    @Value("${keyword.rollup.lease-expire:600}")
+    private Integer leaseExpire;
+
+    // 수집된 키워드를 일별 플랫폼 집계에 반영 (호출하는 쪽 트랜잭션에 포함)
+    public void increase(String keyword, String platformCode, Integer regDt, Long count) {
+        keywordPlatformDailyRepository.increase(keyword, platformCode, regDt, count);
+        applicationEventPublisher.publishEvent(new KeywordIngestEvent(Collections.singletonList(KeywordIngest.builder()
+                .platformCode(platformCode)
+                .keyword(keyword)
+                .regDt(regDt)
+                .count(count)
+                .build())));
+    }
+
+    // 기간 전체가 재집계되어 있는지
+    public boolean covers(Integer start, Integer end) {
+        if (start > end) return true;
+        long days = ChronoUnit.DAYS.between(toDate(start), toDate(end)) + 1;
+        return keywordPlatformDailyRepository.findRollupRegDt(start, end).size() >= days;
+    }
+
+    // 기간 전체 재집계, 다른 인스턴스가 실행 중이면 false
+    public boolean backfill(LocalDate startDate, LocalDate endDate) {
+        if (!acquire()) return false;
+        backfillDays(startDate, endDate, false);
+        return true;
+    }
+
+    // 기동 후 한 번, 이후 주기적으로 실행
+    // 원본 데이터 범위 중 아직 재집계하지 않은 날짜를 채우고, 배치로 직접 적재됐을 수 있는 최근 며칠을 다시 집계
+    @Scheduled(initialDelayString = "${keyword.rollup.initial-delay:60000}", fixedDelayString = "${keyword.rollup.reconcile:3600000}")
+    public void reconcile() {
+        if (!acquire()) return;
+
+        Integer min = keywordRepository.findMinRegDt();
+        Integer max = keywordRepository.findMaxRegDt();
+        if (min == null || max == null) return;
+
+        LocalDate last = toDate(max);
+        if (!backfillDays(toDate(min), last.minusDays(reconcileDays), true)) return;
+        backfillDays(last.minusDays(reconcileDays - 1), last, false);
+    }
+
+    // 하루 단위 트랜잭션, 하루마다 리스를 연장하고 잃으면 중단
+    private boolean backfillDays(LocalDate startDate, LocalDate endDate, boolean missingOnly) {
+        // 주간 집계로 옮겨진 기간은 다시 만들지 않음 (중복 합산 방지)
+        // 기준일 이전의 재집계되지 않은 날짜는 압축 직전에 KeywordPartitionService 가 채움
+        LocalDate cutoff = keywordPartitionService.findDownsampleCutoff();
+        LocalDate now = cutoff != null && startDate.isBefore(cutoff) ? cutoff : startDate;
+        if (now.isAfter(endDate)) return true;
+
+        Set<Integer> doneSet = missingOnly
+                ? new HashSet<>(keywordPlatformDailyRepository.findRollupRegDt(toRegDt(now), toRegDt(endDate)))
+                : Collections.emptySet();
+
+        while (!now.isAfter(endDate)) {
+            Integer regDt = toRegDt(now);
+            now = now.plusDays(1);
+            if (doneSet.contains(regDt)) continue;
+            if (!acquire()) {
+                log.warn("backfill - lease lost at {}", regDt);
+                return false;
+            }
+
+            Integer count = transactionTemplate.execute(status -> {
+                keywordPlatformDailyRepository.deleteOrphanByRegDt(regDt);
+                int aggregated = keywordPlatformDailyRepository.aggregateByRegDt(regDt);
+                keywordPlatformDailyRepository.markRollup(regDt);
+                return aggregated;
+            });
+            log.info("backfill - {} : {}", regDt, count);
+        }
+        return true;
+    }
+
+    // 잡고 있던 리스면 연장
+    private boolean acquire() {
+        Optional<Long> token = cacheLockRepository.tryLease(KeywordCacheCode.ROLLUP_LEASE.getCode(),
+                KeywordCacheCode.ROLLUP_LEASE_TOKEN.getCode(), owner, leaseExpire);
+        return token.isPresent();
+    }
+
+    private static Integer toRegDt(LocalDate date) {
+        return Integer.parseInt(date.format(REG_DT));
+    }
+
+    private static LocalDate toDate(Integer regDt) {
+        return LocalDate.parse(String.valueOf(regDt), REG_DT);
+    }
+}
@@ -1,9 +1,18 @@
 package com.trendflow.keyword.keyword.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.trendflow.keyword.global.code.KeywordCacheCode;
+import com.trendflow.keyword.global.codec.SourceIdCodec;
+import com.trendflow.keyword.global.exception.BusyException;
 import com.trendflow.keyword.global.redis.*;
+import com.trendflow.keyword.keyword.Repository.KeywordPlatformDailyRepository;
 import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordSourceRepository;
 import com.trendflow.keyword.keyword.dto.response.*;
+import com.trendflow.keyword.keyword.dto.vo.CooccurrenceCount;
+import com.trendflow.keyword.keyword.dto.vo.KeywordCursor;
+import com.trendflow.keyword.keyword.dto.vo.WeeklyKeywordCount;
 import com.trendflow.keyword.keyword.entity.Keyword;
 import com.trendflow.keyword.keyword.entity.KeywordCount;
 import com.trendflow.keyword.keyword.entity.KeywordDistinct;
@@ -11,109 +20,82 @@ import com.trendflow.keyword.keyword.entity.RelatedKeywordCount;
 import com.trendflow.keyword.msa.service.AnalyzeService;
 import com.trendflow.keyword.msa.service.CommonService;
 import com.trendflow.keyword.msa.vo.RelateCode;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordService {
     private final KeywordRepository keywordRepository;
+    private final KeywordPlatformDailyRepository keywordPlatformDailyRepository;
+    private final KeywordSourceRepository keywordSourceRepository;
 
     private final HotKeywordRepository hotKeywordRepository;
     private final RecommendKeywordRepository recommendKeywordRepository;
     private final RelateKeywordRepository relateKeywordRepository;
     private final WordCloudKeywordRepository wordCloudKeywordRepository;
+    private final CacheLockRepository cacheLockRepository;
 
     private final AnalyzeService analyzeService;
     private final CommonService commonService;
+    private final KeywordDictService keywordDictService;
+    private final KeywordFilterService keywordFilterService;
+    private final KeywordRollupService keywordRollupService;
+    private final KeywordPartitionService keywordPartitionService;
+    private final KeywordSourceService keywordSourceService;
+
+    private final ThreadPoolTaskExecutor cacheRefreshExecutor;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
-    @Value("${keyword.hot.expire}")
-    private Integer hotExpire;
-    @Value("${keyword.recommend.expire}")
-    private Integer recommendExpire;
     @Value("${keyword.relate.expire}")
     private Integer relateExpire;
     @Value("${keyword.word-cloud.expire}")
     private Integer wordCloudExpire;
-
-
-    @Transactional
+    @Value("${keyword.cache.lock.expire:30}")
+    private Integer lockExpire;
+    @Value("${keyword.cache.lock.wait:100}")
+    private Long lockWait;
+    @Value("${keyword.cache.lock.retry:50}")
+    private Integer lockRetry;
+    @Value("${keyword.cache.popular-count:10}")
+    private Long popularCount;
+    @Value("${keyword.cache.refresh-ahead-ratio:0.2}")
+    private Double refreshAheadRatio;
+
+
+    // 순위는 KeywordRankService 가 주기적으로 게시, 게시 전에는 이전 스냅샷 사용
     public FindHotKeywordResponse findHotKeyword() throws RuntimeException {
-        /*
-            60 분마다 갱신
-         */
-
-//        Integer today = Integer.parseInt(LocalDate.now().toString().replace("-", ""));
-        Integer today = Integer.parseInt(LocalDate.of(2023, 2, 28).toString().replace("-", ""));
-
-        // 일간 HOT Keyword
-        // 이미 계산된 결과가 없으면 (만료시간이 되서 결과가 사라져 갱신해야되는 경우) 계산 시작
         List<HotKeyword> dayNow = hotKeywordRepository.findById(KeywordCacheCode.DAY_HOT_KEYWORD_RESULT.getCode())
-                .orElseGet(() -> {
-                    // 새로운 결과를 가져와 리스트 생성 (현재 기준 값)
-                    List<KeywordDistinct> dayKeywordList = keywordRepository.findByRegDt(today, today, 8);
-
-                    AtomicInteger rank = new AtomicInteger();
-                    List<HotKeyword> now = dayKeywordList.stream()
-                            .map(keyword ->
-                                HotKeyword.builder()
-                                    .rank(rank.getAndIncrement() + 1)
-                                    .keyword(keyword.getKeyword())
-                                    .type(KeywordCacheCode.TYPE_NEW.getCode())
-                                    .step(0)
-                                    .mentionCount(keyword.getCount())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    // 과거 결과를 가져옴
-                    Optional<List<HotKeyword>> dayPast = hotKeywordRepository.findById(KeywordCacheCode.DAY_HOT_KEYWORD.getCode());
-                    // 과거 결과가 있으면 비교 로직 수행
-                    if (dayPast.isPresent()) now = rankHotKeyword(now, dayPast.get());
-
-                    hotKeywordRepository.save(KeywordCacheCode.DAY_HOT_KEYWORD.getCode(), now);
-                    hotKeywordRepository.saveResult(KeywordCacheCode.DAY_HOT_KEYWORD_RESULT.getCode(), now, hotExpire);
-                    return now;
-                });
-
-        // 주간 HOT Keyword
-        // 이미 계산된 결과가 없으면 (만료시간이 되서 결과가 사라져 갱신해야되는 경우) 계산 시작
+                .orElseGet(() -> hotKeywordRepository.findById(KeywordCacheCode.DAY_HOT_KEYWORD.getCode())
+                        .orElseGet(ArrayList::new));
         List<HotKeyword> weekNow = hotKeywordRepository.findById(KeywordCacheCode.WEEK_HOT_KEYWORD_RESULT.getCode())
-                .orElseGet(() -> {
-
-//                    Integer startDate = Integer.parseInt(LocalDate.now().minusDays(7).toString().replace("-", ""));
-                    Integer startDate = Integer.parseInt(LocalDate.of(2023, 2, 28).minusDays(7).toString().replace("-", ""));
-
-                    List<KeywordDistinct> weekKeywordList = keywordRepository.findByRegDt(startDate, today, 8);
-
-                    AtomicInteger rank = new AtomicInteger();
-                    List<HotKeyword> now = weekKeywordList.stream()
-                            .map(keyword ->
-                                    HotKeyword.builder()
-                                            .rank(rank.getAndIncrement() + 1)
-                                            .keyword(keyword.getKeyword())
-                                            .type(KeywordCacheCode.TYPE_NEW.getCode())
-                                            .step(0)
-                                            .mentionCount(keyword.getCount())
-                                            .build())
-                            .collect(Collectors.toList());
-                    // 기존 데이터가 있으면 비교해서 리스트 변경
-                    Optional<List<HotKeyword>> weekPast = hotKeywordRepository.findById(KeywordCacheCode.WEEK_HOT_KEYWORD.getCode());
-                    if (weekPast.isPresent()) now = rankHotKeyword(now, weekPast.get());
-
-                    hotKeywordRepository.save(KeywordCacheCode.WEEK_HOT_KEYWORD.getCode(), now);
-                    hotKeywordRepository.saveResult(KeywordCacheCode.WEEK_HOT_KEYWORD_RESULT.getCode(), now, hotExpire);
-                    return now;
-                });
+                .orElseGet(() -> hotKeywordRepository.findById(KeywordCacheCode.WEEK_HOT_KEYWORD.getCode())
+                        .orElseGet(ArrayList::new));
 
         return FindHotKeywordResponse.builder()
                 .day(dayNow)
@@ -121,330 +103,378 @@ public class KeywordService {
                 .build();
     }
 
-    @Transactional
     public List<FindRecommendKeywordResponse> findRecommendKeyword() throws RuntimeException {
         List<RecommendKeyword> recommendKeywordList = recommendKeywordRepository.findById(KeywordCacheCode.RECOMMEND_KEYWORD.getCode())
-                .orElseGet(() -> {
-
-//                    Integer today = Integer.parseInt(LocalDate.now().toString().replace("-", ""));
-                    Integer today = Integer.parseInt(LocalDate.of(2023, 2, 28).toString().replace("-", ""));
-
-                    List<KeywordDistinct> keywordList = keywordRepository.findByRegDt(today, today, 10);
-
-                    AtomicLong id = new AtomicLong();
-                    List<RecommendKeyword> now = keywordList.stream()
-                            .map(keyword ->
-                                    RecommendKeyword.builder()
-                                            .id(id.getAndIncrement())
-                                            .keyword(keyword.getKeyword())
-                                            .build())
-                            .collect(Collectors.toList());
-
-                    recommendKeywordRepository.saveResult(KeywordCacheCode.RECOMMEND_KEYWORD.getCode(), now, recommendExpire);
-                    return now;
-                });
+                .orElseGet(() -> recommendKeywordRepository.findById(KeywordCacheCode.RECOMMEND_KEYWORD_PAST.getCode())
+                        .orElseGet(ArrayList::new));
 
         return FindRecommendKeywordResponse.toList(recommendKeywordList);
     }
 
-    @Transactional
+    // 트랜잭션 없이 실행 : 다른 요청의 갱신을 기다리는 동안 커넥션을 잡고 있지 않도록 (DB 조회는 갱신하는 요청만)
     public List<FindRelateKeywordResponse> findRelateKeyword(String keyword) throws RuntimeException {
+        // 수집된 적 없는 키워드는 조회 없이 빈 결과
+        if (!keywordFilterService.mightContain(keyword)) return new ArrayList<>();
 
-        // 포맷 정의
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        // 현재 날짜 구하기
-        LocalDate today = LocalDate.now();
-        int todayInt = Integer.parseInt(today.format(formatter));
+        String key = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_RESULT.getCode(), keyword);
 
-        // 한 달 전 날짜
-        LocalDate monthAgo = today.minus(1, ChronoUnit.MONTHS);
-        int monthAgoInt = Integer.parseInt(monthAgo.format(formatter));
+        // 캐시에서 연관 키워드 저장되어있는지 확인
+        List<RelateKeyword> relateKeywordList = relateKeywordRepository.findById(key)
+                .map(now -> {
+                    // 인기 키워드는 만료 전에 미리 갱신
+                    refreshAhead(keyword, relateKeywordRepository.getExpire(key), relateExpire);
+                    return now;
+                })
+                .orElseGet(() -> loadRelateKeyword(keyword));
 
-        
-        List<RelatedKeywordCount> latestRelatedList = keywordRepository.findByKeywordAndFromToDate(keyword, monthAgoInt,todayInt);
-
-        //보름전
-        LocalDate halfAgo = today.minus(15, ChronoUnit.DAYS);
-        int halfAgoInt = Integer.parseInt(halfAgo.format(formatter));
-        
-        //보름전 등수
-        Map<String, Integer> map = new HashMap<>();
-        List<RelatedKeywordCount> halfRelatedList = keywordRepository.findByKeywordAndFromToDate(keyword, monthAgoInt,halfAgoInt);
-        for(int i=0; i<halfRelatedList.size(); i++){
-            RelatedKeywordCount halfRelated = halfRelatedList.get(i);
-            map.put(halfRelated.getKeyword(), i);
-        }
-        
-        //최신과 이전 등수비교
-        List<RelateKeyword> relateKeywordList = new ArrayList<>();
-        for(int i=0; i<Math.min(latestRelatedList.size(),8); i++){
-            String word = latestRelatedList.get(i).getKeyword();
-            if(map.containsKey(word)){
-                int updown = map.get(word) - i;
-                
-                String typeCode =null;
-                if (updown>0) typeCode = KeywordCacheCode.TYPE_UP.getCode();
-                else if(updown<0) typeCode = KeywordCacheCode.TYPE_DOWN.getCode();
-                else typeCode = KeywordCacheCode.TYPE_SAME.getCode();
-                
-                relateKeywordList.add(
-                        RelateKeyword.builder()
-                                .rank(i + 1)
-                                .keyword(word)
-                                .type(typeCode)
-                                .step(Math.abs(updown))
-                                .relatedCount(latestRelatedList.get(i).getCnt())
-                                .build()
-                );
-                
-            }else{
-                relateKeywordList.add(
-                        RelateKeyword.builder()
-                                .rank(i+ 1)
-                                .keyword(word)
-                                .type(KeywordCacheCode.TYPE_NEW.getCode())
-                                .step(0)
-                                .relatedCount(latestRelatedList.get(i).getCnt())
-                                .build()
-                );
-            }
-        }
-        //최종 결과 : relateKeywordList
         return FindRelateKeywordResponse.toList(relateKeywordList);
-       /* List<Keyword> keywordIdList = keywordRepository.findByKeyword(keyword);
+    }
 
-        List<Keyword> keywordIdList = keywordRepository.findAllByKeyword(keyword);
+    public List<FindWordCloudResponse> findWordCloudKeyword(String keyword) throws RuntimeException {
+        if (!keywordFilterService.mightContain(keyword)) return new ArrayList<>();
 
-        String key = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_RESULT.getCode(), keyword);
+        String key = String.format("%s_%s", KeywordCacheCode.WORDCLOUD_KEYWORD.getCode(), keyword);
 
-        AtomicInteger rank = new AtomicInteger();
-        // 캐시에서 연관 키워드 저장되어있는지 확인
-        List<RelateKeyword> relateKeywordList = relateKeywordRepository.findById(key)
-                .orElseGet(() -> {
-                    // 캐시에 저장되어 있지 않으면 analyze Service 쪽으로 요청을 보내서 연관 키워드를 가져옴
-                    List<RelateKeyword> now = analyzeService.getRelation(
-                                keywordIdList.stream()
-                                        .map(Keyword::getKeywordId)
-                                        .collect(Collectors.toList())
-                            ).stream()
-                            .map(relation ->
-                                    RelateKeyword.builder()
-                                        .rank(rank.getAndIncrement() + 1)
-                                        .keyword(relation.getRelationKeyword())
-                                        .type(KeywordCacheCode.TYPE_NEW.getCode())
-                                        .step(0)
-                                        .relatedCount(relation.getCount())
-                                        .build())
-                            .collect(Collectors.toList());
-
-                    // 기존 데이터가 있으면 비교해서 리스트 변경
-                    Optional<List<RelateKeyword>> relatePast = relateKeywordRepository.findById(KeywordCacheCode.RELATE_KEYWORD.getCode());
-                    if (relatePast.isPresent()) now = rankRelateKeyword(now, relatePast.get());
-
-                    relateKeywordRepository.save(key, now);
-                    relateKeywordRepository.saveResult(key, now, relateExpire);
+        List<WordCloudKeyword> wordCloudKeywordList = wordCloudKeywordRepository.findById(key)
+                .map(now -> {
+                    refreshAhead(keyword, wordCloudKeywordRepository.getExpire(key), wordCloudExpire);
                     return now;
+                })
+                .orElseGet(() -> {
+                    // 연관 키워드와 같은 쿼리 결과로 함께 갱신됨
+                    loadRelateKeyword(keyword);
+                    return wordCloudKeywordRepository.findById(key)
+                            .orElseGet(ArrayList::new);
                 });
 
-        return FindRelateKeywordResponse.toList(relateKeywordList);*/
+        //최종 결과 : wordCloudKeywordList
+        return FindWordCloudResponse.toList(wordCloudKeywordList);
+    }
 
+    // feign 서비스
+    @Transactional(readOnly = true)
+    public List<Keyword> findKeyword(String keyword, LocalDate startDate, LocalDate endDate) {
+        if (!keywordFilterService.mightContain(keyword)) return new ArrayList<>();
 
+        Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
+        Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
+        return keywordRepository.findByKeywordAndDate(keyword, start, end);
     }
 
-    @Transactional
-    public List<FindWordCloudResponse> findWordCloudKeyword(String keyword) throws RuntimeException {
-        // 포맷 정의
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        // 현재 날짜 구하기
-        LocalDate today = LocalDate.now();
-        int todayInt = Integer.parseInt(today.format(formatter));
+    // 키워드 객체를 한 줄에 하나씩 JSON 으로 바로 써서 범위가 길어도 메모리에 모으지 않음
+    @Transactional(readOnly = true)
+    public void writeKeyword(String keyword, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        if (!keywordFilterService.mightContain(keyword)) return;
 
-        // 한 달 전 날짜
-        LocalDate monthAgo = today.minus(1, ChronoUnit.MONTHS);
-        int monthAgoInt = Integer.parseInt(monthAgo.format(formatter));
-
-        List<RelatedKeywordCount> relatedList = keywordRepository.findByKeywordAndFromToDate(keyword, monthAgoInt,todayInt);
+        Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
+        Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
-        List<WordCloudKeyword> wordCloudKeywordList = new ArrayList<>();
-        long maxv=300L, minv=100L;
-        long max=0, min=0;
-        if (relatedList.size()>=1){
-            max = relatedList.get(0).getCnt();
-            min = relatedList.get(relatedList.size()-1).getCnt();
-            if (relatedList.size()==1) minv=500L;
+        try (Stream<Keyword> keywordStream = keywordRepository.streamByKeywordAndDate(keyword, start, end);
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            Iterator<Keyword> iterator = keywordStream.iterator();
+            while (iterator.hasNext()) {
+                Keyword now = iterator.next();
+                writer.write(now);
+                // 영속성 컨텍스트에 쌓이지 않도록 바로 분리
+                entityManager.detach(now);
+            }
         }
-        else{
-            return FindWordCloudResponse.toList(wordCloudKeywordList);
+    }
+
+    // 소스 id 만 차이 varint 로 써서 키워드 객체 전체를 보내지 않음
+    // 끝까지 쓴 경우만 끝 표시를 붙이므로 중간에 실패하면 받는 쪽에서 잘린 응답으로 거부
+    @Transactional(readOnly = true)
+    public void writeSourceId(String keyword, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        BufferedOutputStream buffer = new BufferedOutputStream(out);
+        SourceIdCodec.Encoder encoder = new SourceIdCodec.Encoder(buffer);
+        if (!keywordFilterService.mightContain(keyword)) {
+            encoder.finish();
+            buffer.flush();
+            return;
         }
 
+        Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
+        Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
-        for(RelatedKeywordCount relatedKeywordCount : relatedList){
-            long cnt = relatedKeywordCount.getCnt();
-            double ratio = (double)(cnt - min) / Math.max((double)(max - min), 0.001);
-            int count = (int)(ratio * (maxv-minv) + minv);
-            wordCloudKeywordList.add(
-                WordCloudKeyword.builder()
-                        .text(relatedKeywordCount.getKeyword())
-                        .value(count)
-                        .build()
-            );
+        // 최근 범위는 역색인 비트맵을 그대로 순회 (부호 없는 오름차순)
+        Optional<MutableRoaringBitmap> bitmap = keywordSourceService.find(keyword, start, end);
+        if (bitmap.isPresent()) {
+            IntIterator iterator = bitmap.get().getIntIterator();
+            while (iterator.hasNext()) encoder.write(Integer.toUnsignedLong(iterator.next()));
+            encoder.finish();
+            buffer.flush();
+            return;
         }
-        //최종 결과 : wordCloudKeywordList
-        return FindWordCloudResponse.toList(wordCloudKeywordList);
 
-        /*List<Keyword> keywordList = keywordRepository.findAllByKeyword(keyword);
+        try {
+            keywordSourceRepository.findSourceId(keyword, start, end, sourceId -> {
+                try {
+                    encoder.write(sourceId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        encoder.finish();
+        buffer.flush();
+    }
 
-        String key = String.format("%s_%s", KeywordCacheCode.WORDCLOUD_KEYWORD.getCode(), keyword);
+    // 서비스 간 호출용 : 소스 id 를 Roaring 비트맵 직렬화 형식으로 씀 (색인 범위 밖이면 DB 에서 만듦)
+    // 32 비트 범위를 벗어난 소스 id 가 있으면 아무것도 쓰지 않고 false (호출한 쪽은 소스 id 목록으로 조회)
+    @Transactional(readOnly = true)
+    public boolean writeSourceBitmap(String keyword, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
+        Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
-        List<WordCloudKeyword> wordCloudKeywordList = wordCloudKeywordRepository.findById(key)
-                .orElseGet(() -> {
-                    List<WordCloudKeyword> now = analyzeService.getRelationForWordCloud(
-                                    keywordList.stream()
-                                    .map(Keyword::getKeywordId)
-                                    .collect(Collectors.toList())
-                            ).stream()
-                            .map(relation ->
-                                    WordCloudKeyword.builder()
-                                            .text(relation.getRelationKeyword())
-                                            .value(relation.getCount().intValue())
-                                            .build())
-                            .collect(Collectors.toList());
-
-                    wordCloudKeywordRepository.saveResult(key, now, wordCloudExpire);
-                    return now;
+        MutableRoaringBitmap bitmap = new MutableRoaringBitmap();
+        if (keywordFilterService.mightContain(keyword)) {
+            Optional<MutableRoaringBitmap> indexed = keywordSourceService.find(keyword, start, end);
+            if (indexed.isPresent()) {
+                bitmap = indexed.get();
+            } else {
+                MutableRoaringBitmap now = bitmap;
+                boolean[] outOfRange = {false};
+                keywordSourceRepository.findSourceId(keyword, start, end, sourceId -> {
+                    if (sourceId < 0 || sourceId > 0xFFFFFFFFL) outOfRange[0] = true;
+                    else if (!outOfRange[0]) now.add((int) sourceId);
                 });
+                if (outOfRange[0]) return false;
+            }
+        }
+        bitmap.runOptimize();
 
-        return FindWordCloudResponse.toList(wordCloudKeywordList);*/
+        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+        bitmap.serialize(dataOut);
+        dataOut.flush();
+        return true;
     }
 
-    // feign 서비스
-    @Transactional
-    public List<Keyword> findKeyword(String keyword, LocalDate startDate, LocalDate endDate) {
+    @Transactional(readOnly = true)
+    public FindKeywordPageResponse findKeywordPage(String keyword, String code, String cursor, Integer page, Integer perPage, LocalDate startDate, LocalDate endDate) {
+        if (!keywordFilterService.mightContain(keyword)) return FindKeywordPageResponse.of(new ArrayList<>(), perPage);
 
         Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
         Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
-        return keywordRepository.findByKeywordAndDate(keyword, start, end);
-    }
+        List<String> codeList = commonService.getRelateCode(code).stream()
+                .map(RelateCode::getPlatformCode)
+                .collect(Collectors.toList());
 
-    @Transactional
-    public List<Keyword> findKeywordPage(String keyword, String code, Integer page, Integer perPage, LocalDate startDate, LocalDate endDate) {
-
-        Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
-        Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
+        // 커서 없이 2 페이지 이후를 요청한 경우만 OFFSET 조회
+        if (cursor == null && page != null && page > 1) {
+            return FindKeywordPageResponse.of(keywordRepository.findByKeywordAndDatePage(keyword,
+                    codeList, perPage * (page - 1), perPage, start, end), perPage);
+        }
 
-        List<RelateCode> codeList = commonService.getRelateCode(code);
+        // (reg_dt, keyword_id) 기준 키셋 조회
+        KeywordCursor keywordCursor = cursor == null ? KeywordCursor.first(end) : KeywordCursor.decode(cursor);
+        if (keywordCursor.getRegDt() > end) keywordCursor = KeywordCursor.first(end);
 
-        return keywordRepository.findByKeywordAndDatePage(keyword,
-                codeList.stream()
-                        .map(RelateCode::getPlatformCode)
-                        .collect(Collectors.toList()), perPage * (page - 1), perPage, start, end);
+        List<Keyword> keywordList = keywordRepository.findByKeywordAndDateCursor(keyword, codeList,
+                keywordCursor.getRegDt(), keywordCursor.getKeywordId(), perPage, start);
+        return FindKeywordPageResponse.of(keywordList, perPage);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<KeywordCount> findKeywordCount(String keyword, LocalDate startDate, LocalDate endDate) {
+        if (!keywordFilterService.mightContain(keyword)) return new ArrayList<>();
 
         Integer start = Integer.parseInt(startDate.toString().replace("-", ""));
         Integer end = Integer.parseInt(endDate.toString().replace("-", ""));
 
-        List<KeywordCount> keywordCountList =
-                keywordRepository.countByPlatformCodeAndRegDt(keyword, start, end);
+        // 압축 기준일 이전은 일별 값이 없으므로 기간과 겹치는 주의 합계를 주간 행 (weekly = true, regDt = 주 시작 월요일) 으로 반환
+        LocalDate cutoff = keywordPartitionService.findDownsampleCutoff();
+        List<KeywordCount> keywordCountList = new ArrayList<>();
+        if (cutoff != null && startDate.isBefore(cutoff)) {
+            LocalDate weekStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            LocalDate weekEnd = endDate.isBefore(cutoff) ? endDate : cutoff.minusDays(1);
+            keywordPlatformDailyRepository.findWeeklyByKeywordAndRegDt(keyword,
+                            Integer.parseInt(weekStart.toString().replace("-", "")),
+                            Integer.parseInt(weekEnd.toString().replace("-", "")))
+                    .forEach(weekly -> keywordCountList.add(WeeklyKeywordCount.of(weekly)));
+            start = Math.max(start, Integer.parseInt(cutoff.toString().replace("-", "")));
+        }
+
+        // 일별 플랫폼 집계 테이블에서 조회, 아직 재집계되지 않은 날짜가 있으면 원본에서 집계
+        if (start <= end) {
+            keywordCountList.addAll(keywordRollupService.covers(start, end)
+                    ? keywordPlatformDailyRepository.findByKeywordAndRegDt(keyword, start, end)
+                    : keywordRepository.countByPlatformCodeAndRegDt(keyword, start, end));
+        }
         return keywordCountList;
     }
 
-    private List<HotKeyword> rankHotKeyword(List<HotKeyword> now, List<HotKeyword> past) {
-        List<HotKeyword> hotKeywordList = new ArrayList<>();
-
-        for (Integer src = 0; src < now.size(); src++){
-            HotKeyword hotKeyword = now.get(src);
-
-            Boolean isNew = true;
-
-            for (Integer search = 0; search < past.size(); search++) {
-                if (hotKeyword.getKeyword().equals(past.get(search).getKeyword())) {
-                    isNew = false;
-                    Integer typeValue = src - search;
-                    Integer step = Math.abs(src - search);
-
-                    // 순위 떨어짐
-                    if (typeValue > 0) {
-                        hotKeyword.setType(KeywordCacheCode.TYPE_DOWN.getCode());
-                        hotKeyword.setStep(step);
-                    }
-                    // 순위 고정
-                    else if (typeValue == 0) {
-                        hotKeyword.setType(KeywordCacheCode.TYPE_SAME.getCode());
-                        hotKeyword.setStep(step);
-                    }
-                    // 순위 올라감
-                    else {
-                        hotKeyword.setType(KeywordCacheCode.TYPE_UP.getCode());
-                        hotKeyword.setStep(step);
-                    }
-                    break;
-                }
+    private List<RelateKeyword> loadRelateKeyword(String keyword) {
+        String key = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_RESULT.getCode(), keyword);
+        String lockKey = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_LOCK.getCode(), keyword);
+
+        // 락을 잡은 요청만 DB 조회 (캐시 스탬피드 방지)
+        Optional<String> token = cacheLockRepository.tryLock(lockKey, lockExpire);
+        if (token.isPresent()) {
+            try {
+                return refreshRelateKeyword(keyword);
+            } finally {
+                cacheLockRepository.unlock(lockKey, token.get());
             }
-            // 새로운 키워드가 온 경우
-            if (isNew) {
-                hotKeyword.setType(KeywordCacheCode.TYPE_NEW.getCode());
-                hotKeyword.setStep(0);
+        }
+
+        // 다른 요청이 갱신 중이면 결과가 저장될 때까지 대기
+        for (int retry = 0; retry < lockRetry; retry++) {
+            try {
+                Thread.sleep(lockWait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
-            hotKeywordList.add(hotKeyword);
+            Optional<List<RelateKeyword>> now = relateKeywordRepository.findById(key);
+            if (now.isPresent()) return now.get();
         }
 
-        for (Integer rank = 1; rank <= hotKeywordList.size(); rank++){
-            hotKeywordList.get(rank - 1).setRank(rank);
+        // 대기 시간 초과 시 이전 스냅샷을 응답, 스냅샷도 없으면 503 (락 없이 다시 계산하지 않음)
+        String pastKey = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD.getCode(), keyword);
+        return relateKeywordRepository.findById(pastKey)
+                .orElseThrow(BusyException::new);
+    }
+
+    private List<RelateKeyword> refreshRelateKeyword(String keyword) {
+        String key = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_RESULT.getCode(), keyword);
+        String pastKey = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD.getCode(), keyword);
+        String wordCloudKey = String.format("%s_%s", KeywordCacheCode.WORDCLOUD_KEYWORD.getCode(), keyword);
+
+        // 포맷 정의
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        // 가장 최근 데이터 날짜 (과거 데이터만 적재된 경우에도 그 기간으로 계산)
+        Integer maxRegDt = keywordRepository.findMaxRegDt();
+        LocalDate today = maxRegDt == null ? LocalDate.now() : LocalDate.parse(String.valueOf(maxRegDt), formatter);
+        int todayInt = Integer.parseInt(today.format(formatter));
+
+        // 한 달 전 날짜
+        LocalDate monthAgo = today.minus(1, ChronoUnit.MONTHS);
+        int monthAgoInt = Integer.parseInt(monthAgo.format(formatter));
+
+        // 역색인이 한 달을 모두 가지고 있으면 비트맵 교집합으로 계산
+        List<RelatedKeywordCount> relatedList = keywordSourceService.findRelated(keyword, monthAgoInt, todayInt, 100)
+                .map(cooccurrenceList -> cooccurrenceList.stream()
+                        .map(related -> (RelatedKeywordCount) CooccurrenceCount.builder()
+                                .keyword(related.getKeyword())
+                                .cnt(related.getCount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .orElseGet(() -> keywordRepository.findByKeywordAndFromToDate(keyword, monthAgoInt, todayInt));
+
+        // 연관 키워드 (상위 8개)
+        AtomicInteger rank = new AtomicInteger();
+        List<RelateKeyword> now = relatedList.stream()
+                .limit(8)
+                .map(related ->
+                        RelateKeyword.builder()
+                                .rank(rank.getAndIncrement() + 1)
+                                .keyword(related.getKeyword())
+                                .type(KeywordCacheCode.TYPE_NEW.getCode())
+                                .step(0)
+                                .relatedCount(related.getCnt())
+                                .build())
+                .collect(Collectors.toList());
+
+        // 이전 스냅샷이 있으면 비교해서 등락 계산
+        Optional<List<RelateKeyword>> relatePast = relateKeywordRepository.findById(pastKey);
+        if (relatePast.isPresent()) now = rankRelateKeyword(now, relatePast.get());
+
+        relateKeywordRepository.save(pastKey, now);
+        relateKeywordRepository.saveResult(key, now, relateExpire);
+
+        // 워드 클라우드 (상위 100개)
+        wordCloudKeywordRepository.saveResult(wordCloudKey, toWordCloudKeyword(relatedList), wordCloudExpire);
+
+        return now;
+    }
+
+    private List<WordCloudKeyword> toWordCloudKeyword(List<RelatedKeywordCount> relatedList) {
+        List<WordCloudKeyword> wordCloudKeywordList = new ArrayList<>();
+        if (relatedList.isEmpty()) return wordCloudKeywordList;
+
+        long maxv = 300L, minv = 100L;
+        long max = relatedList.get(0).getCnt();
+        long min = relatedList.get(relatedList.size() - 1).getCnt();
+        if (relatedList.size() == 1) minv = 500L;
+
+        for (RelatedKeywordCount relatedKeywordCount : relatedList) {
+            long cnt = relatedKeywordCount.getCnt();
+            double ratio = (double) (cnt - min) / Math.max((double) (max - min), 0.001);
+            int count = (int) (ratio * (maxv - minv) + minv);
+            wordCloudKeywordList.add(
+                    WordCloudKeyword.builder()
+                            .text(relatedKeywordCount.getKeyword())
+                            .value(count)
+                            .build()
+            );
         }
+        return wordCloudKeywordList;
+    }
 
-        return hotKeywordList;
+    private void refreshAhead(String keyword, Long ttl, Integer expire) {
+        String hitKey = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_HIT.getCode(), keyword);
+
+        // 만료 주기 동안의 조회수 집계
+        Long hit = cacheLockRepository.increment(hitKey, expire);
+        if (hit == null || hit < popularCount) return;
+        // 남은 만료시간이 일정 비율 이하일 때만 갱신
+        if (ttl == null || ttl < 0 || ttl > expire * refreshAheadRatio) return;
+
+        cacheRefreshExecutor.execute(() -> {
+            String lockKey = String.format("%s_%s", KeywordCacheCode.RELATE_KEYWORD_LOCK.getCode(), keyword);
+            // 이미 다른 요청이 갱신 중이면 생략
+            cacheLockRepository.tryLock(lockKey, lockExpire).ifPresent(token -> {
+                try {
+                    refreshRelateKeyword(keyword);
+                } catch (RuntimeException e) {
+                    log.warn("refreshAhead - {} : {}", keyword, e.getMessage());
+                } finally {
+                    cacheLockRepository.unlock(lockKey, token);
+                }
+            });
+        });
     }
 
     private List<RelateKeyword> rankRelateKeyword(List<RelateKeyword> now, List<RelateKeyword> past) {
-        List<RelateKeyword> relateKeywordList = new ArrayList<>();
+        // 현재와 과거를 한 번에 바꿔야 임시 id 가 중간에 교체돼도 같은 키워드가 같은 id 가 됨
+        int[] idList = keywordDictService.getIdList(Stream.concat(now.stream(), past.stream())
+                .map(RelateKeyword::getKeyword)
+                .collect(Collectors.toList()));
+        int[] nowIdList = Arrays.copyOfRange(idList, 0, now.size());
+        Int2IntOpenHashMap pastRankMap = KeywordDictService.toRankMap(Arrays.copyOfRange(idList, now.size(), idList.length));
+
+        List<RelateKeyword> relateKeywordList = new ArrayList<>(now.size());
 
-        for (Integer src = 0; src < now.size(); src++){
+        for (int src = 0; src < now.size(); src++){
             RelateKeyword relateKeyword = now.get(src);
+            int search = pastRankMap.get(nowIdList[src]);
 
-            Boolean isNew = true;
-
-            for (Integer search = 0; search < past.size(); search++) {
-                if (relateKeyword.getKeyword().equals(past.get(search).getKeyword())) {
-                    isNew = false;
-                    Integer typeValue = src - search;
-                    Integer step = Math.abs(src - search);
-
-                    // 순위 떨어짐
-                    if (typeValue > 0) {
-                        relateKeyword.setType(KeywordCacheCode.TYPE_DOWN.getCode());
-                        relateKeyword.setStep(step);
-                    }
-                    // 순위 고정
-                    else if (typeValue == 0) {
-                        relateKeyword.setType(KeywordCacheCode.TYPE_SAME.getCode());
-                        relateKeyword.setStep(step);
-                    }
-                    // 순위 올라감
-                    else {
-                        relateKeyword.setType(KeywordCacheCode.TYPE_UP.getCode());
-                        relateKeyword.setStep(step);
-                    }
-                    break;
-                }
-            }
             // 새로운 키워드가 온 경우
-            if (isNew) {
+            if (search == KeywordDictService.NONE) {
                 relateKeyword.setType(KeywordCacheCode.TYPE_NEW.getCode());
                 relateKeyword.setStep(0);
+            } else {
+                relateKeyword.setType(getRankType(src - search));
+                relateKeyword.setStep(Math.abs(src - search));
             }
+            relateKeyword.setRank(src + 1);
             relateKeywordList.add(relateKeyword);
         }
 
-        for (Integer rank = 1; rank <= relateKeywordList.size(); rank++){
-            relateKeywordList.get(rank - 1).setRank(rank);
-        }
-
         return relateKeywordList;
     }
 
+    static String getRankType(int typeValue) {
+        // 순위 떨어짐
+        if (typeValue > 0) return KeywordCacheCode.TYPE_DOWN.getCode();
+        // 순위 고정
+        else if (typeValue == 0) return KeywordCacheCode.TYPE_SAME.getCode();
+        // 순위 올라감
+        else return KeywordCacheCode.TYPE_UP.getCode();
+    }
+
 }
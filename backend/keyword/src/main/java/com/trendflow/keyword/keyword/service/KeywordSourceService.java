@@ -0,0 +1,173 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordSourceRepository;
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import com.trendflow.keyword.keyword.index.SourceIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+// 가장 최근 데이터 날짜부터 keyword.source-index.days 일의 (키워드, 날짜) -> 소스 id 비트맵
+// 기준은 현재 시각이 아니라 데이터 날짜 (과거 데이터만 적재된 경우에도 색인에서 응답)
+// 범위가 색인 밖이거나 준비 전이면 empty 를 돌려주고 호출하는 쪽이 DB 로 조회
+@Slf4j
+@Service
+public class KeywordSourceService {
+    private static final DateTimeFormatter REG_DT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final KeywordSourceRepository keywordSourceRepository;
+    private final KeywordRepository keywordRepository;
+
+    @Value("${keyword.source-index.path:data/source-index.bin}")
+    private String path;
+    @Value("${keyword.source-index.days:90}")
+    private Integer days;
+    @Value("${keyword.source-index.rebuild:86400000}")
+    private Long rebuild;
+
+    private volatile SourceIndex sourceIndex;
+    private volatile SourceIndex building;
+
+    public KeywordSourceService(KeywordSourceRepository keywordSourceRepository, KeywordRepository keywordRepository,
+                                MeterRegistry meterRegistry) {
+        this.keywordSourceRepository = keywordSourceRepository;
+        this.keywordRepository = keywordRepository;
+
+        Gauge.builder("keyword.source-index.size", this, service -> service.sourceIndex == null ? 0 : service.sourceIndex.size())
+                .register(meterRegistry);
+    }
+
+    // 새로 수집된 소스 반영 (재생성 중이면 새 색인에도 반영)
+    // 재생성 중 DB 에서 읽는 값은 합계로 덮어쓰므로 (SourceIndex.put) 조회 전에 커밋된 수집이 더해진 뒤 읽히는 것은 괜찮고,
+    // 커밋 직후 이벤트가 처리되기 전에 조회가 그 행을 읽은 경우만 한 번 더 더해짐 (다음 재생성에서 바로잡힘)
+    public void add(String keyword, Integer regDt, Long sourceId, Long count) {
+        if (keyword == null || regDt == null || sourceId == null || count == null) return;
+
+        SourceIndex now = sourceIndex;
+        if (now != null) now.add(keyword, regDt, sourceId, count);
+        SourceIndex next = building;
+        if (next != null) next.add(keyword, regDt, sourceId, count);
+    }
+
+    // 목록 없이 커밋된 큰 적재 : 적재한 기간을 DB 에서 다시 읽어 합계로 덮어씀 (목록을 들고 있지 않도록 한 행씩)
+    public void reload(Integer start, Integer end) {
+        SourceIndex now = sourceIndex;
+        SourceIndex next = building;
+        if (now == null && next == null) return;
+
+        int since = Math.min(now == null ? Integer.MAX_VALUE : now.getSince(), next == null ? Integer.MAX_VALUE : next.getSince());
+        if (end < since) return;
+        keywordSourceRepository.findAllBetween(Math.max(start, since), end, (keyword, regDt, sourceId, count) -> {
+            if (now != null && regDt >= now.getSince()) now.put(keyword, regDt, sourceId, count);
+            if (next != null && regDt >= next.getSince()) next.put(keyword, regDt, sourceId, count);
+        });
+        log.info("reload - source index {} ~ {}", start, end);
+    }
+
+    public Optional<MutableRoaringBitmap> find(String keyword, Integer start, Integer end) {
+        SourceIndex now = sourceIndex;
+        if (!covers(now, start, end)) return Optional.empty();
+        return Optional.of(now.find(keyword, start, end));
+    }
+
+    public Optional<List<WeightedKeyword>> findRelated(String keyword, Integer start, Integer end, Integer limit) {
+        SourceIndex now = sourceIndex;
+        if (!covers(now, start, end)) return Optional.empty();
+        return Optional.of(now.related(keyword, start, end, limit));
+    }
+
+    // 색인된 가장 최근 날짜 이후를 물으면 DB 의 가장 최근 날짜와 비교
+    // Python 파이프라인이 직접 적재한 행은 이벤트가 없어서 다음 재생성 전까지 색인에 없으므로 DB 에 더 최근 날짜가 있으면 DB 로 조회
+    private boolean covers(SourceIndex now, Integer start, Integer end) {
+        if (now == null) return false;
+        if (now.covers(start, end)) return true;
+        if (end <= now.getLatest()) return false;
+
+        Integer maxRegDt = keywordRepository.findMaxRegDt();
+        return maxRegDt != null && now.covers(start, Math.min(end, maxRegDt));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${keyword.source-index.rebuild:86400000}")
+    public void rebuild() {
+        Path snapshotPath = Paths.get(path);
+        Integer maxRegDt = keywordRepository.findMaxRegDt();
+        int since = toRegDt((maxRegDt == null ? LocalDate.now() : toDate(maxRegDt)).minusDays(days));
+
+        // 기동 직후 최근 스냅샷이 있으면 DB 전체 대신 파일을 맵하고 스냅샷 이후 날짜만 다시 읽음
+        if (sourceIndex == null && loadSnapshot(snapshotPath)) return;
+
+        SourceIndex next = new SourceIndex(since);
+        building = next;
+        try {
+            keywordSourceRepository.findAllSince(since, next::put);
+            sourceIndex = next;
+            log.info("rebuild - source index : {}", next.size());
+        } finally {
+            building = null;
+        }
+        snapshot();
+    }
+
+    @Scheduled(initialDelayString = "${keyword.source-index.snapshot:600000}", fixedDelayString = "${keyword.source-index.snapshot:600000}")
+    public void snapshot() {
+        SourceIndex now = sourceIndex;
+        if (now == null) return;
+
+        // 스냅샷에 실패해도 힙의 색인으로 계속 응답
+        try {
+            Path snapshotPath = Paths.get(path);
+            if (snapshotPath.getParent() != null) Files.createDirectories(snapshotPath.getParent());
+            // 색인된 가장 최근 날짜 기준으로 오래된 날짜를 버림 (비어 있으면 그대로)
+            int before = now.getLatest() == 0 ? now.getSince() : toRegDt(toDate(now.getLatest()).minusDays(days));
+            now.snapshot(snapshotPath, before);
+        } catch (IOException e) {
+            log.error("snapshot - {}", e.getMessage());
+        }
+    }
+
+    private boolean loadSnapshot(Path snapshotPath) {
+        try {
+            if (!Files.exists(snapshotPath)) return false;
+            Instant modified = Files.getLastModifiedTime(snapshotPath).toInstant();
+            if (modified.plusMillis(rebuild).isBefore(Instant.now())) return false;
+
+            SourceIndex loaded = SourceIndex.load(snapshotPath);
+            // 스냅샷 시각 전날부터 다시 읽어서 그 사이 적재분을 채움 (합계로 덮어쓰므로 이미 있는 행을 다시 읽어도 같음)
+            LocalDate modifiedDate = modified.atZone(ZoneId.systemDefault()).toLocalDate();
+            building = loaded;
+            keywordSourceRepository.findAllSince(toRegDt(modifiedDate.minusDays(1)), loaded::put);
+            sourceIndex = loaded;
+            log.info("rebuild - source index from snapshot : {}", loaded.size());
+            return true;
+        } catch (IOException e) {
+            log.error("rebuild - snapshot : {}", e.getMessage());
+            return false;
+        } finally {
+            building = null;
+        }
+    }
+
+    private static int toRegDt(LocalDate date) {
+        return Integer.parseInt(date.format(REG_DT));
+    }
+
+    private static LocalDate toDate(Integer regDt) {
+        return LocalDate.parse(String.valueOf(regDt), REG_DT);
+    }
+}
@@ -0,0 +1,67 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordIngestRepository;
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.event.KeywordIngestEvent;
+import com.trendflow.keyword.keyword.stream.KeywordCountSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 스트림의 누적 합계를 keyword_stream_count 와 비교해서 늘어난 만큼만 keyword_count 에 반영
+// 재처리로 같은(또는 이전) 합계가 다시 와도 증분이 0 이하라 중복 반영되지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "keyword.stream.enabled", havingValue = "true")
+public class KeywordStreamService implements KeywordCountSink {
+    private static final Comparator<KeywordIngest> ORDER = Comparator.comparing(KeywordIngest::getKeyword)
+            .thenComparing(KeywordIngest::getRegDt)
+            .thenComparing(KeywordIngest::getPlatformCode);
+
+    private final KeywordIngestRepository keywordIngestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void flush(List<KeywordIngest> totalList) {
+        List<KeywordIngest> sortedList = new ArrayList<>(totalList);
+        sortedList.sort(ORDER);
+
+        Integer flushed = transactionTemplate.execute(status -> {
+            Map<String, Long> flushedMap = keywordIngestRepository.findStreamCountForUpdate(sortedList);
+
+            List<KeywordIngest> changedList = new ArrayList<>();
+            List<KeywordIngest> deltaList = new ArrayList<>();
+            for (KeywordIngest keyword : sortedList) {
+                String key = KeywordIngestRepository.toStreamKey(keyword.getKeyword(), keyword.getPlatformCode(), keyword.getRegDt());
+                long delta = keyword.getCount() - flushedMap.getOrDefault(key, 0L);
+                if (delta <= 0) continue;
+
+                changedList.add(keyword);
+                deltaList.add(KeywordIngest.builder()
+                        .platformCode(keyword.getPlatformCode())
+                        .keyword(keyword.getKeyword())
+                        .regDt(keyword.getRegDt())
+                        .count(delta)
+                        .build());
+            }
+            if (deltaList.isEmpty()) return 0;
+
+            keywordIngestRepository.upsertStreamCount(changedList);
+            keywordIngestRepository.upsertPlatformDaily(deltaList);
+            keywordIngestRepository.upsertKeywordCount(KeywordIngestService.merge(deltaList, false));
+            applicationEventPublisher.publishEvent(new KeywordIngestEvent(deltaList));
+            return deltaList.size();
+        });
+        log.info("flush - stream {} keys, {} changed", totalList.size(), flushed);
+    }
+}
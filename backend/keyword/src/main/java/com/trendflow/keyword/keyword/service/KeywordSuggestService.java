@@ -0,0 +1,72 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.dto.response.FindCorrectKeywordResponse;
+import com.trendflow.keyword.keyword.dto.response.FindSuggestKeywordResponse;
+import com.trendflow.keyword.keyword.entity.KeywordDistinct;
+import com.trendflow.keyword.keyword.index.FuzzyIndex;
+import com.trendflow.keyword.keyword.index.PrefixIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+public class KeywordSuggestService {
+    private final KeywordRepository keywordRepository;
+    private final Integer top;
+
+    @Value("${keyword.suggest.days:30}")
+    private Integer days;
+    @Value("${keyword.correct.max-distance:2}")
+    private Integer maxDistance;
+
+    private volatile PrefixIndex prefixIndex;
+    private volatile FuzzyIndex fuzzyIndex = new FuzzyIndex();
+
+    // 재생성 전 인덱스도 설정한 노드별 상위 개수로 만듦
+    public KeywordSuggestService(KeywordRepository keywordRepository, @Value("${keyword.suggest.top:10}") Integer top) {
+        this.keywordRepository = keywordRepository;
+        this.top = top;
+        this.prefixIndex = new PrefixIndex(top);
+    }
+
+    public List<FindSuggestKeywordResponse> findSuggestKeyword(String keyword, Integer limit) {
+        return FindSuggestKeywordResponse.toList(prefixIndex.search(keyword, Math.min(limit, top)));
+    }
+
+    // 짧은 검색어는 허용 거리를 줄여 엉뚱한 보정을 막음 (자모 3개당 1)
+    public List<FindCorrectKeywordResponse> findCorrectKeyword(String keyword, Integer limit) {
+        int distance = Math.max(1, Math.min(maxDistance, FuzzyIndex.toKey(keyword).length() / 3));
+        return FindCorrectKeywordResponse.toList(fuzzyIndex.search(keyword, distance, Math.min(limit, top)));
+    }
+
+    // 새로 수집된 키워드를 바로 반영
+    public void add(String keyword, Long count) {
+        prefixIndex.add(keyword, count);
+        fuzzyIndex.add(keyword, count);
+    }
+
+    // 최근 기간 기준으로 인덱스를 새로 만들어 교체
+    @Scheduled(initialDelay = 0, fixedDelayString = "${keyword.suggest.rebuild:3600000}")
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        Integer start = Integer.parseInt(today.minusDays(days).toString().replace("-", ""));
+        Integer end = Integer.parseInt(today.toString().replace("-", ""));
+
+        PrefixIndex next = new PrefixIndex(top);
+        FuzzyIndex nextFuzzy = new FuzzyIndex();
+        List<KeywordDistinct> keywordList = keywordRepository.findAllByRegDt(start, end);
+        for (KeywordDistinct keyword : keywordList) {
+            next.add(keyword.getKeyword(), keyword.getCount());
+            nextFuzzy.add(keyword.getKeyword(), keyword.getCount());
+        }
+        prefixIndex = next;
+        fuzzyIndex = nextFuzzy;
+        log.info("rebuild - suggest index : {}, correct index : {}", next.size(), nextFuzzy.size());
+    }
+}
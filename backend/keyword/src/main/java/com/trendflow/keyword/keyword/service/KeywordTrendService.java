@@ -0,0 +1,103 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordPlatformDailyRepository;
+import com.trendflow.keyword.keyword.dto.response.FindTrendKeywordResponse;
+import com.trendflow.keyword.keyword.dto.vo.TrendKeyword;
+import com.trendflow.keyword.keyword.entity.KeywordDailyCount;
+import com.trendflow.keyword.keyword.index.TrendDetector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordTrendService {
+    private final KeywordPlatformDailyRepository keywordPlatformDailyRepository;
+
+    @Value("${keyword.trend.hour-alpha:0.1}")
+    private Double hourAlpha;
+    @Value("${keyword.trend.day-alpha:0.3}")
+    private Double dayAlpha;
+    @Value("${keyword.trend.warmup:3}")
+    private Integer warmup;
+    @Value("${keyword.trend.min-count:10}")
+    private Long minCount;
+    @Value("${keyword.trend.top:20}")
+    private Integer top;
+    @Value("${keyword.trend.seed-days:30}")
+    private Integer seedDays;
+
+    // 시간 단위는 수집 증분으로만 쌓임, 일 단위는 일별 집계에서 주기적으로 재생성
+    private volatile TrendDetector hourDetector;
+    private volatile TrendDetector dayDetector;
+    private volatile FindTrendKeywordResponse trendKeyword = FindTrendKeywordResponse.empty();
+
+    public FindTrendKeywordResponse findTrendKeyword(Integer limit) {
+        FindTrendKeywordResponse now = trendKeyword;
+        return FindTrendKeywordResponse.builder()
+                .hour(now.getHour().stream().limit(limit).collect(Collectors.toList()))
+                .day(now.getDay().stream().limit(limit).collect(Collectors.toList()))
+                .build();
+    }
+
+    // 수집된 키워드 반영 (오늘 데이터만 시간 단위에 반영)
+    public void add(String keyword, Integer regDt, Long count) {
+        LocalDate date = toDate(regDt);
+        TrendDetector day = dayDetector;
+        if (day != null) day.add(keyword, date.toEpochDay(), count);
+
+        TrendDetector hour = hourDetector;
+        if (hour != null && date.equals(LocalDate.now())) hour.add(keyword, currentHour(), count);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${keyword.trend.rebuild:86400000}")
+    public void rebuild() {
+        if (hourDetector == null) hourDetector = new TrendDetector(hourAlpha, warmup, minCount);
+
+        LocalDate today = LocalDate.now();
+        Integer start = Integer.parseInt(today.minusDays(seedDays).toString().replace("-", ""));
+        Integer end = Integer.parseInt(today.toString().replace("-", ""));
+
+        TrendDetector next = new TrendDetector(dayAlpha, warmup, minCount);
+        List<KeywordDailyCount> keywordList = keywordPlatformDailyRepository.findDailyCountByRegDt(start, end);
+        for (KeywordDailyCount keyword : keywordList) {
+            next.add(keyword.getKeyword(), toDate(keyword.getRegDt()).toEpochDay(), keyword.getCount());
+        }
+        dayDetector = next;
+        log.info("rebuild - trend detector : {}", next.size());
+
+        refresh();
+    }
+
+    // 요청 시에는 계산하지 않고 주기적으로 상위 목록만 갱신
+    @Scheduled(fixedDelayString = "${keyword.trend.refresh:60000}")
+    public void refresh() {
+        TrendDetector hour = hourDetector;
+        TrendDetector day = dayDetector;
+        if (hour == null || day == null) return;
+
+        List<TrendKeyword> hourList = hour.top(currentHour(), top);
+        List<TrendKeyword> dayList = day.top(LocalDate.now().toEpochDay(), top);
+        trendKeyword = FindTrendKeywordResponse.builder()
+                .hour(hourList)
+                .day(dayList)
+                .build();
+    }
+
+    private static long currentHour() {
+        return TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    }
+
+    private static LocalDate toDate(Integer regDt) {
+        return LocalDate.parse(String.valueOf(regDt), DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.trendflow.keyword.keyword.stream;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+
+import java.util.List;
+
+// (키워드, 플랫폼, 날짜) 별 누적 합계를 받아 저장소에 반영
+// 같은 합계가 다시 들어와도 한 번만 반영되어야 함 (장애 후 재처리)
+public interface KeywordCountSink {
+    void flush(List<KeywordIngest> totalList);
+}
@@ -0,0 +1,53 @@
+package com.trendflow.keyword.keyword.stream;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Repartitioned;
+import org.apache.kafka.streams.state.Stores;
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+import java.time.Duration;
+
+// 토큰화된 키워드 이벤트 -> (날짜, 플랫폼, 키워드) 키로 재분배 -> RocksDB 누적 합계 -> 주기적으로 싱크에 반영
+public class KeywordCountTopology {
+    public static final String TOTAL_STORE = "keyword-count-total";
+    public static final String DIRTY_STORE = "keyword-count-dirty";
+    private static final String SEPARATOR = "\t";
+
+    private KeywordCountTopology() {
+    }
+
+    public static KStream<String, KeywordIngest> build(StreamsBuilder builder, String topic, KeywordCountSink sink,
+                                                       Duration flushInterval, Integer retentionDays) {
+        builder.addStateStore(Stores.keyValueStoreBuilder(Stores.persistentKeyValueStore(TOTAL_STORE), Serdes.String(), Serdes.Long()));
+        builder.addStateStore(Stores.keyValueStoreBuilder(Stores.persistentKeyValueStore(DIRTY_STORE), Serdes.String(), Serdes.Long()));
+
+        KStream<String, KeywordIngest> stream = builder.stream(topic,
+                Consumed.with(Serdes.String(), new JsonSerde<>(KeywordIngest.class).ignoreTypeHeaders()));
+        stream.filter((key, value) -> value != null && value.getKeyword() != null
+                        && value.getPlatformCode() != null && value.getRegDt() != null)
+                .map((key, value) -> KeyValue.pair(toKey(value), value.getCount() == null ? 1L : value.getCount()))
+                .repartition(Repartitioned.with(Serdes.String(), Serdes.Long()).withName("keyword-count"))
+                .transform(() -> new KeywordCountTransformer(sink, flushInterval, retentionDays), TOTAL_STORE, DIRTY_STORE);
+        return stream;
+    }
+
+    // 날짜가 앞에 오도록 해서 오래된 날짜를 범위로 정리
+    static String toKey(KeywordIngest keyword) {
+        return keyword.getRegDt() + SEPARATOR + keyword.getPlatformCode() + SEPARATOR + keyword.getKeyword();
+    }
+
+    static KeywordIngest fromKey(String key, Long count) {
+        String[] token = key.split(SEPARATOR, 3);
+        return KeywordIngest.builder()
+                .regDt(Integer.parseInt(token[0]))
+                .platformCode(token[1])
+                .keyword(token[2])
+                .count(count)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.trendflow.keyword.keyword.stream;
+
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.kstream.Transformer;
+import org.apache.kafka.streams.processor.ProcessorContext;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 누적 합계와 마지막 반영 이후 바뀐 키를 상태 저장소에 보관
+// 두 저장소 모두 exactly-once 트랜잭션으로 커밋되므로 장애 시 함께 되돌아감
+public class KeywordCountTransformer implements Transformer<String, Long, KeyValue<String, Long>> {
+    private final KeywordCountSink sink;
+    private final Duration flushInterval;
+    private final Integer retentionDays;
+
+    private KeyValueStore<String, Long> totalStore;
+    private KeyValueStore<String, Long> dirtyStore;
+
+    public KeywordCountTransformer(KeywordCountSink sink, Duration flushInterval, Integer retentionDays) {
+        this.sink = sink;
+        this.flushInterval = flushInterval;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void init(ProcessorContext context) {
+        this.totalStore = (KeyValueStore<String, Long>) context.getStateStore(KeywordCountTopology.TOTAL_STORE);
+        this.dirtyStore = (KeyValueStore<String, Long>) context.getStateStore(KeywordCountTopology.DIRTY_STORE);
+        context.schedule(flushInterval, PunctuationType.WALL_CLOCK_TIME, timestamp -> flush());
+    }
+
+    @Override
+    public KeyValue<String, Long> transform(String key, Long count) {
+        Long total = totalStore.get(key);
+        total = total == null ? count : total + count;
+        totalStore.put(key, total);
+        dirtyStore.put(key, total);
+        return null;
+    }
+
+    // 실패하면 예외로 태스크를 재시작 (dirty 가 남아 다음에 다시 반영)
+    private void flush() {
+        List<KeywordIngest> totalList = new ArrayList<>();
+        List<String> keyList = new ArrayList<>();
+        try (KeyValueIterator<String, Long> iterator = dirtyStore.all()) {
+            while (iterator.hasNext()) {
+                KeyValue<String, Long> entry = iterator.next();
+                keyList.add(entry.key);
+                totalList.add(KeywordCountTopology.fromKey(entry.key, entry.value));
+            }
+        }
+        if (!totalList.isEmpty()) {
+            sink.flush(totalList);
+            for (String key : keyList) dirtyStore.delete(key);
+        }
+
+        // 보관 기간이 지난 날짜의 합계 정리
+        String cutoff = LocalDate.now().minusDays(retentionDays).toString().replace("-", "");
+        List<String> expiredList = new ArrayList<>();
+        try (KeyValueIterator<String, Long> iterator = totalStore.range("0", cutoff)) {
+            while (iterator.hasNext()) expiredList.add(iterator.next().key);
+        }
+        for (String key : expiredList) totalStore.delete(key);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -10,8 +10,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommonService {
     private final CommonServiceClient commonServiceClient;
+    private final CodeTableCache codeTableCache;
 
     public List<RelateCode> getRelateCode(String name){
-        return commonServiceClient.getRelateCode(name);
+        return codeTableCache.findRelateCode(name)
+                .orElseGet(() -> commonServiceClient.getRelateCode(name));
     }
 }
@@ -1,15 +1,22 @@
 package com.trendflow.keyword.msa.service;
 
 
+import com.trendflow.keyword.msa.vo.CodeTable;
 import com.trendflow.keyword.msa.vo.RelateCode;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import java.util.List;
 
 @FeignClient("COMMON")
 public interface CommonServiceClient {
+    // If-None-Match 가 현재 버전과 같으면 304 (FeignException)
+    @GetMapping("/common/code")
+    ResponseEntity<CodeTable> getCodeTable(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
     @GetMapping("/common/relate/{name}")
     List<RelateCode> getRelateCode(@PathVariable String name);
 
@@ -0,0 +1,18 @@
+package com.trendflow.keyword.msa.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CodeTable {
+    private String version;
+    private List<LocalCode> localCodeList;
+    private List<RelateCode> relateCodeList;
+}
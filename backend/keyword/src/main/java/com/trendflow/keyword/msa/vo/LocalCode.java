@@ -0,0 +1,17 @@
+package com.trendflow.keyword.msa.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LocalCode {
+    private String code;
+    private String name;
+    private String groupCode;
+    private String groupName;
+}
@@ -0,0 +1,5 @@
+--
+-- 주간 집계로 옮겨진 마지막 주 조회 (압축 기준일) : MAX(week_dt)
+--
+
+ALTER TABLE `keyword_platform_weekly` ADD INDEX `IDX_KeywordPlatformWeekly_WeekDt` (`week_dt`);
@@ -0,0 +1,8 @@
+--
+-- keyword_dict 의 키워드 비교를 KeywordDictService.normalize 결과 그대로 (utf8mb4_bin)
+-- utf8mb4_0900_ai_ci 면 악센트, 전각만 다른 키워드 ('café', 'cafe') 가 UNIQUE 키에서 같은 행이 되어
+-- 메모리 사전에서는 서로 다른 키워드가 DB 에서는 하나의 id 를 나눠 씀 (id -> 키워드가 먼저 올라온 표기로 고정)
+-- 대소문자, 공백은 normalize 가 이미 접으므로 바이너리 비교로도 같은 키워드는 같은 행
+--
+
+ALTER TABLE `keyword_dict` MODIFY `keyword` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL;
@@ -0,0 +1,29 @@
+--
+-- 기준 스키마 (이미 운영 중인 DB 는 baseline 으로 건너뜀)
+--
+
+--
+-- Table structure for table `keyword`
+--
+
+CREATE TABLE IF NOT EXISTS `keyword` (
+  `keyword_id` bigint NOT NULL AUTO_INCREMENT,
+  `source_id` bigint NOT NULL,
+  `platform_code` varchar(10) NOT NULL,
+  `keyword` varchar(100) NOT NULL,
+  `count` bigint NOT NULL,
+  `reg_dt` int NOT NULL,
+  PRIMARY KEY (`keyword_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='소스 별 키워드 언급량';
+
+--
+-- Table structure for table `keyword_count`
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_count` (
+  `keyword_count_id` bigint NOT NULL AUTO_INCREMENT,
+  `keyword` varchar(100) NOT NULL,
+  `count` bigint NOT NULL,
+  `reg_dt` int NOT NULL,
+  PRIMARY KEY (`keyword_count_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='키워드 별 일별 언급량';
@@ -0,0 +1,10 @@
+--
+-- Table structure for table `keyword_dict`
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_dict` (
+  `keyword_dict_id` int NOT NULL AUTO_INCREMENT,
+  `keyword` varchar(100) NOT NULL,
+  PRIMARY KEY (`keyword_dict_id`),
+  UNIQUE KEY `UK_KeywordDict_Keyword` (`keyword`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='정규화된 키워드 별 정수 id 사전';
@@ -0,0 +1,12 @@
+--
+-- Table structure for table `keyword_platform_daily`
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_platform_daily` (
+  `keyword` varchar(100) NOT NULL,
+  `platform_code` varchar(10) NOT NULL,
+  `reg_dt` int NOT NULL,
+  `count` bigint NOT NULL,
+  PRIMARY KEY (`keyword`, `platform_code`, `reg_dt`),
+  KEY `IDX_KeywordPlatformDaily_Keyword_RegDt` (`keyword`, `reg_dt`, `platform_code`, `count`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='키워드 별 일별 플랫폼 언급량 집계';
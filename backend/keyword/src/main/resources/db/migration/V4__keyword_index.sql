@@ -0,0 +1,5 @@
+--
+-- /keyword/page 키셋 페이지네이션 : keyword = ? AND reg_dt 범위, (reg_dt, keyword_id) 역순 정렬
+--
+
+ALTER TABLE `keyword` ADD INDEX `IDX_Keyword_Keyword_RegDt_KeywordId` (`keyword`, `reg_dt`, `keyword_id`);
@@ -0,0 +1,53 @@
+--
+-- /keyword/ingest 배치 UPSERT 용 유니크 키
+-- 기존 중복 행은 id 가 가장 작은 행으로 합산하고 나머지를 삭제한 뒤 적용
+--
+
+UPDATE `keyword` k
+JOIN (SELECT MIN(`keyword_id`) AS `keyword_id`, SUM(`count`) AS `count`
+      FROM `keyword`
+      GROUP BY `source_id`, `platform_code`, `keyword`, `reg_dt`
+      HAVING COUNT(*) > 1) d ON d.`keyword_id` = k.`keyword_id`
+SET k.`count` = d.`count`;
+
+DELETE k FROM `keyword` k
+JOIN (SELECT MIN(`keyword_id`) AS `keyword_id`, `source_id`, `platform_code`, `keyword`, `reg_dt`
+      FROM `keyword`
+      GROUP BY `source_id`, `platform_code`, `keyword`, `reg_dt`
+      HAVING COUNT(*) > 1) d ON d.`source_id` = k.`source_id`
+                             AND d.`platform_code` = k.`platform_code`
+                             AND d.`keyword` = k.`keyword`
+                             AND d.`reg_dt` = k.`reg_dt`
+                             AND d.`keyword_id` <> k.`keyword_id`;
+
+UPDATE `keyword_count` c
+JOIN (SELECT MIN(`keyword_count_id`) AS `keyword_count_id`, SUM(`count`) AS `count`
+      FROM `keyword_count`
+      GROUP BY `keyword`, `reg_dt`
+      HAVING COUNT(*) > 1) d ON d.`keyword_count_id` = c.`keyword_count_id`
+SET c.`count` = d.`count`;
+
+DELETE c FROM `keyword_count` c
+JOIN (SELECT MIN(`keyword_count_id`) AS `keyword_count_id`, `keyword`, `reg_dt`
+      FROM `keyword_count`
+      GROUP BY `keyword`, `reg_dt`
+      HAVING COUNT(*) > 1) d ON d.`keyword` = c.`keyword`
+                             AND d.`reg_dt` = c.`reg_dt`
+                             AND d.`keyword_count_id` <> c.`keyword_count_id`;
+
+-- 같은 소스라도 플랫폼이 다르면 별도 행
+ALTER TABLE `keyword` ADD UNIQUE KEY `UK_Keyword_SourceId_PlatformCode_Keyword_RegDt` (`source_id`, `platform_code`, `keyword`, `reg_dt`);
+ALTER TABLE `keyword_count` ADD UNIQUE KEY `UK_KeywordCount_Keyword_RegDt` (`keyword`, `reg_dt`);
+
+--
+-- Table structure for table `keyword_ingest_batch`
+-- 적재 요청 (X-Ingest-Id) 별 결과, 같은 id 로 다시 보낸 요청은 적재하지 않고 기록된 결과를 돌려줌
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_ingest_batch` (
+  `ingest_id` varchar(64) NOT NULL,
+  `tuple_count` bigint NOT NULL,
+  `row_count` bigint NOT NULL,
+  `ingested_at` datetime NOT NULL,
+  PRIMARY KEY (`ingest_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='적재 요청 기록';
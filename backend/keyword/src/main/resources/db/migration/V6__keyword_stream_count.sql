@@ -0,0 +1,12 @@
+--
+-- Table structure for table `keyword_stream_count`
+-- 스트리밍 집계에서 keyword_count 에 이미 반영한 누적 합계 (재처리 시 중복 반영 방지)
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_stream_count` (
+  `keyword` varchar(100) NOT NULL,
+  `platform_code` varchar(10) NOT NULL,
+  `reg_dt` int NOT NULL,
+  `count` bigint NOT NULL,
+  PRIMARY KEY (`keyword`, `platform_code`, `reg_dt`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='스트리밍 집계 반영 합계';
@@ -0,0 +1,53 @@
+--
+-- reg_dt 월 단위 RANGE 파티션
+-- 파티션 키는 모든 유니크 키에 포함되어야 하므로 PK 에 reg_dt 추가
+-- 이후 월 파티션 추가 / 보관 기간 지난 파티션 삭제는 KeywordPartitionService 가 pmax 를 나눠서 처리
+--
+
+ALTER TABLE `keyword` DROP PRIMARY KEY, ADD PRIMARY KEY (`keyword_id`, `reg_dt`);
+ALTER TABLE `keyword` PARTITION BY RANGE (`reg_dt`) (
+  PARTITION p202301 VALUES LESS THAN (20230201),
+  PARTITION p202302 VALUES LESS THAN (20230301),
+  PARTITION p202303 VALUES LESS THAN (20230401),
+  PARTITION p202304 VALUES LESS THAN (20230501),
+  PARTITION p202305 VALUES LESS THAN (20230601),
+  PARTITION p202306 VALUES LESS THAN (20230701),
+  PARTITION p202307 VALUES LESS THAN (20230801),
+  PARTITION p202308 VALUES LESS THAN (20230901),
+  PARTITION p202309 VALUES LESS THAN (20231001),
+  PARTITION p202310 VALUES LESS THAN (20231101),
+  PARTITION p202311 VALUES LESS THAN (20231201),
+  PARTITION p202312 VALUES LESS THAN (20240101),
+  PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+ALTER TABLE `keyword_count` DROP PRIMARY KEY, ADD PRIMARY KEY (`keyword_count_id`, `reg_dt`);
+ALTER TABLE `keyword_count` PARTITION BY RANGE (`reg_dt`) (
+  PARTITION p202301 VALUES LESS THAN (20230201),
+  PARTITION p202302 VALUES LESS THAN (20230301),
+  PARTITION p202303 VALUES LESS THAN (20230401),
+  PARTITION p202304 VALUES LESS THAN (20230501),
+  PARTITION p202305 VALUES LESS THAN (20230601),
+  PARTITION p202306 VALUES LESS THAN (20230701),
+  PARTITION p202307 VALUES LESS THAN (20230801),
+  PARTITION p202308 VALUES LESS THAN (20230901),
+  PARTITION p202309 VALUES LESS THAN (20231001),
+  PARTITION p202310 VALUES LESS THAN (20231101),
+  PARTITION p202311 VALUES LESS THAN (20231201),
+  PARTITION p202312 VALUES LESS THAN (20240101),
+  PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+--
+-- Table structure for table `keyword_platform_weekly`
+-- keyword.partition.downsample-days 이전의 keyword_platform_daily 를 주 단위(월요일)로 압축
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_platform_weekly` (
+  `keyword` varchar(100) NOT NULL,
+  `platform_code` varchar(10) NOT NULL,
+  `week_dt` int NOT NULL,
+  `count` bigint NOT NULL,
+  PRIMARY KEY (`keyword`, `platform_code`, `week_dt`),
+  KEY `IDX_KeywordPlatformWeekly_Keyword_WeekDt` (`keyword`, `week_dt`, `platform_code`, `count`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='키워드 별 주간 플랫폼 언급량 집계';
@@ -0,0 +1,16 @@
+--
+-- 네이티브 쿼리 별 커버링 인덱스 (InnoDB 보조 인덱스에는 PK (keyword_id, reg_dt) 가 뒤에 붙음)
+--
+
+-- 플랫폼 별 언급량 / 키워드 조회 / 연관 키워드 서브쿼리 : keyword = ? AND reg_dt 범위
+ALTER TABLE `keyword` ADD INDEX `IDX_Keyword_Keyword_RegDt_PlatformCode_Count_SourceId` (`keyword`, `reg_dt`, `platform_code`, `count`, `source_id`);
+-- 연관 키워드 바깥 조회 : source_id IN (...) AND reg_dt 범위, keyword 별 합계
+ALTER TABLE `keyword` ADD INDEX `IDX_Keyword_SourceId_RegDt_Keyword_Count` (`source_id`, `reg_dt`, `keyword`, `count`);
+-- 일별 집계 재생성 : reg_dt = ? 로 keyword, platform_code 별 합계
+ALTER TABLE `keyword` ADD INDEX `IDX_Keyword_RegDt_Keyword_PlatformCode_Count` (`reg_dt`, `keyword`, `platform_code`, `count`);
+
+-- 인기 / 추천 / 워드클라우드 : reg_dt 범위, keyword 별 합계
+ALTER TABLE `keyword_count` ADD INDEX `IDX_KeywordCount_RegDt_Keyword_Count` (`reg_dt`, `keyword`, `count`);
+
+-- 일별 추세 재생성 / 주간 압축 : reg_dt 범위
+ALTER TABLE `keyword_platform_daily` ADD INDEX `IDX_KeywordPlatformDaily_RegDt_Keyword_Count` (`reg_dt`, `keyword`, `platform_code`, `count`);
@@ -0,0 +1,10 @@
+--
+-- Table structure for table `keyword_rollup_day`
+-- keyword_platform_daily 를 원본 keyword 기준으로 재집계한 날짜 (여기 없는 날짜는 원본에서 직접 집계)
+--
+
+CREATE TABLE IF NOT EXISTS `keyword_rollup_day` (
+  `reg_dt` int NOT NULL,
+  `rolled_at` datetime NOT NULL,
+  PRIMARY KEY (`reg_dt`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='일별 플랫폼 집계가 끝난 날짜';
@@ -0,0 +1,65 @@
+package com.trendflow.keyword.global.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceIdCodecTest {
+
+    @Test
+    void roundTripTest() throws IOException {
+        Random random = new Random(0);
+        long[] sourceIdList = new long[100000];
+        long now = 0;
+        for (int i = 0; i < sourceIdList.length; i++) {
+            now += random.nextInt(100) + 1;
+            sourceIdList[i] = now;
+        }
+
+        byte[] bytes = SourceIdCodec.encode(sourceIdList);
+        assertArrayEquals(sourceIdList, SourceIdCodec.decode(new ByteArrayInputStream(bytes)));
+        // 촘촘한 id 는 대부분 1 바이트
+        assertTrue(bytes.length < sourceIdList.length * 2);
+    }
+
+    @Test
+    void edgeTest() throws IOException {
+        long[] sourceIdList = { 0L, 127L, 128L, 16384L, Long.MAX_VALUE };
+        assertArrayEquals(sourceIdList, SourceIdCodec.decode(new ByteArrayInputStream(SourceIdCodec.encode(sourceIdList))));
+        assertEquals(0, SourceIdCodec.decode(new ByteArrayInputStream(SourceIdCodec.encode(new long[0]))).length);
+        // 같은 id 반복 (차이 0) 도 끝 표시와 구분
+        long[] repeatList = { 0L, 0L, 5L, 5L };
+        assertArrayEquals(repeatList, SourceIdCodec.decode(new ByteArrayInputStream(SourceIdCodec.encode(repeatList))));
+    }
+
+    @Test
+    void invalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> SourceIdCodec.encode(new long[]{ 2L, 1L }));
+
+        byte[] bytes = SourceIdCodec.encode(new long[]{ 1000L });
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IOException.class, () -> SourceIdCodec.decode(new ByteArrayInputStream(truncated)));
+    }
+
+    // 값 경계에서 끊긴 응답, 빈 본문, 개수가 다른 응답은 모두 거부
+    @Test
+    void truncatedTest() {
+        byte[] bytes = SourceIdCodec.encode(new long[]{ 1L, 2L, 3L });
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IOException.class, () -> SourceIdCodec.decode(new ByteArrayInputStream(truncated)));
+        }
+
+        byte[] wrongCount = bytes.clone();
+        wrongCount[wrongCount.length - 1] = 2;
+        assertThrows(IOException.class, () -> SourceIdCodec.decode(new ByteArrayInputStream(wrongCount)));
+
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+        assertThrows(IOException.class, () -> SourceIdCodec.decode(new ByteArrayInputStream(trailing)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.trendflow.keyword.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 임베디드 H2 두 개를 프라이머리 / 레플리카로 두고 라우팅 확인
+class ReplicationRoutingDataSourceTest {
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+    private static ReplicaLagMonitor replicaLagMonitor;
+    private static SimpleMeterRegistry meterRegistry;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate writeTemplate;
+    private static TransactionTemplate readTemplate;
+    private static TransactionTemplate newWriteTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        primary = createPool(ReplicationRoutingDataSource.PRIMARY);
+        replica = createPool(ReplicationRoutingDataSource.REPLICA);
+        replicaLagMonitor = new ReplicaLagMonitor(null, 5);
+        meterRegistry = new SimpleMeterRegistry();
+
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(primary, replica, replicaLagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        newWriteTemplate = new TransactionTemplate(transactionManager);
+        newWriteTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    private static HikariDataSource createPool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        new JdbcTemplate(dataSource).execute("CREATE TABLE db_role (name VARCHAR(10))");
+        new JdbcTemplate(dataSource).update("INSERT INTO db_role VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String findRole(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    @Test
+    void routeByReadOnly() {
+        replicaLagMonitor.update(0L);
+
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, findRole(writeTemplate));
+        assertEquals(ReplicationRoutingDataSource.REPLICA, findRole(readTemplate));
+        // 트랜잭션 밖은 프라이머리
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    @Test
+    void fallbackToPrimaryOnLag() {
+        replicaLagMonitor.update(60L);
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, findRole(readTemplate));
+        assertEquals(1.0, meterRegistry.get("datasource.route").tag("target", "fallback").counter().count());
+
+        replicaLagMonitor.update(null);
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, findRole(readTemplate));
+
+        replicaLagMonitor.update(1L);
+        assertEquals(ReplicationRoutingDataSource.REPLICA, findRole(readTemplate));
+    }
+
+    // 읽기 전용 트랜잭션 안에서 쓰기가 필요하면 REQUIRES_NEW 로 분리 : 새 트랜잭션은 프라이머리
+    @Test
+    void requiresNewInsideReadOnlyRoutesToPrimary() {
+        replicaLagMonitor.update(0L);
+
+        String role = readTemplate.execute(status -> {
+            String inner = findRole(newWriteTemplate);
+            assertEquals(ReplicationRoutingDataSource.REPLICA, jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+            return inner;
+        });
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, role);
+    }
+}
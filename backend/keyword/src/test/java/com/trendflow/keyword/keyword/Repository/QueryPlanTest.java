@@ -0,0 +1,117 @@
+package com.trendflow.keyword.keyword.Repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// 마이그레이션을 적용한 MySQL 에서 조회 쿼리마다 EXPLAIN 을 실행해 풀 스캔(type = ALL)이 없는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+    private static final Pattern PARAM = Pattern.compile(":(\\w+)");
+    private static final Map<String, String> SAMPLE_MAP = new HashMap<>();
+
+    static {
+        SAMPLE_MAP.put("keyword", "'k1'");
+        SAMPLE_MAP.put("startDate", "20230201");
+        SAMPLE_MAP.put("fromDate", "20230201");
+        SAMPLE_MAP.put("endDate", "20230207");
+        SAMPLE_MAP.put("toDate", "20230207");
+        SAMPLE_MAP.put("cursorDate", "20230207");
+        SAMPLE_MAP.put("cursorId", "1000");
+        SAMPLE_MAP.put("regDt", "20230201");
+        SAMPLE_MAP.put("limit", "10");
+        SAMPLE_MAP.put("offset", "0");
+        SAMPLE_MAP.put("codeList", "'SU100', 'SU200'");
+    }
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+
+        // 옵티마이저가 작은 테이블이라고 풀 스캔을 고르지 않도록 두 달 치 데이터를 채움
+        Random random = new Random(0);
+        String[] platformList = { "SU100", "SU200", "SU300" };
+        List<Object[]> keywordList = new ArrayList<>();
+        List<Object[]> countList = new ArrayList<>();
+        List<Object[]> dailyList = new ArrayList<>();
+        for (int day = 0; day < 56; day++) {
+            int regDt = 20230101 + (day / 28) * 100 + day % 28;
+            for (int k = 0; k < 200; k++) {
+                String keyword = "k" + k;
+                countList.add(new Object[]{ keyword, regDt, random.nextInt(100) + 1 });
+                dailyList.add(new Object[]{ keyword, platformList[k % 3], regDt, random.nextInt(100) + 1 });
+            }
+            for (int source = 0; source < 100; source++) {
+                long sourceId = day * 100L + source;
+                for (int k = 0; k < 5; k++) {
+                    keywordList.add(new Object[]{ sourceId, platformList[source % 3], "k" + random.nextInt(200), random.nextInt(10) + 1, regDt });
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO keyword (source_id, platform_code, keyword, count, reg_dt) VALUES (?, ?, ?, ?, ?)", keywordList);
+        jdbcTemplate.batchUpdate("INSERT INTO keyword_count (keyword, reg_dt, count) VALUES (?, ?, ?)", countList);
+        jdbcTemplate.batchUpdate("INSERT INTO keyword_platform_daily (keyword, platform_code, reg_dt, count) VALUES (?, ?, ?, ?)", dailyList);
+        jdbcTemplate.execute("INSERT INTO keyword_platform_weekly (keyword, platform_code, week_dt, count) " +
+                "SELECT keyword, platform_code, MIN(reg_dt), SUM(count) FROM keyword_platform_daily GROUP BY keyword, platform_code, reg_dt DIV 7");
+        jdbcTemplate.execute("ANALYZE TABLE keyword, keyword_count, keyword_platform_daily, keyword_platform_weekly");
+    }
+
+    static Stream<Method> queryList() {
+        return Stream.of(KeywordRepository.class, KeywordPlatformDailyRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(Query.class) && !method.isAnnotationPresent(Modifying.class));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryList")
+    void noFullScan(Method method) {
+        String sql = toSql(method.getAnnotation(Query.class).value());
+        List<Map<String, Object>> planList = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        for (Map<String, Object> plan : planList) {
+            assertNotEquals("ALL", plan.get("type"), method.getName() + " : full scan on " + plan.get("table"));
+        }
+    }
+
+    private static String toSql(String query) {
+        Matcher matcher = PARAM.matcher(query.trim().replaceAll(";$", ""));
+        StringBuffer sql = new StringBuffer();
+        while (matcher.find()) {
+            String value = SAMPLE_MAP.get(matcher.group(1));
+            assertNotNull(value, "no sample value for :" + matcher.group(1));
+            matcher.appendReplacement(sql, value);
+        }
+        matcher.appendTail(sql);
+        return sql.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.trendflow.keyword.keyword.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void noFalseNegativeTest() {
+        BloomFilter bloomFilter = BloomFilter.create(10000, 0.01);
+        for (int i = 0; i < 10000; i++) bloomFilter.put("키워드" + i);
+
+        for (int i = 0; i < 10000; i++) assertTrue(bloomFilter.mightContain("키워드" + i));
+        // 정규화된 값 기준
+        assertTrue(bloomFilter.mightContain("  키워드1 "));
+
+        int falsePositive = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain("없는" + i)) falsePositive++;
+        }
+        assertTrue(falsePositive < 200);
+        assertTrue(bloomFilter.expectedFpp() < 0.02);
+    }
+
+    // DB (utf8mb4_0900_ai_ci) 가 같다고 보는 키워드는 필터도 통과
+    @Test
+    void collationFoldTest() {
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.01);
+        bloomFilter.put("Café");
+        bloomFilter.put("ＡＢＣ");
+        bloomFilter.put("straße");
+
+        assertTrue(bloomFilter.mightContain("cafe"));
+        assertTrue(bloomFilter.mightContain("CAFÉ"));
+        assertTrue(bloomFilter.mightContain("abc"));
+        assertTrue(bloomFilter.mightContain("STRASSE"));
+        assertEquals("삼성 전자", BloomFilter.fold(" 삼성\t 전자 "));
+    }
+
+    @Test
+    void bytesRoundTripTest() {
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.01);
+        bloomFilter.put("삼성전자");
+
+        BloomFilter copy = BloomFilter.fromBytes(bloomFilter.toBytes(), bloomFilter.getHashCount(), bloomFilter.size());
+        assertTrue(copy.mightContain("삼성전자"));
+        assertEquals(copy.memory(), bloomFilter.memory());
+    }
+}
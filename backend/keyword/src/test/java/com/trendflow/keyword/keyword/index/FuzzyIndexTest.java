@@ -0,0 +1,84 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuzzyIndexTest {
+
+    @Test
+    void searchByJamoDistanceTest() {
+        FuzzyIndex fuzzyIndex = new FuzzyIndex();
+        fuzzyIndex.add("삼성전자", 30L);
+        fuzzyIndex.add("삼성전기", 10L);
+        fuzzyIndex.add("닭갈비", 7L);
+
+        // 받침 하나 오타 (섬 -> 성)
+        assertEquals(keywordList(fuzzyIndex.search("삼섬전자", 1, 10)), Arrays.asList("삼성전자"));
+        // 띄어쓰기 차이는 거리 0
+        assertEquals(fuzzyIndex.search("삼성 전자", 0, 10).get(0).getDistance(), 0);
+        // 같은 거리면 가중치 순
+        assertEquals(keywordList(fuzzyIndex.search("삼성전", 2, 10)), Arrays.asList("삼성전자", "삼성전기"));
+        assertTrue(fuzzyIndex.search("트렌드", 2, 10).isEmpty());
+    }
+
+    @Test
+    void exactMatchBehindPrunedSubtreeTest() {
+        FuzzyIndex fuzzyIndex = new FuzzyIndex();
+        fuzzyIndex.add("aaaa", 1L);
+        fuzzyIndex.add("bbbb", 1L);
+
+        assertEquals(keywordList(fuzzyIndex.search("bbbb", 0, 10)), Arrays.asList("bbbb"));
+    }
+
+    @Test
+    void sameAsBruteForceTest() {
+        Random random = new Random(0);
+        String[] syllableList = { "가", "각", "간", "나", "남", "다", "닭", "라", "삼", "성", "전", "자" };
+        List<String> keywordList = new ArrayList<>();
+        FuzzyIndex fuzzyIndex = new FuzzyIndex();
+        for (int i = 0; i < 500; i++) {
+            StringBuilder keyword = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int j = 0; j < length; j++) keyword.append(syllableList[random.nextInt(syllableList.length)]);
+            if (!keywordList.contains(keyword.toString())) keywordList.add(keyword.toString());
+            fuzzyIndex.add(keyword.toString(), 1L);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String query = keywordList.get(random.nextInt(keywordList.size()));
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                String key = FuzzyIndex.toKey(query);
+                int bound = maxDistance;
+                Set<String> expected = keywordList.stream()
+                        .filter(keyword -> FuzzyIndex.distance(key, FuzzyIndex.toKey(keyword)) <= bound)
+                        .collect(Collectors.toSet());
+
+                assertEquals(expected, new HashSet<>(keywordList(fuzzyIndex.search(query, maxDistance, Integer.MAX_VALUE))),
+                        query + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    void boundedDistanceTest() {
+        assertEquals(FuzzyIndex.distance("kitten", "sitting", 10), 3);
+        assertEquals(FuzzyIndex.distance("kitten", "sitting", 1), 2);
+        assertEquals(FuzzyIndex.distance("", "abc", 10), 3);
+    }
+
+    private List<String> keywordList(List<WeightedKeyword> weightedKeywordList) {
+        return weightedKeywordList.stream()
+                .map(WeightedKeyword::getKeyword)
+                .collect(Collectors.toList());
+    }
+}
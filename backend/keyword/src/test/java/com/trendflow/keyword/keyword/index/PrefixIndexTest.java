@@ -0,0 +1,48 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void searchByJamoPrefixTest() {
+        PrefixIndex prefixIndex = new PrefixIndex(10);
+        prefixIndex.add("삼성전자", 30L);
+        prefixIndex.add("삼성", 50L);
+        prefixIndex.add("사마귀", 5L);
+        prefixIndex.add("닭갈비", 7L);
+
+        assertEquals(keywordList(prefixIndex.search("삼성", 10)), Arrays.asList("삼성", "삼성전자"));
+        // 받침까지 입력 중인 상태 (삼 -> ㅅㅏㅁ) 는 "사마귀" 도 포함
+        assertEquals(keywordList(prefixIndex.search("삼", 10)), Arrays.asList("삼성", "삼성전자", "사마귀"));
+        // 겹받침 입력 중 ("달" -> "닭")
+        assertEquals(keywordList(prefixIndex.search("달", 10)), Arrays.asList("닭갈비"));
+        assertTrue(prefixIndex.search("없는", 10).isEmpty());
+    }
+
+    @Test
+    void incrementalWeightTest() {
+        PrefixIndex prefixIndex = new PrefixIndex(2);
+        prefixIndex.add("트렌드", 10L);
+        prefixIndex.add("트위터", 5L);
+        prefixIndex.add("트럭", 1L);
+        assertEquals(keywordList(prefixIndex.search("트", 10)), Arrays.asList("트렌드", "트위터"));
+
+        prefixIndex.add("트럭", 20L);
+        assertEquals(keywordList(prefixIndex.search("트", 10)), Arrays.asList("트럭", "트렌드"));
+        assertEquals(prefixIndex.search("트럭", 1).get(0).getCount(), 21L);
+    }
+
+    private List<String> keywordList(List<WeightedKeyword> weightedKeywordList) {
+        return weightedKeywordList.stream()
+                .map(WeightedKeyword::getKeyword)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,148 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.WeightedKeyword;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceIndexTest {
+
+    @Test
+    void findTest() {
+        SourceIndex sourceIndex = new SourceIndex(20230101);
+        sourceIndex.add("삼성전자", 20230201, 1L, 1L);
+        sourceIndex.add("삼성전자", 20230201, 2L, 1L);
+        sourceIndex.add("삼성전자", 20230202, 3L, 1L);
+        sourceIndex.add("삼성전자", 20230203, 4L, 1L);
+
+        assertArrayEquals(new int[]{ 1, 2, 3 }, sourceIndex.find("삼성전자", 20230201, 20230202).toArray());
+        assertTrue(sourceIndex.find("없는", 20230201, 20230202).isEmpty());
+        assertTrue(sourceIndex.covers(20230101, 20230203));
+        assertFalse(sourceIndex.covers(20221231, 20230203));
+        // 색인된 가장 최근 날짜 이후는 알 수 없음
+        assertFalse(sourceIndex.covers(20230101, 20230204));
+
+        // 32bit 를 넘는 소스 id 는 색인할 수 없으므로 DB 로 대체하도록 함
+        sourceIndex.add("삼성전자", 20230201, 1L << 33, 1L);
+        assertFalse(sourceIndex.covers(20230101, 20230203));
+    }
+
+    @Test
+    void relatedTest() {
+        SourceIndex sourceIndex = new SourceIndex(20230101);
+        for (long sourceId = 1; sourceId <= 10; sourceId++) sourceIndex.add("삼성전자", 20230201, sourceId, 1L);
+        for (long sourceId = 1; sourceId <= 4; sourceId++) sourceIndex.add("반도체", 20230201, sourceId, 1L);
+        for (long sourceId = 5; sourceId <= 20; sourceId++) sourceIndex.add("주가", 20230201, sourceId, 1L);
+        // 다른 날짜의 같은 소스 id 는 세지 않음
+        for (long sourceId = 1; sourceId <= 10; sourceId++) sourceIndex.add("날씨", 20230202, sourceId, 1L);
+
+        List<WeightedKeyword> relatedList = sourceIndex.related("삼성전자", 20230201, 20230202, 3);
+        assertEquals(3, relatedList.size());
+        assertEquals("삼성전자", relatedList.get(0).getKeyword());
+        assertEquals(10L, relatedList.get(0).getCount());
+        assertEquals("주가", relatedList.get(1).getKeyword());
+        assertEquals(6L, relatedList.get(1).getCount());
+        assertEquals("반도체", relatedList.get(2).getKeyword());
+        assertEquals(4L, relatedList.get(2).getCount());
+    }
+
+    @Test
+    void relatedMatchesBruteForceTest() {
+        // 후보 가지치기 결과가 모든 키워드에 대해 SQL 처럼 직접 합한 결과와 같아야 함 (같은 수끼리 순서는 무관)
+        // 언급 횟수는 수집 이벤트로 나눠서 더하고, 일부는 DB 에서 읽은 합계로 다시 덮어씀
+        Random random = new Random(42);
+        SourceIndex sourceIndex = new SourceIndex(20230101);
+        Map<String, Map<Integer, Map<Long, Long>>> countMap = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String keyword = "k" + random.nextInt(200);
+            int regDt = 20230201 + random.nextInt(5);
+            long sourceId = random.nextInt(300);
+            long count = 1 + (random.nextInt(4) == 0 ? random.nextInt(20) : 0);
+            Map<Long, Long> sourceCount = countMap.computeIfAbsent(keyword, k -> new HashMap<>()).computeIfAbsent(regDt, k -> new HashMap<>());
+            if (random.nextInt(5) == 0) {
+                long total = count + random.nextInt(3);
+                sourceIndex.put(keyword, regDt, sourceId, total);
+                sourceCount.put(sourceId, total);
+            } else {
+                sourceIndex.add(keyword, regDt, sourceId, count);
+                sourceCount.merge(sourceId, count, Long::sum);
+            }
+        }
+
+        Map<Integer, Map<Long, Long>> target = countMap.get("k0");
+        List<Long> expected = new ArrayList<>();
+        for (Map<Integer, Map<Long, Long>> other : countMap.values()) {
+            long sum = 0;
+            for (int regDt = 20230202; regDt <= 20230204; regDt++) {
+                Set<Long> targetSet = target.getOrDefault(regDt, Collections.emptyMap()).keySet();
+                for (Map.Entry<Long, Long> source : other.getOrDefault(regDt, Collections.emptyMap()).entrySet()) {
+                    if (targetSet.contains(source.getKey())) sum += source.getValue();
+                }
+            }
+            if (sum > 0) expected.add(sum);
+        }
+        expected.sort(Comparator.reverseOrder());
+
+        List<Long> actual = sourceIndex.related("k0", 20230202, 20230204, 10).stream()
+                .map(WeightedKeyword::getCount)
+                .collect(Collectors.toList());
+        assertEquals(expected.subList(0, 10), actual);
+        assertTrue(sourceIndex.related("k0", 20230202, 20230204, 0).isEmpty());
+    }
+
+    @Test
+    void foldTest() {
+        // DB 의 utf8mb4_0900_ai_ci 와 같이 대소문자, 악센트, 전각이 달라도 같은 키워드
+        SourceIndex sourceIndex = new SourceIndex(20230101);
+        sourceIndex.add("Café", 20230201, 1L, 2L);
+        sourceIndex.add("CAFE", 20230201, 2L, 1L);
+        sourceIndex.add("ｃａｆｅ", 20230201, 1L, 3L);
+
+        assertArrayEquals(new int[]{ 1, 2 }, sourceIndex.find("cafe", 20230201, 20230201).toArray());
+        List<WeightedKeyword> relatedList = sourceIndex.related("CAFÉ", 20230201, 20230201, 10);
+        assertEquals(1, relatedList.size());
+        // 처음 들어온 표기로 표시
+        assertEquals("Café", relatedList.get(0).getKeyword());
+        assertEquals(6L, relatedList.get(0).getCount());
+    }
+
+    @Test
+    void snapshotTest(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("source-index.bin");
+        SourceIndex sourceIndex = new SourceIndex(20230101);
+        for (long sourceId = 0; sourceId < 100000; sourceId += 3) sourceIndex.add("삼성전자", 20230201, sourceId, 1L);
+        sourceIndex.add("삼성전자", 20221201, 7L, 1L);
+        sourceIndex.add("반도체", 20230205, 4000000000L, 1L);
+        sourceIndex.add("반도체", 20230205, 3L, 5L);
+
+        sourceIndex.snapshot(path, 20230101);
+        // 스냅샷 이후 추가는 메모리 맵 비트맵을 복사해서 반영
+        sourceIndex.add("삼성전자", 20230201, 1L, 1L);
+        assertEquals(33335, sourceIndex.find("삼성전자", 20230201, 20230201).getCardinality());
+        assertTrue(sourceIndex.find("삼성전자", 20221201, 20221231).isEmpty());
+
+        SourceIndex loaded = SourceIndex.load(path);
+        assertEquals(20230101, loaded.getSince());
+        assertEquals(2, loaded.size());
+        assertEquals(33334, loaded.find("삼성전자", 20230101, 20231231).getCardinality());
+        assertEquals(4000000000L, Integer.toUnsignedLong(loaded.find("반도체", 20230205, 20230205).last()));
+        // 언급 횟수 슬라이스도 함께 읽음
+        assertEquals(6L, loaded.related("반도체", 20230205, 20230205, 1).get(0).getCount());
+        loaded.add("반도체", 20230205, 3L, 2L);
+        assertEquals(8L, loaded.related("반도체", 20230205, 20230205, 1).get(0).getCount());
+    }
+}
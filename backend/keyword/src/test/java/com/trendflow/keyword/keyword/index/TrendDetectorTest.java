@@ -0,0 +1,56 @@
+package com.trendflow.keyword.keyword.index;
+
+import com.trendflow.keyword.keyword.dto.vo.TrendKeyword;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendDetectorTest {
+
+    @Test
+    void burstOverSteadyTest() {
+        TrendDetector trendDetector = new TrendDetector(0.3, 3, 10);
+        for (long bucket = 0; bucket < 10; bucket++) {
+            trendDetector.add("날씨", bucket, 1000);
+            trendDetector.add("급상승", bucket, 20);
+        }
+        trendDetector.add("날씨", 10, 1000);
+        trendDetector.add("급상승", 10, 400);
+
+        List<TrendKeyword> trendKeywordList = trendDetector.top(10, 10);
+        // 꾸준히 많은 키워드보다 평소 대비 급증한 키워드가 위
+        assertEquals(trendKeywordList.size(), 1);
+        assertEquals(trendKeywordList.get(0).getKeyword(), "급상승");
+        assertEquals(trendKeywordList.get(0).getCount(), 400L);
+    }
+
+    @Test
+    void warmupAndGapTest() {
+        TrendDetector trendDetector = new TrendDetector(0.3, 3, 10);
+        // 처음 본 키워드는 warmup 전까지 제외
+        trendDetector.add("신규", 0, 500);
+        assertTrue(trendDetector.top(0, 10).isEmpty());
+
+        // 빈 버킷은 0 으로 반영되어 warmup 을 채움
+        trendDetector.add("신규", 5, 500);
+        assertEquals(trendDetector.top(5, 10).size(), 1);
+        // 지난 버킷 값은 무시
+        trendDetector.add("신규", 4, 500);
+        assertEquals(trendDetector.top(5, 10).get(0).getCount(), 500L);
+        assertTrue(trendDetector.top(6, 10).isEmpty());
+    }
+
+    @Test
+    void topOrderTest() {
+        TrendDetector trendDetector = new TrendDetector(0.3, 1, 1);
+        for (int i = 0; i < 30; i++) {
+            trendDetector.add("k" + i, 0, 10);
+            trendDetector.add("k" + i, 1, 10 + i * 10);
+        }
+        List<TrendKeyword> trendKeywordList = trendDetector.top(1, 5);
+        assertEquals(trendKeywordList.size(), 5);
+        for (int i = 0; i < 5; i++) assertEquals(trendKeywordList.get(i).getKeyword(), "k" + (29 - i));
+    }
+}
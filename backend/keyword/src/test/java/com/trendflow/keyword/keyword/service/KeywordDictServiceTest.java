@@ -0,0 +1,53 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordDictRepository;
+import com.trendflow.keyword.keyword.entity.KeywordDict;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class KeywordDictServiceTest {
+
+    @Test
+    void readPathDoesNotTouchDbTest() {
+        KeywordDictRepository keywordDictRepository = mock(KeywordDictRepository.class);
+        when(keywordDictRepository.findAll()).thenReturn(Arrays.asList(new KeywordDict(1, "삼성"), new KeywordDict(2, "애플")));
+        KeywordDictService keywordDictService = new KeywordDictService(keywordDictRepository, mock(PlatformTransactionManager.class));
+        keywordDictService.preload();
+
+        int[] idList = keywordDictService.getIdList(Arrays.asList("삼성", " 애플 ", "새키워드", "새키워드"));
+
+        assertEquals(1, idList[0]);
+        assertEquals(2, idList[1]);
+        // 사전에 없는 키워드는 같은 임시 id
+        assertTrue(idList[2] < KeywordDictService.NONE);
+        assertEquals(idList[2], idList[3]);
+        verify(keywordDictRepository, never()).findByKeyword(any());
+        verify(keywordDictRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void registerPendingReplacesTemporaryIdTest() {
+        KeywordDictRepository keywordDictRepository = mock(KeywordDictRepository.class);
+        when(keywordDictRepository.findByKeyword("새키워드")).thenReturn(Optional.empty());
+        when(keywordDictRepository.saveAndFlush(any())).thenReturn(new KeywordDict(7, "새키워드"));
+        KeywordDictService keywordDictService = new KeywordDictService(keywordDictRepository, mock(PlatformTransactionManager.class));
+
+        int pendingId = keywordDictService.getId("새키워드");
+        keywordDictService.registerPending();
+
+        assertNotEquals(pendingId, keywordDictService.getId("새키워드"));
+        assertEquals(7, keywordDictService.getId("새키워드"));
+        assertEquals("새키워드", keywordDictService.getKeyword(7));
+        assertNull(keywordDictService.getKeyword(pendingId));
+        // 등록이 끝나면 다시 등록하지 않음
+        keywordDictService.registerPending();
+        verify(keywordDictRepository, times(1)).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,36 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class KeywordFilterServiceTest {
+
+    @Test
+    void rebuildKeepsKeywordAddedDuringQueryTest() {
+        KeywordRepository keywordRepository = mock(KeywordRepository.class);
+        KeywordFilterService keywordFilterService = new KeywordFilterService(keywordRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(keywordFilterService, "fpp", 0.01);
+        ReflectionTestUtils.setField(keywordFilterService, "headroom", 1.2);
+
+        // 조회 결과에는 없고 조회 도중 수집된 키워드
+        when(keywordRepository.findDistinctKeyword()).thenAnswer(invocation -> {
+            keywordFilterService.add("조회중수집");
+            return Arrays.asList("삼성전자", "반도체");
+        });
+        keywordFilterService.rebuild();
+
+        assertTrue(keywordFilterService.mightContain("삼성전자"));
+        assertTrue(keywordFilterService.mightContain("조회중수집"));
+
+        // 재생성이 끝난 뒤 수집된 키워드는 현재 필터에 바로 반영
+        keywordFilterService.add("재생성후수집");
+        assertTrue(keywordFilterService.mightContain("재생성후수집"));
+    }
+}
@@ -0,0 +1,146 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendflow.keyword.global.exception.NotFoundException;
+import com.trendflow.keyword.keyword.Repository.KeywordIngestRepository;
+import com.trendflow.keyword.keyword.dto.response.IngestKeywordResponse;
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.event.KeywordIngestEvent;
+import com.trendflow.keyword.keyword.event.KeywordSourceEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class KeywordIngestServiceTest {
+    private static final String BODY =
+            "{\"sourceId\":1,\"platformCode\":\"SU200\",\"keyword\":\"삼성\",\"count\":2,\"regDt\":20230228}\n" +
+            "{\"sourceId\":1,\"platformCode\":\"SU100\",\"keyword\":\"삼성\",\"count\":1,\"regDt\":20230228}\n";
+
+    private final KeywordIngestRepository keywordIngestRepository = mock(KeywordIngestRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+    private final KeywordIngestService keywordIngestService = newService();
+
+    @Test
+    void oneTransactionPerRequestTest() {
+        // flush-size 1 : 중간 반영이 여러 번 일어나도 트랜잭션은 하나
+        ReflectionTestUtils.setField(keywordIngestService, "flushSize", 1);
+
+        IngestKeywordResponse ingestKeywordResponse = keywordIngestService.ingestJson("batch-1", body(BODY), false);
+
+        assertEquals(2L, ingestKeywordResponse.getTuples());
+        assertEquals(2L, ingestKeywordResponse.getRows());
+        assertFalse(ingestKeywordResponse.getReplayed());
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(keywordIngestRepository, times(2)).upsertKeyword(anyList());
+        verify(keywordIngestRepository).updateBatch("batch-1", 2L, 2L);
+    }
+
+    @Test
+    void invalidInputRollsBackTest() {
+        String body = BODY + "{\"sourceId\":2,\"keyword\":\"애플\"}\n";
+
+        assertThrows(NotFoundException.class, () -> keywordIngestService.ingestJson("batch-1", body(body), false));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void sameIngestIdIsNotIngestedTwiceTest() {
+        doThrow(new DuplicateKeyException("batch-1")).when(keywordIngestRepository).insertBatch("batch-1");
+        when(keywordIngestRepository.findBatch("batch-1")).thenReturn(Optional.of(IngestKeywordResponse.builder()
+                .tuples(2L)
+                .rows(2L)
+                .replayed(true)
+                .build()));
+
+        IngestKeywordResponse ingestKeywordResponse = keywordIngestService.ingestJson("batch-1", body(BODY), false);
+
+        assertTrue(ingestKeywordResponse.getReplayed());
+        assertEquals(2L, ingestKeywordResponse.getRows());
+        verify(keywordIngestRepository, never()).upsertKeyword(anyList());
+    }
+
+    @Test
+    void eventsArePublishedOncePerRequestTest() {
+        // 중간 반영마다가 아니라 요청 단위로 합쳐서 한 번
+        ReflectionTestUtils.setField(keywordIngestService, "flushSize", 1);
+        String body = BODY + "{\"sourceId\":2,\"platformCode\":\"SU200\",\"keyword\":\"삼성\",\"count\":3,\"regDt\":20230228}\n";
+
+        keywordIngestService.ingestJson(null, body(body), false);
+        KeywordIngestEvent ingestEvent = published(KeywordIngestEvent.class);
+        KeywordSourceEvent sourceEvent = published(KeywordSourceEvent.class);
+
+        assertFalse(ingestEvent.isRebuild());
+        Map<String, Long> dailyMap = ingestEvent.getKeywordList().stream()
+                .collect(Collectors.toMap(KeywordIngest::getPlatformCode, KeywordIngest::getCount));
+        assertEquals(5L, dailyMap.get("SU200"));
+        assertEquals(1L, dailyMap.get("SU100"));
+
+        assertFalse(sourceEvent.isReload());
+        assertEquals(3, sourceEvent.getKeywordList().size());
+    }
+
+    @Test
+    void largeRequestPublishesReloadTest() {
+        // event-size 를 넘으면 행 목록을 들고 있지 않고 커밋 후 다시 읽을 범위만 넘김
+        ReflectionTestUtils.setField(keywordIngestService, "flushSize", 1);
+        ReflectionTestUtils.setField(keywordIngestService, "eventSize", 1);
+
+        keywordIngestService.ingestJson(null, body(BODY), false);
+        KeywordIngestEvent ingestEvent = published(KeywordIngestEvent.class);
+        KeywordSourceEvent sourceEvent = published(KeywordSourceEvent.class);
+
+        assertTrue(ingestEvent.isRebuild());
+        assertTrue(ingestEvent.getKeywordList().isEmpty());
+
+        assertTrue(sourceEvent.isReload());
+        assertEquals(20230228, sourceEvent.getReloadStart());
+        assertEquals(20230228, sourceEvent.getReloadEnd());
+        assertTrue(sourceEvent.getKeywordList().isEmpty());
+    }
+
+    // 종류별로 한 번만 발행됐어야 함
+    private <T> T published(Class<T> type) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        List<T> eventList = captor.getAllValues().stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .collect(Collectors.toList());
+        assertEquals(1, eventList.size());
+        return eventList.get(0);
+    }
+
+    private KeywordIngestService newService() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        KeywordIngestService keywordIngestService = new KeywordIngestService(keywordIngestRepository,
+                new TransactionTemplate(transactionManager), applicationEventPublisher, new ObjectMapper());
+        ReflectionTestUtils.setField(keywordIngestService, "flushSize", 200000);
+        ReflectionTestUtils.setField(keywordIngestService, "eventSize", 200000);
+        return keywordIngestService;
+    }
+
+    private static InputStream body(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.trendflow.keyword.keyword.service;
+
+import com.trendflow.keyword.global.redis.CacheLockRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordPlatformDailyRepository;
+import com.trendflow.keyword.keyword.Repository.KeywordRepository;
+import com.trendflow.keyword.keyword.Repository.PartitionRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class KeywordPartitionServiceTest {
+
+    @Test
+    void findMissingMonthFromMigratedLayoutTest() {
+        // V7__keyword_partition.sql 직후 : p202301 ~ p202312, pmax
+        List<YearMonth> monthList = KeywordPartitionService.findMissingMonth(migratedLayout(), YearMonth.of(2027, 1));
+
+        assertEquals(37, monthList.size());
+        assertEquals(YearMonth.of(2024, 1), monthList.get(0));
+        assertEquals(YearMonth.of(2027, 1), monthList.get(monthList.size() - 1));
+        for (int i = 1; i < monthList.size(); i++) assertEquals(monthList.get(i - 1).plusMonths(1), monthList.get(i));
+
+        // 이미 만들어져 있으면 없음
+        assertTrue(KeywordPartitionService.findMissingMonth(migratedLayout(), YearMonth.of(2023, 12)).isEmpty());
+    }
+
+    @Test
+    void maintainSplitsEveryMonthInOrderTest() {
+        PartitionRepository partitionRepository = mock(PartitionRepository.class);
+        KeywordRepository keywordRepository = mock(KeywordRepository.class);
+        CacheLockRepository cacheLockRepository = mock(CacheLockRepository.class);
+        when(cacheLockRepository.tryLock(anyString(), anyInt())).thenReturn(Optional.of("token"));
+        when(partitionRepository.findPartitionMap(anyString())).thenReturn(migratedLayout());
+        // 데이터가 없으면 삭제, 압축 없이 파티션만 추가
+        when(keywordRepository.findMaxRegDt()).thenReturn(null);
+
+        KeywordPartitionService keywordPartitionService = new KeywordPartitionService(partitionRepository,
+                mock(KeywordPlatformDailyRepository.class), keywordRepository, cacheLockRepository, mock(TransactionTemplate.class));
+        ReflectionTestUtils.setField(keywordPartitionService, "aheadMonths", 3);
+        ReflectionTestUtils.setField(keywordPartitionService, "retentionMonths", 0);
+        keywordPartitionService.maintain();
+
+        YearMonth until = YearMonth.now().plusMonths(3);
+        InOrder inOrder = inOrder(partitionRepository);
+        for (YearMonth month = YearMonth.of(2024, 1); !month.isAfter(until); month = month.plusMonths(1)) {
+            YearMonth next = month.plusMonths(1);
+            inOrder.verify(partitionRepository).addPartition("keyword", String.format("p%04d%02d", month.getYear(), month.getMonthValue()),
+                    next.getYear() * 10000 + next.getMonthValue() * 100 + 1);
+        }
+        verify(partitionRepository, never()).dropPartition(anyString(), anyString());
+    }
+
+    @Test
+    void downsampleRollsUpMissingDaysFirstTest() {
+        KeywordPlatformDailyRepository keywordPlatformDailyRepository = mock(KeywordPlatformDailyRepository.class);
+        KeywordRepository keywordRepository = mock(KeywordRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // 원본은 2024-01-01 부터, 2024-01-02 만 재집계됨, 압축한 적 없음
+        when(keywordRepository.findMinRegDt()).thenReturn(20240101);
+        when(keywordPlatformDailyRepository.findMaxWeekDt()).thenReturn(null);
+        when(keywordPlatformDailyRepository.findRollupRegDt(20240101, 20240107)).thenReturn(Collections.singletonList(20240102));
+
+        KeywordPartitionService keywordPartitionService = new KeywordPartitionService(mock(PartitionRepository.class),
+                keywordPlatformDailyRepository, keywordRepository, mock(CacheLockRepository.class), transactionTemplate);
+        ReflectionTestUtils.setField(keywordPartitionService, "downsampleDays", 7);
+        // 2024-01-15 (월) - 7일 = 2024-01-08 (월) 이 기준일
+        keywordPartitionService.downsample(LocalDate.of(2024, 1, 15));
+
+        InOrder inOrder = inOrder(keywordPlatformDailyRepository);
+        for (int regDt = 20240101; regDt <= 20240107; regDt++) {
+            if (regDt == 20240102) continue;
+            inOrder.verify(keywordPlatformDailyRepository).aggregateByRegDt(regDt);
+            inOrder.verify(keywordPlatformDailyRepository).markRollup(regDt);
+        }
+        inOrder.verify(keywordPlatformDailyRepository).downsampleBefore(20240108);
+        inOrder.verify(keywordPlatformDailyRepository).deleteByRegDtBefore(20240108);
+        verify(keywordPlatformDailyRepository, never()).aggregateByRegDt(20240102);
+    }
+
+    private static Map<String, String> migratedLayout() {
+        Map<String, String> partitionMap = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            YearMonth next = YearMonth.of(2023, month).plusMonths(1);
+            partitionMap.put(String.format("p2023%02d", month), String.valueOf(next.getYear() * 10000 + next.getMonthValue() * 100 + 1));
+        }
+        partitionMap.put(PartitionRepository.MAX_PARTITION, "MAXVALUE");
+        return partitionMap;
+    }
+}
@@ -0,0 +1,221 @@
+package com.trendflow.keyword.keyword.stream;
+
+import com.trendflow.keyword.keyword.Repository.KeywordIngestRepository;
+import com.trendflow.keyword.keyword.dto.vo.KeywordIngest;
+import com.trendflow.keyword.keyword.service.KeywordStreamService;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@EmbeddedKafka(partitions = 2, topics = { KeywordCountTopologyTest.TOPIC, KeywordCountTopologyTest.REPLAY_TOPIC }, brokerProperties = {
+        "transaction.state.log.replication.factor=1",
+        "transaction.state.log.min.isr=1"
+})
+class KeywordCountTopologyTest {
+    static final String TOPIC = "keyword-token";
+    static final String REPLAY_TOPIC = "keyword-token-replay";
+
+    private final int today = Integer.parseInt(LocalDate.now().toString().replace("-", ""));
+    private final String naver = KeywordIngestRepository.toStreamKey("삼성전자", "SU200", today);
+    private final String daum = KeywordIngestRepository.toStreamKey("삼성전자", "SU100", today);
+
+    // keyword_stream_count (GREATEST 로 갱신) 와 keyword_platform_daily 를 메모리로 대신하는 저장소
+    static class FakeStore {
+        private final Map<String, Long> streamCountMap = new HashMap<>();
+        private final Map<String, Long> dailyMap = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        KeywordIngestRepository repository() {
+            KeywordIngestRepository repository = mock(KeywordIngestRepository.class);
+            doAnswer(invocation -> {
+                Map<String, Long> countMap = new HashMap<>();
+                synchronized (this) {
+                    for (KeywordIngest keyword : (List<KeywordIngest>) invocation.getArgument(0)) {
+                        String key = toKey(keyword);
+                        if (streamCountMap.containsKey(key)) countMap.put(key, streamCountMap.get(key));
+                    }
+                }
+                return countMap;
+            }).when(repository).findStreamCountForUpdate(anyList());
+            doAnswer(invocation -> {
+                synchronized (this) {
+                    for (KeywordIngest keyword : (List<KeywordIngest>) invocation.getArgument(0)) {
+                        streamCountMap.merge(toKey(keyword), keyword.getCount(), Math::max);
+                    }
+                }
+                return null;
+            }).when(repository).upsertStreamCount(anyList());
+            doAnswer(invocation -> {
+                synchronized (this) {
+                    for (KeywordIngest keyword : (List<KeywordIngest>) invocation.getArgument(0)) {
+                        dailyMap.merge(toKey(keyword), keyword.getCount(), Long::sum);
+                    }
+                }
+                return null;
+            }).when(repository).upsertPlatformDaily(anyList());
+            return repository;
+        }
+
+        synchronized Map<String, Long> getDailyMap() {
+            return new HashMap<>(dailyMap);
+        }
+
+        synchronized Map<String, Long> getStreamCountMap() {
+            return new HashMap<>(streamCountMap);
+        }
+
+        private static String toKey(KeywordIngest keyword) {
+            return KeywordIngestRepository.toStreamKey(keyword.getKeyword(), keyword.getPlatformCode(), keyword.getRegDt());
+        }
+    }
+
+    // 싱크가 마지막으로 받은 누적 합계를 기록하고 KeywordStreamService 로 넘김
+    static class RecordingSink implements KeywordCountSink {
+        private final KeywordCountSink sink;
+        private final Map<String, Long> totalMap = new HashMap<>();
+
+        RecordingSink(KeywordCountSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void flush(List<KeywordIngest> totalList) {
+            sink.flush(totalList);
+            synchronized (this) {
+                for (KeywordIngest keyword : totalList) totalMap.put(FakeStore.toKey(keyword), keyword.getCount());
+            }
+        }
+
+        synchronized Map<String, Long> getTotalMap() {
+            return new HashMap<>(totalMap);
+        }
+    }
+
+    @Test
+    void windowedCountTest(EmbeddedKafkaBroker broker) throws Exception {
+        FakeStore store = new FakeStore();
+        KeywordCountSink sink = newSink(store);
+
+        try (KafkaStreams streams = newStreams(broker, TOPIC, "keyword-count-test", sink);
+             KafkaProducer<String, String> producer = newProducer(broker)) {
+            streams.start();
+            send(producer, TOPIC, 0, 50);
+
+            await(() -> store.getDailyMap().getOrDefault(naver, 0L) == 100L && store.getDailyMap().getOrDefault(daum, 0L) == 50L);
+
+            // 소스별로 키가 달라도 (날짜, 플랫폼, 키워드) 로 모여야 함
+            Map<String, Long> dailyMap = store.getDailyMap();
+            assertEquals(100L, dailyMap.get(naver));
+            assertEquals(50L, dailyMap.get(daum));
+            assertEquals(2, dailyMap.size());
+        }
+    }
+
+    @Test
+    void replayAfterRestartTest(EmbeddedKafkaBroker broker) throws Exception {
+        FakeStore store = new FakeStore();
+
+        try (KafkaProducer<String, String> producer = newProducer(broker)) {
+            send(producer, REPLAY_TOPIC, 0, 50);
+
+            try (KafkaStreams streams = newStreams(broker, REPLAY_TOPIC, "keyword-count-replay", newSink(store))) {
+                streams.start();
+                await(() -> store.getDailyMap().getOrDefault(naver, 0L) == 100L && store.getDailyMap().getOrDefault(daum, 0L) == 50L);
+            }
+            Map<String, Long> committedMap = store.getDailyMap();
+            assertEquals(100L, committedMap.get(naver));
+            assertEquals(50L, committedMap.get(daum));
+
+            // 상태 저장소와 오프셋을 잃고 다시 시작 : 처음부터 다시 읽어 이미 반영된 합계를 다시 싱크로 보냄
+            RecordingSink replaySink = new RecordingSink(newSink(store));
+            try (KafkaStreams streams = newStreams(broker, REPLAY_TOPIC, "keyword-count-replay-restart", replaySink)) {
+                streams.start();
+                await(() -> replaySink.getTotalMap().getOrDefault(naver, 0L) == 100L && replaySink.getTotalMap().getOrDefault(daum, 0L) == 50L);
+
+                // keyword_stream_count 보다 늘지 않은 합계는 반영하지 않음
+                assertEquals(committedMap, store.getDailyMap());
+                assertEquals(100L, store.getStreamCountMap().get(naver));
+                assertEquals(50L, store.getStreamCountMap().get(daum));
+
+                // 재시작 후 새로 들어온 만큼만 더해짐
+                send(producer, REPLAY_TOPIC, 50, 60);
+                await(() -> store.getDailyMap().getOrDefault(naver, 0L) == 120L && store.getDailyMap().getOrDefault(daum, 0L) == 60L);
+            }
+
+            Map<String, Long> dailyMap = store.getDailyMap();
+            assertEquals(120L, dailyMap.get(naver));
+            assertEquals(60L, dailyMap.get(daum));
+            assertEquals(2, dailyMap.size());
+        }
+    }
+
+    private static KeywordCountSink newSink(FakeStore store) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        return new KeywordStreamService(store.repository(), new TransactionTemplate(transactionManager), mock(ApplicationEventPublisher.class));
+    }
+
+    private static KafkaStreams newStreams(EmbeddedKafkaBroker broker, String topic, String applicationId, KeywordCountSink sink) throws IOException {
+        StreamsBuilder builder = new StreamsBuilder();
+        KeywordCountTopology.build(builder, topic, sink, Duration.ofMillis(200), 7);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(StreamsConfig.STATE_DIR_CONFIG, Files.createTempDirectory("kafka-streams").toString());
+        props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, StreamsConfig.EXACTLY_ONCE_V2);
+        props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, 100);
+        props.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, 1);
+        return new KafkaStreams(builder.build(), props);
+    }
+
+    private static KafkaProducer<String, String> newProducer(EmbeddedKafkaBroker broker) {
+        Properties producerProps = new Properties();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new KafkaProducer<>(producerProps);
+    }
+
+    // 소스마다 SU200 에 2 번, SU100 에 1 번 (count 생략)
+    private void send(KafkaProducer<String, String> producer, String topic, int from, int to) {
+        for (int sourceId = from; sourceId < to; sourceId++) {
+            producer.send(new ProducerRecord<>(topic, String.valueOf(sourceId), String.format(
+                    "{\"sourceId\":%d,\"platformCode\":\"SU200\",\"keyword\":\"삼성전자\",\"count\":2,\"regDt\":%d}", sourceId, today)));
+            producer.send(new ProducerRecord<>(topic, String.valueOf(sourceId), String.format(
+                    "{\"sourceId\":%d,\"platformCode\":\"SU100\",\"keyword\":\"삼성전자\",\"regDt\":%d}", sourceId, today)));
+        }
+        producer.flush();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60000;
+        while (System.currentTimeMillis() < deadline && !condition.getAsBoolean()) Thread.sleep(200);
+    }
+}
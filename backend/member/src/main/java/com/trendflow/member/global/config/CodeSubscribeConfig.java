@@ -0,0 +1,27 @@
+package com.trendflow.member.global.config;
+
+import com.trendflow.member.msa.service.CodeTableCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// common 서비스의 코드 변경 알림 구독
+@Configuration
+public class CodeSubscribeConfig {
+    @Value("${common.code.channel:common:code}")
+    private String codeChannel;
+
+    @Bean
+    public RedisMessageListenerContainer codeListenerContainer(
+            @Qualifier("redisCacheConnectionFactory") RedisConnectionFactory redisConnectionFactory,
+            CodeTableCache codeTableCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(codeTableCache, new ChannelTopic(codeChannel));
+        return container;
+    }
+}
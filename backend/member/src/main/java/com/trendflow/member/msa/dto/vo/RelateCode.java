@@ -0,0 +1,15 @@
+package com.trendflow.member.msa.dto.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RelateCode {
+    private String code;
+    private String platformCode;
+}
@@ -8,7 +8,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CommonService {
     private final CommonServiceClient commonServiceClient;
+    private final CodeTableCache codeTableCache;
+
     public LocalCode getLocalCode(String name){
-        return commonServiceClient.getLocalCode(name);
+        return codeTableCache.findLocalCode(name)
+                .orElseGet(() -> commonServiceClient.getLocalCode(name));
     }
 }
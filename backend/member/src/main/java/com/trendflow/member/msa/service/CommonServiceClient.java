@@ -1,12 +1,19 @@
 package com.trendflow.member.msa.service;
 
+import com.trendflow.member.msa.dto.vo.CodeTable;
 import com.trendflow.member.msa.dto.vo.LocalCode;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "COMMON")
 public interface CommonServiceClient {
+    // If-None-Match 가 현재 버전과 같으면 304 (FeignException)
+    @GetMapping("/common/code")
+    ResponseEntity<CodeTable> getCodeTable(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
     @GetMapping("/common/local/{name}")
     LocalCode getLocalCode(@PathVariable String name);
 }
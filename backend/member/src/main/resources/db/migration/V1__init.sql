@@ -0,0 +1,64 @@
+--
+-- 기준 스키마 (이미 운영 중인 DB 는 baseline 으로 건너뜀)
+--
+
+--
+-- Table structure for table `member`
+--
+
+CREATE TABLE IF NOT EXISTS `member` (
+  `member_id` bigint NOT NULL AUTO_INCREMENT,
+  `keyword` varchar(100) DEFAULT NULL,
+  `platform_code` varchar(10) NOT NULL,
+  `name` varchar(20) NOT NULL,
+  `email` varchar(100) DEFAULT NULL,
+  `gender` varchar(30) DEFAULT NULL,
+  `age` varchar(10) DEFAULT NULL,
+  `birthday` varchar(10) DEFAULT NULL,
+  `password` varchar(100) NOT NULL,
+  `reg_dt` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`member_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+--
+-- Table structure for table `login_log`
+--
+
+CREATE TABLE IF NOT EXISTS `login_log` (
+  `login_log_id` bigint NOT NULL AUTO_INCREMENT,
+  `member_id` bigint NOT NULL,
+  `id_address` varchar(50) NOT NULL,
+  `reg_dt` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`login_log_id`),
+  KEY `FK_LoginLog_Member_MemberId_idx` (`member_id`),
+  CONSTRAINT `FK_LoginLog_Member_MemberId` FOREIGN KEY (`member_id`) REFERENCES `member` (`member_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+--
+-- Table structure for table `role`
+--
+
+CREATE TABLE IF NOT EXISTS `role` (
+  `role_id` bigint NOT NULL AUTO_INCREMENT,
+  `member_id` bigint NOT NULL,
+  `role_code` varchar(10) NOT NULL,
+  `reg_dt` datetime DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`role_id`),
+  KEY `FK_Role_Member_MemberId_idx` (`member_id`),
+  CONSTRAINT `FK_Role_Member` FOREIGN KEY (`member_id`) REFERENCES `member` (`member_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+--
+-- Table structure for table `token`
+--
+
+CREATE TABLE IF NOT EXISTS `token` (
+  `member_id` bigint NOT NULL,
+  `refresh_token` text NOT NULL,
+  `expire` bigint NOT NULL,
+  `expire_dt` datetime NOT NULL,
+  `reg_dt` datetime NOT NULL,
+  PRIMARY KEY (`member_id`),
+  KEY `FK_Token_Member_MemberId_idx` (`member_id`),
+  CONSTRAINT `FK_Token_Member_MemberId` FOREIGN KEY (`member_id`) REFERENCES `member` (`member_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;